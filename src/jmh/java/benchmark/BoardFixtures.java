@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import data.GameSession;
+import domain.bank.Resource;
+import domain.game.GameType;
+import domain.graphs.GameboardGraph;
+import domain.player.Player;
+
+/**
+ * Boards the benchmarks run on. Every fixture is built from a seed so the same benchmark
+ * always measures the same board.
+ * <p>
+ * The Beginner layout is used because its tiles and ports are fixed, the seed decides the
+ * dice and where the extra roads and settlements of a dense board go.
+ */
+public final class BoardFixtures {
+    public static final long SEED = 375;
+    public static final int NUM_PLAYERS = 4;
+
+    private static final int DENSE_ROADS_PER_PLAYER = 12;
+    private static final int DENSE_SETTLEMENT_CHANCE = 4; // one in this many roads ends in a settlement
+    private static final int STARTING_RESOURCES = 4;
+
+    /**
+     * How much of the board is built on
+     */
+    public enum Density {
+        /**
+         * Only the starting settlements and roads of a beginner game
+         */
+        SPARSE,
+        /**
+         * Every player has built most of their roads and some more settlements
+         */
+        DENSE
+    }
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Creates a game in regular play whose board has the given density
+     */
+    public static GameSession newGame(final Density density, final long seed) {
+        GameSession session = new GameSession(GameType.Beginner, NUM_PLAYERS, null, seed);
+        if (density == Density.DENSE) {
+            build(session, session.splitRandom());
+        }
+        for (int i = 1; i <= NUM_PLAYERS; i++) {
+            for (Resource resource : resources()) {
+                session.getPlayerByNum(i).hand.addResource(resource, STARTING_RESOURCES);
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Gets every resource a hand can hold
+     */
+    public static Resource[] resources() {
+        Resource[] resources = new Resource[Resource.COUNT];
+        System.arraycopy(Resource.values(), 0, resources, 0, Resource.COUNT);
+        return resources;
+    }
+
+    // Places roads and settlements the way players would, without paying for them
+    private static void build(final GameSession session, final RandomGenerator random) {
+        GameboardGraph graph = session.getGameboardGraph();
+        for (int round = 0; round < DENSE_ROADS_PER_PLAYER; round++) {
+            for (int i = 1; i <= NUM_PLAYERS; i++) {
+                Player player = session.getPlayerByNum(i);
+                List<Integer> roads = sorted(graph.getBuildableRoadsRegularPlay(player));
+                if (roads.isEmpty()) {
+                    continue;
+                }
+                graph.getRoad(roads.get(random.nextInt(roads.size()))).setOwner(player);
+
+                List<Integer> vertexes = sorted(graph.getBuildableVertexesRegularPlay(player));
+                if (!vertexes.isEmpty() && random.nextInt(DENSE_SETTLEMENT_CHANCE) == 0) {
+                    graph.getVertex(vertexes.get(random.nextInt(vertexes.size()))).build(player);
+                }
+            }
+        }
+    }
+
+    private static List<Integer> sorted(final Iterable<Integer> ids) {
+        List<Integer> list = new ArrayList<>();
+        ids.forEach(list::add);
+        list.sort(null);
+        return list;
+    }
+}
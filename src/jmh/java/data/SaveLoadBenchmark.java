@@ -0,0 +1,60 @@
+package data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import benchmark.BoardFixtures;
+import domain.controller.Controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Saving and loading a seeded game in each save format.
+ * The saves go to a temporary folder that is deleted after the trial.
+ */
+@State(Scope.Thread)
+public class SaveLoadBenchmark {
+
+    @Param({"FOLDER", "BINARY"})
+    public SaveFormat format;
+
+    @Param({"SPARSE", "DENSE"})
+    public BoardFixtures.Density density;
+
+    private GameLoader loader;
+    private File slotsFolder;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.slotsFolder = Files.createTempDirectory("catan-bench").toFile();
+        this.loader = GameLoader.getInstance();
+        this.loader.setSlotsPath(this.slotsFolder.getPath());
+        this.loader.setSlot(1);
+        this.loader.setLanguage("English");
+        this.loader.setSession(BoardFixtures.newGame(density, BoardFixtures.SEED));
+        this.loader.notifyOfTurnStart(); // the turn that is saved
+        this.loader.saveGame(this.format);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        GameLoader.delete(this.slotsFolder);
+    }
+
+    @Benchmark
+    public boolean save() throws IOException {
+        return this.loader.saveGame(this.format);
+    }
+
+    @Benchmark
+    public Controller load() throws IOException {
+        return this.loader.loadGame(this.format);
+    }
+}
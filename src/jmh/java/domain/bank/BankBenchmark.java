@@ -0,0 +1,49 @@
+package domain.bank;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Trading with the bank. Every benchmark gives back what it takes, so the bank is the same
+ * before and after each call.
+ */
+@State(Scope.Thread)
+public class BankBenchmark {
+    private static final int TRADE_RATIO = 4;
+
+    private Bank bank;
+    private Resource[] resources;
+    private int[] trade;
+    private int[] inverse;
+
+    @Setup
+    public void setup() {
+        this.bank = new Bank();
+        // a full bank cannot take anything, so some of every resource is out with the players
+        int[] withPlayers = new int[Resource.COUNT];
+        Arrays.fill(withPlayers, TRADE_RATIO);
+        this.bank.removeResources(withPlayers);
+        this.resources = new Resource[] {Resource.BRICK, Resource.LUMBER, Resource.WOOL, Resource.GRAIN};
+        this.trade = new int[Resource.COUNT];
+        this.trade[Resource.WOOL.ordinal()] = TRADE_RATIO;
+        this.trade[Resource.ORE.ordinal()] = -1;
+        this.inverse = new int[Resource.COUNT];
+        for (int i = 0; i < Resource.COUNT; i++) {
+            this.inverse[i] = -this.trade[i];
+        }
+    }
+
+    @Benchmark
+    public boolean removeAndAddResources() {
+        return this.bank.removeResources(this.resources) && this.bank.addResources(this.resources);
+    }
+
+    @Benchmark
+    public boolean applyTrade() {
+        return this.bank.applyOrRollback(this.trade) && this.bank.applyOrRollback(this.inverse);
+    }
+}
@@ -0,0 +1,63 @@
+package domain.controller;
+
+import benchmark.BoardFixtures;
+import data.GameSession;
+import data.Memento;
+import domain.bank.Resource;
+import domain.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Taking and restoring snapshots of a whole game, the work done at the start of every turn
+ * and on every undo.
+ */
+@State(Scope.Thread)
+public class MementoBenchmark {
+
+    @Param({"SPARSE", "DENSE"})
+    public BoardFixtures.Density density;
+
+    private Controller controller;
+    private Player player;
+    private Memento before;
+    private Memento after;
+
+    @Setup
+    public void setup() {
+        GameSession session = BoardFixtures.newGame(density, BoardFixtures.SEED);
+        this.controller = session.getController();
+        this.player = session.getPlayerByNum(1);
+
+        this.before = this.controller.createMemento();
+        this.player.hand.addResource(Resource.ORE, 1);
+        this.after = this.controller.createMemento();
+    }
+
+    @Benchmark
+    public Memento createMementoAfterChange() {
+        this.player.hand.addResource(Resource.GRAIN, 1);
+        Memento memento = this.controller.createMemento();
+        this.player.hand.removeResource(Resource.GRAIN, 1);
+        return memento;
+    }
+
+    @Benchmark
+    public Memento createMementoUnchanged() {
+        return this.controller.createMemento();
+    }
+
+    @Benchmark
+    public void restoreChanges() {
+        this.before.restoreChanges(this.after);
+        this.after.restoreChanges(this.before);
+    }
+
+    @Benchmark
+    public void restoreAll() {
+        this.before.restore();
+    }
+}
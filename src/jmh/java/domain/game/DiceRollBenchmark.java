@@ -0,0 +1,32 @@
+package domain.game;
+
+import benchmark.BoardFixtures;
+import domain.controller.Controller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Rolling the dice, which hands every player what the roll produces on the board.
+ * The dice come from the seeded generator of the fixture, so each run rolls the same numbers.
+ */
+@State(Scope.Thread)
+public class DiceRollBenchmark {
+
+    @Param({"SPARSE", "DENSE"})
+    public BoardFixtures.Density density;
+
+    private Controller controller;
+
+    @Setup
+    public void setup() {
+        this.controller = BoardFixtures.newGame(density, BoardFixtures.SEED).getController();
+    }
+
+    @Benchmark
+    public int rollDice() {
+        return this.controller.rollDice();
+    }
+}
@@ -0,0 +1,59 @@
+package domain.game;
+
+import data.GameLoader;
+import domain.gameboard.GameBoard;
+import domain.graphs.GameboardGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scoring the spots of an empty board and picking the first setup placement, once on the
+ * calling thread and once split over a pool.
+ */
+@State(Scope.Thread)
+public class SpotScorerBenchmark {
+
+    private GameBoard gameBoard;
+    private GameboardGraph gameboardGraph;
+    private SpotScorer scorer;
+    private Set<Integer> buildable;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        this.gameBoard = new GameBoard(GameType.Beginner);
+        this.gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGameBoard(this.gameBoard);
+        GameLoader.initializeGraphs(this.gameboardGraph);
+
+        this.scorer = new SpotScorer(this.gameBoard, this.gameboardGraph);
+        this.buildable = this.gameboardGraph.getBuildableVertexes();
+        this.pool = new ForkJoinPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public SpotScorer scoreBoard() {
+        return new SpotScorer(this.gameBoard, this.gameboardGraph);
+    }
+
+    @Benchmark
+    public SpotScorer.Placement bestPlacement() {
+        return this.scorer.bestPlacement(this.buildable);
+    }
+
+    @Benchmark
+    public SpotScorer.Placement bestPlacementParallel() {
+        return this.scorer.bestPlacement(this.buildable, this.pool);
+    }
+}
@@ -0,0 +1,50 @@
+package domain.graphs;
+
+import benchmark.BoardFixtures;
+import data.GameSession;
+import domain.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Handing out the longest road card after a road changes, the work done after every road
+ * that is built.
+ */
+@State(Scope.Thread)
+public class LongestRoadBenchmark {
+
+    @Param({"SPARSE", "DENSE"})
+    public BoardFixtures.Density density;
+
+    private GameboardGraph graph;
+    private Road road;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        GameSession session = BoardFixtures.newGame(density, BoardFixtures.SEED);
+        this.graph = session.getGameboardGraph();
+        this.player = session.getPlayerByNum(1);
+
+        // a road next to the roads of player 1, built and taken away again by the benchmark
+        List<Integer> roads = List.copyOf(this.graph.getBuildableRoadsRegularPlay(this.player));
+        this.road = this.graph.getRoad(roads.get(0));
+    }
+
+    @Benchmark
+    public int giveLongestRoadCardAfterChange() {
+        this.road.setOwner(this.road.getOwner() == null ? this.player : null);
+        this.graph.giveLongestRoadCard();
+        return this.graph.getLongestRoadLength(this.player);
+    }
+
+    @Benchmark
+    public void giveLongestRoadCardUnchanged() {
+        this.graph.giveLongestRoadCard();
+    }
+}
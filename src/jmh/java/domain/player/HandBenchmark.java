@@ -0,0 +1,54 @@
+package domain.player;
+
+import benchmark.BoardFixtures;
+import domain.bank.Resource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Paying for and getting resources. Every benchmark takes away what it adds, so the hand is
+ * the same before and after each call.
+ */
+@State(Scope.Thread)
+public class HandBenchmark {
+    private static final int STARTING_RESOURCES = 3;
+
+    private Hand hand;
+    private Resource[] cost;
+    private int[] delta;
+    private int[] inverse;
+
+    @Setup
+    public void setup() {
+        this.hand = new Hand();
+        for (Resource resource : BoardFixtures.resources()) {
+            this.hand.addResource(resource, STARTING_RESOURCES);
+        }
+        this.cost = new Resource[] {Resource.BRICK, Resource.LUMBER, Resource.WOOL, Resource.GRAIN};
+        this.delta = new int[Resource.COUNT];
+        this.delta[Resource.BRICK.ordinal()] = -1;
+        this.delta[Resource.LUMBER.ordinal()] = -1;
+        this.delta[Resource.ORE.ordinal()] = 1;
+        this.inverse = new int[Resource.COUNT];
+        for (int i = 0; i < Resource.COUNT; i++) {
+            this.inverse[i] = -this.delta[i];
+        }
+    }
+
+    @Benchmark
+    public boolean removeAndAddResources() {
+        return this.hand.removeResources(this.cost) && this.hand.addResources(this.cost);
+    }
+
+    @Benchmark
+    public boolean applyDelta() {
+        return this.hand.applyOrRollback(this.delta) && this.hand.applyOrRollback(this.inverse);
+    }
+
+    @Benchmark
+    public int getResourceCount() {
+        return this.hand.getResourceCount();
+    }
+}
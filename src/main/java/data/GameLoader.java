@@ -1,13 +1,8 @@
 package data;
 
-import domain.bank.Bank;
 import domain.controller.Controller;
-import domain.controller.GameState;
 import domain.graphs.*;
-import domain.player.HarvestBooster;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import domain.devcarddeck.DevelopmentCardDeck;
-import domain.game.Game;
 import domain.game.GameType;
 import domain.gameboard.GameBoard;
 import domain.gameboard.Tile;
@@ -15,18 +10,22 @@ import domain.player.Player;
 import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
 public class GameLoader {
 
     // Text files that need to be loaded for instantiation;
-    private static final String INIT_PATH = "src/main/java/data/init/";
+    // the layouts are bundled with the classes, so a packaged game needs no source tree to start
+    private static final String INIT_PATH = "data/init/";
     private static final String ROAD_TO_ROAD_FILE = INIT_PATH + "RoadToRoadLayout.txt";
     private static final String ROAD_TO_VERTEX_FILE = INIT_PATH + "RoadToVertexLayout.txt";
     private static final String VERTEX_TO_VERTEX_FILE = INIT_PATH + "VertexToVertexLayout.txt";
@@ -37,33 +36,36 @@ public class GameLoader {
 
 
     // Storage constants
-    private String savedGamesPath = "src/main/java/data/slots"; // default
+    // saves and settings go where the user can always write, wherever the game is started from
+    private static final String DEFAULT_SLOTS_PATH = Path.of(System.getProperty("user.home"), ".catan", "slots").toString();
+    private String savedGamesPath = DEFAULT_SLOTS_PATH;
     private static final String GLOBAL_CONFIG = "globalConfig";
     private static final String SLOT_PREFIX = "slot";
     private Integer slotNumber;
     private static final int MAXIMUM_SLOTS = 4;
     private static final String EXTENSION = ".txt";
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String STAGING_SUFFIX = ".saving";
+    private static final String BACKUP_SUFFIX = ".old";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int DEFAULT_TURNS_IN_MEMORY = 16;
     private static final String GAME_TYPE = "gameType";
     private static final String NUM_PLAYERS = "numPlayers";
     private static final String LANGUAGE = "language";
     private static final String MOST_RECENT_LANGUAGE = "mostRecentLanguage";
     private static final String ICON_PATH = "iconPath";
+    private static final String DEFAULT_LANGUAGE = "English";
 
     private static GameLoader uniqueInstance = null;
+    private static BoardTopology boardTopology = null;
 
-    private GameboardGraph gameboardGraph;
-    private GameBoard gameBoard;
-    private Controller controller;
-    private Player[] players;
-    private GameType gameType;
-    private Integer numPlayers;
+    // the game being played
+    private GameSession session;
     private String language;
     private String imageFolderPath = DEFAULT_ICON_FOLDER_PATH;
     private Map<String, ImagePattern> images = new HashMap<>();
 
-    // Core Undo Redo stuff
-    private Stack<Memento> undoStack;
-    private Stack<Memento> redoStack;
+    private int turnsInMemory = DEFAULT_TURNS_IN_MEMORY;
 
     private GameLoader() {
         // restricts access
@@ -85,33 +87,18 @@ public class GameLoader {
         this.savedGamesPath = slotsPath;
     }
 
-    private void instantiateGameObjects(final GameType gameMode, final int playerCount) {
-        // Game setup
-        this.gameType = gameMode;
-        this.numPlayers = playerCount;
-
-        gameboardGraph = new GameboardGraph(gameMode);
-        initializeGraphs(gameboardGraph);
-
-        gameBoard = new GameBoard(gameMode);
-        initializeGameBoard(gameBoard);
-
-        Bank bank = new Bank();
-
-        DevelopmentCardDeck devCardDeck = new DevelopmentCardDeck();
-        Game game = new Game(gameBoard, gameboardGraph, devCardDeck, bank);
-
-        this.players = new Player[this.numPlayers];
-        for (int i = 0; i < this.numPlayers; i++) {
-            Player player = new Player(i + 1, new HarvestBooster(), bank);
-            players[i] = player;
-        }
-
-        this.controller = new Controller(game, players, gameMode);
+    /**
+     * Only for testing and benchmarks, makes the given session the game being played
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    void setSession(final GameSession gameSession) {
+        this.session = gameSession;
+    }
 
-        // Core undo-redo setup
-        this.undoStack = new Stack<>();
-        this.redoStack = new Stack<>();
+    private void instantiateGameObjects(final GameType gameMode, final int playerCount) {
+        // turns far from the current one are kept next to the slot
+        this.session = new GameSession(gameMode, playerCount, getJournalFolder(slotNumber));
+        this.session.setTurnsInMemory(this.turnsInMemory);
     }
 
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
@@ -120,12 +107,17 @@ public class GameLoader {
             // Create a File object representing the base folder
             File baseFolder = new File(savedGamesPath);
 
-            // Create a MementoReader for reading most recently used language
-            MementoReader reader = new MementoReader(baseFolder, GLOBAL_CONFIG + EXTENSION);
-            this.language = reader.readField(MOST_RECENT_LANGUAGE);
+            // Create a MementoReader for reading most recently used language,
+            // the first time the game is started there is none yet
+            if (new File(baseFolder, GLOBAL_CONFIG + EXTENSION).isFile()) {
+                MementoReader reader = new MementoReader(baseFolder, GLOBAL_CONFIG + EXTENSION);
+                this.language = reader.readAllFields().getOrDefault(MOST_RECENT_LANGUAGE, DEFAULT_LANGUAGE);
+            } else {
+                this.language = DEFAULT_LANGUAGE;
+            }
         }
 
-        if (this.language.equals("English")) {
+        if (this.language.equals(DEFAULT_LANGUAGE)) {
             return ResourceBundle.getBundle("i18n/messages");
         } else { // Must be spanish
             return ResourceBundle.getBundle("i18n/messages_es");
@@ -140,8 +132,9 @@ public class GameLoader {
         File baseFolder = new File(savedGamesPath);
 
         // Create a MementoWriter for writing most recently used language
-        MementoWriter writer = new MementoWriter(baseFolder, GLOBAL_CONFIG + EXTENSION);
-        writer.writeField(MOST_RECENT_LANGUAGE, this.language);
+        try (MementoWriter writer = new MementoWriter(baseFolder, GLOBAL_CONFIG + EXTENSION)) {
+            writer.writeField(MOST_RECENT_LANGUAGE, this.language);
+        }
 
         return this.getMessageBundle();
     }
@@ -191,15 +184,92 @@ public class GameLoader {
 
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     public boolean isSlotEmpty(final int slotNum) {
-        return !(new File(savedGamesPath + "/" + SLOT_PREFIX + slotNum).exists());
+        recoverSlot(slotNum);
+        return !getSlotFolder(slotNum).exists() && !getSlotFile(slotNum).exists();
     }
 
-    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     public boolean deleteGame() throws IOException {
         assertSlotSelected();
+        recoverSlot(slotNumber);
+
+        boolean deleted = false;
+        File slotFolder = getSlotFolder(slotNumber);
+        if (slotFolder.exists()) {
+            deleted = delete(slotFolder);
+        }
+        File slotFile = getSlotFile(slotNumber);
+        if (slotFile.exists()) {
+            deleted = slotFile.delete() || deleted;
+        }
+        return deleted;
+    }
+
+    // The folder a slot is saved to in the folder format
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private File getSlotFolder(final int slotNum) {
+        return new File(savedGamesPath + "/" + SLOT_PREFIX + slotNum);
+    }
+
+    // The file a slot is saved to in the binary format
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private File getSlotFile(final int slotNum) {
+        return new File(savedGamesPath + "/" + SLOT_PREFIX + slotNum + BINARY_EXTENSION);
+    }
+
+    // Where a save is kept while the one replacing it is moved into place
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private static File getBackup(final File save) {
+        return new File(save.getPath() + BACKUP_SUFFIX);
+    }
+
+    // The folder a save in the folder format is written to before it replaces the slot
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private static File getStagingFolder(final File slotFolder) {
+        return new File(slotFolder.getPath() + STAGING_SUFFIX);
+    }
+
+    /**
+     * Finishes or rolls back a save of the given slot that was cut off, so the slot holds
+     * exactly one complete save or none at all.
+     * <p>
+     * A save only ever moves complete saves around: the previous save is moved to its backup
+     * before the new one is moved into place, and the backup is deleted afterwards. A slot
+     * without a save but with a backup was cut off in between and gets its backup back.
+     * A binary file next to a folder was written by a binary save that did not get to delete
+     * the folder, the binary file is the newer of the two.
+     */
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private void recoverSlot(final int slotNum) {
+        File slotFolder = getSlotFolder(slotNum);
+        File slotFile = getSlotFile(slotNum);
+        File stagingFolder = getStagingFolder(slotFolder);
+        if (stagingFolder.exists()) {
+            delete(stagingFolder);
+        }
 
-        File slot = new File(savedGamesPath + "/" + SLOT_PREFIX + slotNumber);
-        return delete(slot);
+        File folderBackup = getBackup(slotFolder);
+        File fileBackup = getBackup(slotFile);
+        if (!slotFolder.exists() && !slotFile.exists()) {
+            if (folderBackup.exists() && !folderBackup.renameTo(slotFolder)
+                    || fileBackup.exists() && !fileBackup.renameTo(slotFile)) {
+                return; // the backup is left for the next attempt
+            }
+        }
+
+        if (slotFile.exists() && slotFolder.exists()) {
+            delete(slotFolder);
+        }
+        for (File backup : new File[]{folderBackup, fileBackup}) {
+            if (backup.exists()) {
+                delete(backup);
+            }
+        }
+    }
+
+    // The folder the undo history of a game in a slot is moved out of memory to
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private File getJournalFolder(final int slotNum) {
+        return new File(savedGamesPath + "/" + SLOT_PREFIX + slotNum + JOURNAL_SUFFIX);
     }
 
     @SuppressFBWarnings("NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE")
@@ -214,35 +284,74 @@ public class GameLoader {
         return file.delete();
     }
 
-    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    /**
+     * Saves the game to the selected slot in the folder format
+     */
     public boolean saveGame() throws IOException {
+        return saveGame(SaveFormat.FOLDER);
+    }
+
+    /**
+     * Saves the game to the selected slot in the given format.
+     * A slot only ever holds one format, a save in the other format is deleted.
+     * If the save is cut off, the slot is left with either the previous save or the new one.
+     */
+    public boolean saveGame(final SaveFormat format) throws IOException {
         assertSlotSelected();
 
-        // Create a File object representing the base folder
-        File baseFolder = new File(savedGamesPath + "/" + SLOT_PREFIX + slotNumber);
-        if (!baseFolder.exists()) {
-            if (!baseFolder.mkdirs()) {
-                return false;
+        recoverSlot(slotNumber);
+        File slotFolder = getSlotFolder(slotNumber);
+        File slotFile = getSlotFile(slotNumber);
+        try {
+            if (format == SaveFormat.BINARY) {
+                SnapshotArchive archive = new SnapshotArchive();
+                writeSlot(archive.getRoot(slotFile));
+                archive.writeTo(slotFile);
+                if (slotFolder.exists()) {
+                    delete(slotFolder);
+                }
+            } else {
+                // Write the save next to the old one and only swap them once it is complete,
+                // so a save that fails part way leaves the previous save of the slot as it was
+                File stagingFolder = getStagingFolder(slotFolder);
+                if (!stagingFolder.mkdirs()) {
+                    return false;
+                }
+                writeSlot(stagingFolder);
+
+                // the previous save, in either format, is only moved aside until the new one is in place
+                moveToBackup(slotFolder);
+                moveToBackup(slotFile);
+                Files.move(stagingFolder.toPath(), slotFolder.toPath());
+                recoverSlot(slotNumber);
             }
+        } catch (IOException e) {
+            recoverSlot(slotNumber);
+            return false;
         }
 
-        // Create a MementoWriter for writing memento data
-        try {
-            // write the basic game info to the file
-            MementoWriter writer = new MementoWriter(baseFolder, SLOT_PREFIX + EXTENSION);
-            writer.writeField(GAME_TYPE, String.valueOf(this.gameType));
-            writer.writeField(NUM_PLAYERS, String.valueOf(this.numPlayers));
+        return true;
+    }
+
+    private void writeSlot(final File baseFolder) throws IOException {
+        // write the basic game info to the file
+        try (MementoWriter writer = new MementoWriter(baseFolder, SLOT_PREFIX + EXTENSION)) {
+            writer.writeField(GAME_TYPE, String.valueOf(this.session.getGameType()));
+            writer.writeField(NUM_PLAYERS, String.valueOf(this.session.getNumPlayers()));
             writer.writeField(LANGUAGE, this.language);
             writer.writeField(ICON_PATH, this.imageFolderPath);
 
             // Save the controllerMemento memento in the Controller folder
             File controllerFolder = writer.getSubFolder("Controller");
-            undoStack.peek().save(controllerFolder);
-        } catch (IOException e) {
-            return false;
+            session.getCurrentTurn().save(controllerFolder);
         }
+    }
 
-        return true;
+    // Moves a save out of the way of the one replacing it, the backup is deleted once the new save is in place
+    private static void moveToBackup(final File save) throws IOException {
+        if (save.exists()) {
+            Files.move(save.toPath(), getBackup(save).toPath());
+        }
     }
 
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
@@ -257,17 +366,38 @@ public class GameLoader {
         return false;
     }
 
-    @SuppressFBWarnings({"PATH_TRAVERSAL_IN", "EI_EXPOSE_REP"})
+    /**
+     * Loads the game in the selected slot, in whichever format it was saved
+     */
     public Controller loadGame() throws IOException {
         assertSlotSelected();
+        recoverSlot(slotNumber);
+
+        SaveFormat format = getSlotFile(slotNumber).isFile() ? SaveFormat.BINARY : SaveFormat.FOLDER;
+        return loadGame(format);
+    }
+
+    /**
+     * Loads the game in the selected slot from the given format
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Controller loadGame(final SaveFormat format) throws IOException {
+        assertSlotSelected();
+        recoverSlot(slotNumber);
 
         // Create a File object representing the base folder
-        File baseFolder = new File(savedGamesPath + "/" + SLOT_PREFIX + slotNumber);
+        File baseFolder;
+        if (format == SaveFormat.BINARY) {
+            File slotFile = getSlotFile(slotNumber);
+            baseFolder = SnapshotArchive.readFrom(slotFile).getRoot(slotFile);
+        } else {
+            baseFolder = getSlotFolder(slotNumber);
+        }
 
         // Create a MementoReader for restoring the basic game info
         MementoReader reader = new MementoReader(baseFolder, SLOT_PREFIX + EXTENSION);
-        GameType restoredGameType = GameType.valueOf(reader.readField(GAME_TYPE));
-        int restoredNumPlayers = Integer.parseInt(reader.readField(NUM_PLAYERS));
+        GameType restoredGameType = reader.readEnum(GAME_TYPE, GameType.class);
+        int restoredNumPlayers = reader.readInt(NUM_PLAYERS);
         this.setLanguage(reader.readField(LANGUAGE));
         this.setImageFolderPath(reader.readField(ICON_PATH));
 
@@ -276,11 +406,10 @@ public class GameLoader {
 
         // Now restore all the mementos stating with the controller
         File controllerFolder = reader.getSubFolder("Controller");
-        Controller.ControllerMemento controllerMemento = this.controller.new ControllerMemento(controllerFolder);
-        controllerMemento.restore();
+        this.session.restore(controllerFolder);
 
         notifyOfTurnStart();
-        return this.controller;
+        return this.session.getController();
     }
 
     @SuppressFBWarnings("EI_EXPOSE_REP")
@@ -291,7 +420,7 @@ public class GameLoader {
         this.instantiateGameObjects(gameTypeSelected, playerCount);
 
         notifyOfTurnStart();
-        return this.controller;
+        return this.session.getController();
     }
 
     private void assertSlotSelected() throws IOException {
@@ -306,25 +435,28 @@ public class GameLoader {
     //
     // ----------------------------------------------------------------
 
+    /**
+     * @return the session of the game being played
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public GameSession getSession() {
+        return session;
+    }
+
     public GameboardGraph getGameboardGraph() {
-        return gameboardGraph;
+        return session.getGameboardGraph();
     }
 
     public Tile[] getTiles() {
-        return gameBoard.getTiles();
+        return session.getTiles();
     }
 
     public Player getPlayerByNum(final int num) {
-        for (Player player : this.players) {
-            if (player.getPlayerNum() == num) {
-                return player;
-            }
-        }
-        throw new IllegalArgumentException("Player" + num + " not found.");
+        return session.getPlayerByNum(num);
     }
 
     public int getNumPlayers() {
-        return this.numPlayers;
+        return session.getNumPlayers();
     }
 
     // --------------------------------------------------------
@@ -333,175 +465,106 @@ public class GameLoader {
     //
     // --------------------------------------------------------
 
+    /**
+     * Connects the given graph to the shared topology of the board. Only the ports are set here,
+     * the adjacency lists of the Vertexes and Roads are made from the topology when first needed.
+     */
     public static void initializeGraphs(final GameboardGraph gameboardGraph) {
-        initializeRoadToRoadAdjacency(gameboardGraph);
-        initializeVertexToVertexAdjacency(gameboardGraph);
-        initializeRoadToVertexAdjacency(gameboardGraph);
-        initializeVertexToRoadAdjacency(gameboardGraph);
-        initializeVertexToPortAdjacency(gameboardGraph);
+        BoardTopology topology = getBoardTopology();
+        initializeVertexToPortAdjacency(gameboardGraph, topology);
+        gameboardGraph.initializeTopology(topology);
     }
 
     public static void initializeGameBoard(final GameBoard gameBoard) {
-        initializeTileToVertexAdjacency(gameBoard);
+        initializeTileToVertexAdjacency(gameBoard, getBoardTopology());
     }
 
-    // Initialization of VertexGraph
-    private static void initializeVertexToVertexAdjacency(final GameboardGraph gameboardGraph) {
-        File vertexLayout = new File(GameLoader.VERTEX_TO_VERTEX_FILE);
-        try (Scanner scanner = new Scanner(vertexLayout, StandardCharsets.UTF_8)) {
-            int vertexToInitializeId = 0;
-            Vertex vertexToInitialize;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] values = line.split(" ");
-                List<Vertex> adjacentVertexes = new ArrayList<>();
-
-                for (String value : values) {
-                    int vertexId = Integer.parseInt(value);
-                    adjacentVertexes.add(gameboardGraph.getVertex(vertexId));
-                }
-
-                vertexToInitialize = gameboardGraph.getVertex(vertexToInitializeId);
-                vertexToInitialize.setAdjacentVertexes(adjacentVertexes);
-                vertexToInitializeId++;
-            }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Incorrect filename/path when initialized");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    /**
+     * Gets the adjacency of the board. The layout files are only read the first time
+     * this is called, after that every game shares the same topology.
+     */
+    public static synchronized BoardTopology getBoardTopology() {
+        if (boardTopology == null) {
+            boardTopology = new BoardTopology(
+                    readLayout(VERTEX_TO_VERTEX_FILE),
+                    readLayout(VERTEX_TO_ROAD_FILE),
+                    readLayout(ROAD_TO_ROAD_FILE),
+                    readLayout(ROAD_TO_VERTEX_FILE),
+                    readLayout(TILE_LAYOUT),
+                    readPortLayout(VERTEX_TO_PORT_FILE));
         }
+
+        return boardTopology;
     }
 
-    private static void initializeVertexToRoadAdjacency(final GameboardGraph gameboardGraph) {
-        File vertexToRoadLayout = new File(GameLoader.VERTEX_TO_ROAD_FILE);
-        try (Scanner scanner = new Scanner(vertexToRoadLayout, StandardCharsets.UTF_8)) {
-            int vertexToInitializeId = 0;
-            Vertex vertexToInitialize;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
+    // Reads a layout file where line i holds the space separated IDs adjacent to location i
+    private static int[][] readLayout(final String fileName) {
+        List<int[]> rows = new ArrayList<>();
+        try (BufferedReader reader = openLayout(fileName)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
                 String[] values = line.split(" ");
-                List<Road> adjacentRoads = new ArrayList<>();
-
-                for (String value : values) {
-                    int roadId = Integer.parseInt(value);
-                    adjacentRoads.add(gameboardGraph.getRoad(roadId));
+                int[] row = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    row[i] = Integer.parseInt(values[i]);
                 }
-
-                vertexToInitialize = gameboardGraph.getVertex(vertexToInitializeId);
-                vertexToInitialize.setAdjacentRoads(adjacentRoads);
-                vertexToInitializeId++;
+                rows.add(row);
             }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Incorrect filename/path when initialized");
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+
+        return rows.toArray(new int[0][]);
     }
 
-    private static void initializeVertexToPortAdjacency(final GameboardGraph gameboardGraph) {
-        File vertexToRoadLayout = new File(GameLoader.VERTEX_TO_PORT_FILE);
-        try (Scanner scanner = new Scanner(vertexToRoadLayout, StandardCharsets.UTF_8)) {
-            int vertexToInitializeId = 0;
-            Vertex vertexToInitialize;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
+    // Reads the port layout where line i holds the port next to vertex i or - if there is none
+    private static int[] readPortLayout(final String fileName) {
+        List<Integer> ports = new ArrayList<>();
+        try (BufferedReader reader = openLayout(fileName)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
                 String[] values = line.split(" ");
-                vertexToInitialize = gameboardGraph.getVertex(vertexToInitializeId);
-
-                // Parse the port id into an actual port
-                Port adjacentPort = null;
+                int portId = BoardTopology.NO_PORT;
                 try {
-                    int portId = Integer.parseInt(values[0]);
-                    adjacentPort = gameboardGraph.getPort(portId);
+                    portId = Integer.parseInt(values[0]);
                 } catch (NumberFormatException e) {
-                    // else no port indicated so we leave it null
+                    // else no port indicated so we leave it empty
                 }
-
-                vertexToInitialize.setAdjacentPort(adjacentPort);
-                vertexToInitializeId++;
+                ports.add(portId);
             }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Incorrect filename/path when initialized");
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-    }
-
-    // Initialization of RoadGraph
-    private static void initializeRoadToRoadAdjacency(final GameboardGraph gameboardGraph) {
-        File roadLayout = new File(GameLoader.ROAD_TO_ROAD_FILE);
-        try (Scanner scanner = new Scanner(roadLayout, StandardCharsets.UTF_8)) {
-            int roadToInitializeId = 0;
-            Road roadToInitialize;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] values = line.split(" ");
-                List<Road> adjacentRoads = new ArrayList<>();
 
-                for (String value : values) {
-                    int roadId = Integer.parseInt(value);
-                    adjacentRoads.add(gameboardGraph.getRoad(roadId));
-                }
+        int[] vertexToPort = new int[ports.size()];
+        for (int i = 0; i < vertexToPort.length; i++) {
+            vertexToPort[i] = ports.get(i);
+        }
+        return vertexToPort;
+    }
 
-                roadToInitialize = gameboardGraph.getRoad(roadToInitializeId);
-                roadToInitialize.setAdjacentRoads(adjacentRoads);
-                roadToInitializeId++;
-            }
-        } catch (FileNotFoundException e) {
+    // Opens a layout bundled on the classpath
+    private static BufferedReader openLayout(final String fileName) {
+        InputStream stream = GameLoader.class.getClassLoader().getResourceAsStream(fileName);
+        if (stream == null) {
             throw new RuntimeException("Incorrect filename/path when initialized");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
     }
 
-    private static void initializeRoadToVertexAdjacency(final GameboardGraph gameboardGraph) {
-        File roadToVertexLayout = new File(GameLoader.ROAD_TO_VERTEX_FILE);
-        try (Scanner scanner = new Scanner(roadToVertexLayout, StandardCharsets.UTF_8)) {
-            int roadToInitializeId = 0;
-            Road roadToInitialize;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] values = line.split(" ");
-                List<Vertex> adjacentVertexesBuffer = new ArrayList<>();
-
-                for (String value : values) {
-                    int vertexId = Integer.parseInt(value);
-                    adjacentVertexesBuffer.add(gameboardGraph.getVertex(vertexId));
-                }
-
-                roadToInitialize = gameboardGraph.getRoad(roadToInitializeId);
-                roadToInitialize.setAdjacentVertexes(adjacentVertexesBuffer);
-                roadToInitializeId++;
-            }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Incorrect filename/path when initialized");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    // Initialization of GameboardGraph
+    private static void initializeVertexToPortAdjacency(final GameboardGraph gameboardGraph, final BoardTopology topology) {
+        for (int vertexId = 0; vertexId < GameboardGraph.NUM_VERTICES; vertexId++) {
+            int portId = topology.getAdjacentPort(vertexId);
+            Port adjacentPort = portId == BoardTopology.NO_PORT ? null : gameboardGraph.getPort(portId);
+            gameboardGraph.getVertex(vertexId).setAdjacentPort(adjacentPort);
         }
     }
 
     // Initialization of GameBoard
-    private static void initializeTileToVertexAdjacency(final GameBoard gameBoard) {
-        File tileLayout = new File(GameLoader.TILE_LAYOUT);
-        try (Scanner scanner = new Scanner(tileLayout, StandardCharsets.UTF_8)) {
-            int tileNum = 0;
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] values = line.split(" ");
-                List<Integer> cornerVertexIDs = new ArrayList<>();
-
-                for (String value : values) {
-                    int vertexID = Integer.parseInt(value);
-                    cornerVertexIDs.add(vertexID);
-                }
-
-                gameBoard.getTile(tileNum).setAdjacentVertexes(cornerVertexIDs);
-                tileNum++;
-            }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Incorrect filename/path when initialized");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private static void initializeTileToVertexAdjacency(final GameBoard gameBoard, final BoardTopology topology) {
+        for (int tileNum = 0; tileNum < topology.getTileToVertex().size(); tileNum++) {
+            gameBoard.getTile(tileNum).setAdjacentVertexes(topology.getTileCorners(tileNum));
         }
     }
 
@@ -511,14 +574,27 @@ public class GameLoader {
     //
     // -----------------------------------------------------------
 
+    /**
+     * Sets how many turns before and after the current one are kept in memory for undo and redo.
+     * Turns further away are written next to the save slot and read back when they are needed.
+     */
+    public void setTurnsInMemory(final int turns) {
+        if (turns < 1) {
+            throw new IllegalArgumentException("At least one turn must be kept in memory");
+        }
+        this.turnsInMemory = turns;
+        if (this.session != null) {
+            this.session.setTurnsInMemory(turns);
+        }
+    }
+
     /**
      * Tells the loader that a turn has been started.
      * Will save the turn, so it can be undone later.
      * Also clears out the redo-able turns since the timeline changed.
      */
     public void notifyOfTurnStart() {
-        undoStack.add(controller.createMemento());
-        redoStack.clear();
+        session.notifyOfTurnStart();
     }
 
     /**
@@ -530,15 +606,7 @@ public class GameLoader {
      * @return true if there was a turn restored, false otherwise.
      */
     public boolean undo() {
-        if (undoStack.size() == 1 && controller.getState() == GameState.TURN_START) {
-            return false;
-        }
-
-        if (controller.getState() == GameState.TURN_START) {
-            redoStack.push(undoStack.pop());
-        }
-        undoStack.peek().restore();
-        return true;
+        return session.undo();
     }
 
     /**
@@ -548,12 +616,6 @@ public class GameLoader {
      * @return true if there was a turn restored, false otherwise.
      */
     public boolean redo() {
-        if (redoStack.empty()) {
-            return false;
-        }
-
-        undoStack.push(redoStack.pop());
-        undoStack.peek().restore();
-        return true;
+        return session.redo();
     }
 }
@@ -0,0 +1,243 @@
+package data;
+
+import domain.bank.Bank;
+import domain.controller.Controller;
+import domain.controller.GameState;
+import domain.devcarddeck.DevelopmentCardDeck;
+import domain.game.Game;
+import domain.game.GameType;
+import domain.gameboard.GameBoard;
+import domain.gameboard.Tile;
+import domain.graphs.GameboardGraph;
+import domain.player.HarvestBooster;
+import domain.player.Player;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.File;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * One game and everything that belongs to it: the board, the players, the controller driving
+ * them and the turns that can be undone.
+ * <p>
+ * Sessions do not share any game state, so one process can run any number of games at once,
+ * each on its own thread. Mementos read back from disk resolve their players through the
+ * session that reads them.
+ */
+public final class GameSession {
+    // the session reading mementos on each thread, see resolvePlayer
+    private static final ThreadLocal<GameSession> READING_SESSION = new ThreadLocal<>();
+
+    private final GameType gameType;
+    private final GameboardGraph gameboardGraph;
+    private final GameBoard gameBoard;
+    private final Player[] players;
+    private final Controller controller;
+    private final TurnJournal turnJournal;
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a new game that keeps its whole undo history in memory
+     */
+    public GameSession(final GameType gameMode, final int playerCount) {
+        this(gameMode, playerCount, null);
+    }
+
+    /**
+     * Creates a new game
+     *
+     * @param journalFolder where turns far from the current one are moved out of memory,
+     *                      or null to keep every turn in memory
+     */
+    @SuppressFBWarnings("PREDICTABLE_RANDOM")
+    public GameSession(final GameType gameMode, final int playerCount, final File journalFolder) {
+        this(gameMode, playerCount, journalFolder, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates a new game whose every random draw comes from the given seed: the board, the ports,
+     * the deck, the dice, the weather and what is stolen. The same seed and moves play out the same.
+     *
+     * @param journalFolder where turns far from the current one are moved out of memory,
+     *                      or null to keep every turn in memory
+     */
+    @SuppressFBWarnings("PREDICTABLE_RANDOM")
+    public GameSession(final GameType gameMode, final int playerCount, final File journalFolder, final long seed) {
+        this.gameType = gameMode;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+
+        // every part gets a generator of its own, split off in a fixed order
+        this.gameboardGraph = new GameboardGraph(gameMode, this.random.split());
+        GameLoader.initializeGraphs(this.gameboardGraph);
+
+        this.gameBoard = new GameBoard(gameMode, this.random.split());
+        GameLoader.initializeGameBoard(this.gameBoard);
+
+        Bank bank = new Bank();
+
+        DevelopmentCardDeck devCardDeck = new DevelopmentCardDeck(this.random.split());
+        Game game = new Game(this.gameBoard, this.gameboardGraph, devCardDeck, bank, this.random.split());
+
+        this.players = new Player[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            this.players[i] = new Player(i + 1, new HarvestBooster(), bank);
+        }
+
+        this.controller = new Controller(game, this.players, gameMode, this.random.split());
+
+        // Core undo-redo setup
+        this.turnJournal = new TurnJournal(this.controller, journalFolder, this::readTurn);
+    }
+
+    // ---------------------------------------------------------------
+    //
+    // Reference Getters
+    //
+    // ----------------------------------------------------------------
+
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Controller getController() {
+        return this.controller;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public GameboardGraph getGameboardGraph() {
+        return this.gameboardGraph;
+    }
+
+    public Tile[] getTiles() {
+        return this.gameBoard.getTiles();
+    }
+
+    public GameType getGameType() {
+        return this.gameType;
+    }
+
+    public int getNumPlayers() {
+        return this.players.length;
+    }
+
+    /**
+     * Gets the seed this game was created from, a new session with it starts out the same
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Splits a new generator off the one of this game, for anything outside the engine that
+     * makes random choices in it, like the players of a simulation
+     */
+    public SplittableRandom splitRandom() {
+        return this.random.split();
+    }
+
+    public Player getPlayerByNum(final int num) {
+        for (Player player : this.players) {
+            if (player.getPlayerNum() == num) {
+                return player;
+            }
+        }
+        throw new IllegalArgumentException("Player" + num + " not found.");
+    }
+
+    // -----------------------------------------------------------
+    //
+    // Reading Mementos
+    //
+    // -----------------------------------------------------------
+
+    /**
+     * Restores the game from a controller memento saved to the given folder
+     */
+    public void restore(final File controllerFolder) {
+        readTurn(controllerFolder).restore();
+    }
+
+    // Reads a controller memento whose players are the players of this session
+    Memento readTurn(final File controllerFolder) {
+        return reading(() -> this.controller.new ControllerMemento(controllerFolder));
+    }
+
+    private <T> T reading(final Supplier<T> read) {
+        GameSession previous = READING_SESSION.get();
+        READING_SESSION.set(this);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                READING_SESSION.remove();
+            } else {
+                READING_SESSION.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Finds a player of the session that is reading mementos on this thread
+     *
+     * @throws IllegalStateException if no session is reading mementos on this thread
+     */
+    static Player resolvePlayer(final int playerNum) {
+        GameSession session = READING_SESSION.get();
+        if (session == null) {
+            throw new IllegalStateException("Players can only be read by a game session");
+        }
+        return session.getPlayerByNum(playerNum);
+    }
+
+    // -----------------------------------------------------------
+    //
+    // Core Undo Repo Functionality
+    //
+    // -----------------------------------------------------------
+
+    /**
+     * Sets how many turns before and after the current one are kept in memory for undo and redo,
+     * has no effect on a session without a journal folder
+     */
+    public void setTurnsInMemory(final int turns) {
+        this.turnJournal.setTurnsInMemory(turns);
+    }
+
+    /**
+     * @return the memento of the start of the turn being played
+     */
+    Memento getCurrentTurn() {
+        return this.turnJournal.getCurrentTurn();
+    }
+
+    /**
+     * Tells the session that a turn has been started.
+     * Will save the turn, so it can be undone later.
+     * Also clears out the redo-able turns since the timeline changed.
+     */
+    public void notifyOfTurnStart() {
+        this.turnJournal.recordTurnStart();
+    }
+
+    /**
+     * Restores the game to the beginning of the turn if in the middle of it.
+     * <p>
+     * Otherwise, restores the game to the beginning of the most recently completed turn,
+     * and adds the turn to the redo-able turns
+     *
+     * @return true if there was a turn restored, false otherwise.
+     */
+    public boolean undo() {
+        return this.turnJournal.undo(this.controller.getState() == GameState.TURN_START);
+    }
+
+    /**
+     * Restores the game to the beginning of the last turn undone.
+     * Adds the restored turn to the restorable turns.
+     *
+     * @return true if there was a turn restored, false otherwise.
+     */
+    public boolean redo() {
+        return this.turnJournal.redo();
+    }
+}
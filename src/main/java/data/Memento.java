@@ -15,4 +15,32 @@ public interface Memento {
      * Restores the parent of this Memento to the state captured by this Memento
      */
     void restore();
+
+    /**
+     * Restores the parent of this Memento to the state captured by this Memento,
+     * only touching what differs from the state the parent is in now.
+     * Composite Mementos compare their sub mementos with the ones of the current Memento
+     * and skip the ones that are the same, as those parts are already in the captured state.
+     *
+     * @param current the Memento the parent hands out now, or null to restore everything
+     */
+    default void restoreChanges(final Memento current) {
+        if (current != this) {
+            restore();
+        }
+    }
+
+    /**
+     * Calls restoreChanges on each of the given sub mementos with the matching current one,
+     * sub mementos that are null are skipped
+     *
+     * @param current the matching current sub mementos, or null to restore everything
+     */
+    static void restoreChanges(final Memento[] mementos, final Memento[] current) {
+        for (int i = 0; i < mementos.length; i++) {
+            if (mementos[i] != null) {
+                mementos[i].restoreChanges(current != null ? current[i] : null);
+            }
+        }
+    }
 }
@@ -1,60 +1,159 @@
 package data;
+import domain.player.Player;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.*;
+import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Reads the "field: value" file of a memento.
+ * <p>
+ * The file is read once when the reader is created and its fields are kept by name, so
+ * reading any number of fields costs a single pass over the file. The typed accessors
+ * parse values in the format MementoWriter is given them, which is the format of
+ * String.valueOf for single values and of Arrays.toString for arrays.
+ */
 public class MementoReader {
+    private static final String NO_PLAYER = "None";
+    private static final String NULL_ELEMENT = "null";
+    private static final String ELEMENT_SEPARATOR = ", ";
+
+    private final File sourceFolder;
     private final File sourceFile;
+    // value of every field by name, in the order of the file
+    private final Map<String, String> fields = new LinkedHashMap<>();
 
     public MementoReader(final File folder, final String fileName) {
+        this.sourceFolder = folder;
         this.sourceFile = new File(folder, fileName);
+        if (folder instanceof SnapshotArchive.Folder) {
+            SnapshotArchive.Folder archiveFolder = (SnapshotArchive.Folder) folder;
+            List<String[]> archiveFields = archiveFolder.getArchive().getFile(SnapshotArchive.childPath(archiveFolder.getArchivePath(), fileName));
+            if (archiveFields == null) {
+                throw new IllegalArgumentException("File does not exist: " + sourceFile.getPath());
+            }
+            for (String[] field : archiveFields) {
+                this.fields.putIfAbsent(field[0].trim(), field[1].trim());
+            }
+            return;
+        }
+
         if (!this.sourceFile.exists() || !this.sourceFile.isFile()) {
             throw new IllegalArgumentException("File does not exist: " + sourceFile.getAbsolutePath());
         }
+        readFields();
     }
 
-    public String readField(final String fieldName) {
+    private void readFields() {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(sourceFile), StandardCharsets.UTF_8))) {
             String line;
             while ((line = reader.readLine()) != null) {
-                if (line.startsWith(fieldName + ":")) {
-                    // Return the contents after the field name
-                    return line.substring(fieldName.length() + 1).trim();
+                // Split each line into key and value based on the first ':'
+                int index = line.indexOf(':');
+                if (index != -1) {
+                    // the first line of a field wins, as it did when the file was scanned per field
+                    this.fields.putIfAbsent(line.substring(0, index).trim(), line.substring(index + 1).trim());
                 }
             }
         } catch (IOException e) {
             System.err.println("Failed to read from file: " + e.getMessage());
         }
-
-        // If the loop completes without finding the field, throw an exception
-        throw new IllegalArgumentException("Field not found: " + fieldName);
     }
 
+    public String readField(final String fieldName) {
+        String value = this.fields.get(fieldName);
+        if (value == null) {
+            throw new IllegalArgumentException("Field not found: " + fieldName);
+        }
+        return value;
+    }
 
     public Map<String, String> readAllFields() {
-        Map<String, String> fields = new HashMap<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(sourceFile), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                // Split each line into key and value based on the first ':'
-                int index = line.indexOf(':');
-                if (index != -1) {
-                    String key = line.substring(0, index).trim();
-                    String value = line.substring(index + 1).trim();
-                    fields.put(key, value);
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Failed to read from file: " + e.getMessage());
+        return new HashMap<>(this.fields);
+    }
+
+    // -----------------------------------
+    //
+    // Typed fields
+    //
+    // -----------------------------------
+
+    public int readInt(final String fieldName) {
+        return Integer.parseInt(readField(fieldName));
+    }
+
+    public boolean readBoolean(final String fieldName) {
+        return Boolean.parseBoolean(readField(fieldName));
+    }
+
+    public <E extends Enum<E>> E readEnum(final String fieldName, final Class<E> enumType) {
+        return Enum.valueOf(enumType, readField(fieldName));
+    }
+
+    /**
+     * Reads an array of enum constants written as [A, B, C], elements written as null stay null
+     */
+    public <E extends Enum<E>> E[] readEnumArray(final String fieldName, final Class<E> enumType) {
+        String[] tokens = splitArray(fieldName);
+
+        @SuppressWarnings("unchecked")
+        E[] values = (E[]) Array.newInstance(enumType, tokens.length);
+        for (int i = 0; i < tokens.length; i++) {
+            values[i] = tokens[i].equals(NULL_ELEMENT) ? null : Enum.valueOf(enumType, tokens[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Reads a player written with Player.toString, or None for no player
+     *
+     * @return the player with that number in the game session reading the memento, null for None
+     */
+    public Player readPlayer(final String fieldName) {
+        String value = readField(fieldName);
+        if (value.equals(NO_PLAYER)) {
+            return null;
         }
-        return fields;
+
+        // Extract player number from the string representation
+        int playerNum = Integer.parseInt(value.substring(value.lastIndexOf(' ') + 1));
+        return GameSession.resolvePlayer(playerNum);
+    }
+
+    // Splits a value written by Arrays.toString into its trimmed elements
+    private String[] splitArray(final String fieldName) {
+        String value = readField(fieldName);
+        if (value.length() < 2 || value.charAt(0) != '[' || value.charAt(value.length() - 1) != ']') {
+            throw new IllegalArgumentException("Field is not an array: " + fieldName);
+        }
+
+        String contents = value.substring(1, value.length() - 1).trim();
+        if (contents.isEmpty()) {
+            return new String[0];
+        }
+
+        String[] tokens = contents.split(ELEMENT_SEPARATOR);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokens[i].trim();
+        }
+        return tokens;
     }
 
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     public File getSubFolder(final String subFolderName) {
+        if (sourceFolder instanceof SnapshotArchive.Folder) {
+            SnapshotArchive.Folder subFolder = ((SnapshotArchive.Folder) sourceFolder).child(subFolderName);
+            if (!subFolder.getArchive().hasFolder(subFolder.getArchivePath())) {
+                throw new IllegalArgumentException("Folder does not exist: " + subFolder.getPath());
+            }
+            return subFolder;
+        }
+
         File parentFolder = sourceFile.getParentFile();
         File subFolder = new File(parentFolder, subFolderName);
         if (!subFolder.exists() || !subFolder.isDirectory()) {
@@ -63,4 +162,3 @@ public class MementoReader {
         return subFolder;
     }
 }
-
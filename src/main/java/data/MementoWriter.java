@@ -2,49 +2,74 @@ package data;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 
-public class MementoWriter {
+/**
+ * Writes the "field: value" file of a memento.
+ * <p>
+ * Fields are collected in memory and only written when the writer is closed, in one write
+ * to a temp file next to the target that is then renamed over it. Until then the previous
+ * contents of the target are untouched, so a save that fails part way never leaves a file
+ * half written. Use it in a try-with-resources block.
+ */
+public class MementoWriter implements Closeable {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File targetFolder;
     private final File targetFile;
+    // fields of the target when writing into a binary snapshot, null when writing to disk
+    private final List<String[]> archiveFields;
+    private final StringBuilder contents = new StringBuilder();
+    private boolean closed = false;
 
     public MementoWriter(final File folder, final String fileName) throws IOException {
+        this.targetFolder = folder;
+        this.targetFile = new File(folder, fileName);
+        if (folder instanceof SnapshotArchive.Folder) {
+            SnapshotArchive.Folder archiveFolder = (SnapshotArchive.Folder) folder;
+            SnapshotArchive archive = archiveFolder.getArchive();
+            archive.addFolder(archiveFolder.getArchivePath());
+            this.archiveFields = archive.createFile(SnapshotArchive.childPath(archiveFolder.getArchivePath(), fileName));
+            return;
+        }
+        this.archiveFields = null;
+
         // Ensure that the parent directory exists
         if (!folder.exists()) {
             if (!folder.mkdirs()) {
                 throw new IOException("Failed to make folder: " + folder.getName());
             }
         }
+    }
 
-        // Clear and recreate the target file
-        this.targetFile = new File(folder, fileName);
-        if (targetFile.exists()) {
-            if (!targetFile.delete()) { // Delete existing file
-                throw new IOException("Failed to make clear existing data from: " + targetFile.getName());
-            }
+    public void writeField(final String fieldName, final String fieldContents) throws IOException {
+        if (closed) {
+            throw new IOException("Failed to write field: " + fieldName + ", writer is closed");
         }
-        try {
-            if (!targetFile.createNewFile()) { // Create a new empty file
-                throw new IOException("Failed to make recreate file: " + targetFile.getName());
-            }
-        } catch (IOException e) {
-            throw new IOException("Failed to make recreate file: " + targetFile.getName());
+        if (archiveFields != null) {
+            archiveFields.add(new String[]{fieldName, fieldContents});
+            return;
         }
-    }
 
-    public void writeField(final String fieldName, final String contents) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(targetFile, StandardCharsets.UTF_8, true))) {
-            writer.println(fieldName + ": " + contents);
-        } catch (IOException e) {
-            throw new IOException("Failed to write field: " + fieldName);
-        }
+        contents.append(fieldName).append(": ").append(fieldContents).append(System.lineSeparator());
     }
 
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     public File getSubFolder(final String subFolderName) throws IOException {
+        if (targetFolder instanceof SnapshotArchive.Folder) {
+            SnapshotArchive.Folder subFolder = ((SnapshotArchive.Folder) targetFolder).child(subFolderName);
+            subFolder.getArchive().addFolder(subFolder.getArchivePath());
+            return subFolder;
+        }
+
         File subFolder = new File(targetFile.getParent(), subFolderName);
         if (!subFolder.exists()) {
             if (!subFolder.mkdirs()) {
@@ -53,4 +78,41 @@ public class MementoWriter {
         }
         return subFolder;
     }
+
+    /**
+     * Writes all fields to the target file, replacing what was there before
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (archiveFields != null) {
+            return;
+        }
+
+        Path target = targetFile.toPath();
+        Path temp = Files.createTempFile(targetFolder.toPath(), targetFile.getName(), TEMP_SUFFIX);
+        try {
+            Files.write(temp, contents.toString().getBytes(StandardCharsets.UTF_8));
+            replaceWith(temp, target);
+        } catch (IOException e) {
+            throw new IOException("Failed to write file: " + targetFile.getName(), e);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Moves a completely written temp file over the given target. The move is atomic where the
+     * file system supports it, elsewhere the target is replaced by a plain move.
+     */
+    static void replaceWith(final Path temp, final Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 }
@@ -1,5 +1,34 @@
 package data;
 
 public interface Restorable {
+
+    /**
+     * Takes a snapshot of this object that can be saved or restored later.
+     * <p>
+     * Snapshots are taken at the start of every turn, and most of the game does not change
+     * in a turn. So a restorable keeps the last memento it handed out and hands out the same
+     * one again as long as none of its own fields and none of the mementos of its parts have
+     * changed since, which it checks by comparing them with what the memento captured. A new
+     * memento is only made once something changed. Unchanged parts of the game are then
+     * shared between the snapshots of different turns instead of being copied for each one,
+     * and a memento handed out twice is identical, which the composite mementos use to tell
+     * that a part has not changed.
+     */
     Memento createMemento();
+
+    /**
+     * Tells whether each restorable still hands out the memento it handed out before,
+     * which is the case when none of them changed since. Used by composite mementos to
+     * share their last snapshot.
+     *
+     * @param mementos the mementos handed out before, mementos[i] by restorables[i]
+     */
+    static boolean allCurrent(final Memento[] mementos, final Restorable[] restorables) {
+        for (int i = 0; i < restorables.length; i++) {
+            if (restorables[i].createMemento() != mementos[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
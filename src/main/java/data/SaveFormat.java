@@ -0,0 +1,15 @@
+package data;
+
+/**
+ * How a slot is stored on disk
+ */
+public enum SaveFormat {
+    /**
+     * A folder per memento with a text file of "field: value" lines, easy to read and diff
+     */
+    FOLDER,
+    /**
+     * The whole game in a single versioned binary file, see SnapshotArchive
+     */
+    BINARY
+}
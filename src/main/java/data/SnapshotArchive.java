@@ -0,0 +1,341 @@
+package data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectStreamException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A whole tree of memento folders and files held in memory and stored as one binary file.
+ * <p>
+ * Mementos only ever see the Folder handed to them, which MementoWriter and MementoReader
+ * recognise and read and write here instead of on disk. The tree is the same as the one the
+ * folder format would create, so both formats go through the exact same memento code.
+ * <p>
+ * Layout of the file, version 2:
+ * <pre>
+ * int magic, short version
+ * string table:  count, then every distinct string once as its length in bytes and its UTF-8 bytes
+ * folders:       count, then the path of each folder as a string index
+ * files:         count, then for each its path, number of fields and every key and value
+ * </pre>
+ * Counts, lengths and string indexes are variable length ints. Keys such as "owner" repeat in
+ * every vertex and road, the table stores them once. Version 1 stored the strings with
+ * writeUTF, which limits them to 64 KB, it can still be read.
+ */
+final class SnapshotArchive {
+
+    private static final int MAGIC = 0x43544E53; // "CTNS"
+    private static final short VERSION = 2;
+    private static final short VERSION_MODIFIED_UTF = 1; // strings were written with writeUTF, at most 64 KB each
+    private static final String SEPARATOR = "/";
+
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+
+    private final Set<String> folders = new LinkedHashSet<>();
+    // fields of each file in written order, every field is a {key, value} pair
+    private final Map<String, List<String[]>> files = new LinkedHashMap<>();
+
+    SnapshotArchive() {
+        this.folders.add("");
+    }
+
+    /**
+     * Gets the folder at the root of this archive, which mementos can be saved to and read from
+     *
+     * @param location where the archive is stored, only used to name the folder
+     */
+    Folder getRoot(final File location) {
+        return new Folder(this, location, "");
+    }
+
+    // -----------------------------------
+    //
+    // Tree access for MementoWriter and MementoReader
+    //
+    // -----------------------------------
+
+    boolean hasFolder(final String path) {
+        return this.folders.contains(path);
+    }
+
+    void addFolder(final String path) {
+        this.folders.add(path);
+    }
+
+    /**
+     * Creates the file at the given path, replacing any existing file there
+     *
+     * @return the empty list of fields of the new file
+     */
+    List<String[]> createFile(final String path) {
+        List<String[]> fields = new ArrayList<>();
+        this.files.put(path, fields);
+        return fields;
+    }
+
+    /**
+     * @return the fields of the file at the given path, null if there is no such file
+     */
+    List<String[]> getFile(final String path) {
+        return this.files.get(path);
+    }
+
+    static String childPath(final String parent, final String name) {
+        return parent.isEmpty() ? name : parent + SEPARATOR + name;
+    }
+
+    // -----------------------------------
+    //
+    // Binary encoding
+    //
+    // -----------------------------------
+
+    /**
+     * Writes this archive to the given file in one write, replacing the file only once
+     * the whole archive is on disk
+     */
+    void writeTo(final File target) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            Map<String, Integer> table = new LinkedHashMap<>();
+            for (String folder : this.folders) {
+                intern(table, folder);
+            }
+            for (Map.Entry<String, List<String[]>> file : this.files.entrySet()) {
+                intern(table, file.getKey());
+                for (String[] field : file.getValue()) {
+                    intern(table, field[0]);
+                    intern(table, field[1]);
+                }
+            }
+
+            writeVarInt(out, table.size());
+            for (String string : table.keySet()) {
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, utf8.length);
+                out.write(utf8);
+            }
+
+            writeVarInt(out, this.folders.size());
+            for (String folder : this.folders) {
+                writeVarInt(out, table.get(folder));
+            }
+
+            writeVarInt(out, this.files.size());
+            for (Map.Entry<String, List<String[]>> file : this.files.entrySet()) {
+                writeVarInt(out, table.get(file.getKey()));
+                writeVarInt(out, file.getValue().size());
+                for (String[] field : file.getValue()) {
+                    writeVarInt(out, table.get(field[0]));
+                    writeVarInt(out, table.get(field[1]));
+                }
+            }
+        }
+
+        Path targetPath = target.toPath();
+        Path parent = targetPath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempPath = Files.createTempFile(parent, target.getName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            MementoWriter.replaceWith(tempPath, targetPath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Reads an archive written by writeTo
+     *
+     * @throws IOException if the file cannot be read or is not a saved game of a known version
+     */
+    static SnapshotArchive readFrom(final File source) throws IOException {
+        byte[] bytes;
+        try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Saved game ended early: " + source.getName());
+                }
+            }
+            bytes = buffer.array();
+        }
+
+        SnapshotArchive archive = new SnapshotArchive();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a saved game: " + source.getName());
+            }
+            short version = in.readShort();
+            if (version != VERSION && version != VERSION_MODIFIED_UTF) {
+                throw new IOException("Unsupported saved game version " + version + ": " + source.getName());
+            }
+
+            String[] table = new String[readVarInt(in)];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = version == VERSION_MODIFIED_UTF ? in.readUTF() : readUtf8(in);
+            }
+
+            int numFolders = readVarInt(in);
+            for (int i = 0; i < numFolders; i++) {
+                archive.addFolder(readString(in, table));
+            }
+
+            int numFiles = readVarInt(in);
+            for (int i = 0; i < numFiles; i++) {
+                List<String[]> fields = archive.createFile(readString(in, table));
+                int numFields = readVarInt(in);
+                for (int j = 0; j < numFields; j++) {
+                    fields.add(new String[]{readString(in, table), readString(in, table)});
+                }
+            }
+        }
+
+        return archive;
+    }
+
+    private static void intern(final Map<String, Integer> table, final String string) {
+        table.putIfAbsent(string, table.size());
+    }
+
+    private static String readString(final DataInputStream in, final String[] table) throws IOException {
+        int index = readVarInt(in);
+        if (index < 0 || index >= table.length) {
+            throw new IOException("Corrupt saved game, string " + index + " is not in the table");
+        }
+        return table[index];
+    }
+
+    private static String readUtf8(final DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Corrupt saved game, string of " + length + " bytes does not fit in the file");
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0) {
+            out.writeByte((remaining & VARINT_MASK) | VARINT_MORE);
+            remaining >>>= VARINT_BITS;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift >= Integer.SIZE) {
+                throw new IOException("Corrupt saved game, variable length int is too long");
+            }
+            b = in.readUnsignedByte();
+            value |= (b & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+        } while ((b & VARINT_MORE) != 0);
+        return value;
+    }
+
+    // -----------------------------------
+    //
+    // Folder handle
+    //
+    // -----------------------------------
+
+    /**
+     * A folder inside an archive. It is a File so it can be passed through Memento.save
+     * and the memento constructors unchanged, but nothing is ever created on disk for it.
+     * <p>
+     * Two folders are equal only if they are the same path in the same archive. A plain File
+     * with the same path may still report itself equal to a folder, File.equals only looks at
+     * the path, so folders must not be mixed with files in the same set or map.
+     * <p>
+     * A folder is only a handle into an archive in memory and cannot be serialized.
+     */
+    static final class Folder extends File {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient SnapshotArchive archive;
+        private final String archivePath;
+
+        private Folder(final SnapshotArchive owner, final File location, final String path) {
+            super(location.getPath());
+            this.archive = owner;
+            this.archivePath = path;
+        }
+
+        private Folder(final Folder parent, final String name) {
+            super(parent, name);
+            this.archive = parent.archive;
+            this.archivePath = childPath(parent.archivePath, name);
+        }
+
+        SnapshotArchive getArchive() {
+            return this.archive;
+        }
+
+        String getArchivePath() {
+            return this.archivePath;
+        }
+
+        /**
+         * Gets the folder with the given name within this one
+         */
+        Folder child(final String name) {
+            return new Folder(this, name);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Folder)) {
+                return false;
+            }
+            Folder other = (Folder) obj;
+            return this.archive == other.archive && this.archivePath.equals(other.archivePath) && super.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + this.archivePath.hashCode();
+        }
+
+        // the archive the folder points into is not part of the stream, so refuse to write one at all
+        private Object writeReplace() throws ObjectStreamException {
+            throw new NotSerializableException("A folder inside a saved game archive cannot be serialized");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package data;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The turns of a game that can be undone and redone.
+ * <p>
+ * Each entry is the memento of the game at the start of a turn. Since restorables share the
+ * mementos of parts that did not change, an entry only adds the parts its turn changed on top
+ * of the entry before it, and moving between entries restores only the parts that differ from
+ * the state the game is in.
+ * <p>
+ * When given a spill folder, only the turns close to the one being played are kept in memory.
+ * Turns further away are written to the folder in the binary save format and read back when
+ * the game is moved to them again, so a long game does not grow the heap.
+ */
+final class TurnJournal {
+    private static final String SPILL_PREFIX = "turn";
+    private static final String SPILL_EXTENSION = ".bin";
+
+    private final Restorable game;
+    // the memento of every turn, null for turns only kept in the spill folder
+    private final List<Memento> turns = new ArrayList<>();
+    // index of the turn being played, the turns after it can be redone
+    private int currentTurn = -1;
+
+    private final File spillFolder;
+    private final Function<File, Memento> spilledTurnReader;
+    // turns written to the spill folder, they are written only once
+    private final BitSet spilledTurns = new BitSet();
+    private int turnsInMemory = Integer.MAX_VALUE;
+
+    /**
+     * Creates a journal that keeps every turn in memory
+     */
+    TurnJournal(final Restorable restorable) {
+        this(restorable, null, null);
+    }
+
+    /**
+     * Creates a journal that can move turns to the given folder
+     *
+     * @param folder where turns are written, any turns from an earlier journal in it are deleted
+     * @param reader creates the memento of a turn from the folder it was saved to
+     */
+    TurnJournal(final Restorable restorable, final File folder, final Function<File, Memento> reader) {
+        this.game = restorable;
+        this.spillFolder = folder;
+        this.spilledTurnReader = reader;
+        if (folder != null && folder.exists()) {
+            GameLoader.delete(folder);
+        }
+    }
+
+    /**
+     * Sets how many turns before and after the one being played are kept in memory,
+     * has no effect on a journal without a spill folder
+     */
+    void setTurnsInMemory(final int turns) {
+        if (turns < 1) {
+            throw new IllegalArgumentException("At least one turn must be kept in memory");
+        }
+        this.turnsInMemory = turns;
+        trim();
+    }
+
+    /**
+     * Records the state of the game as the start of a new turn,
+     * dropping the turns that could have been redone since the timeline changed
+     */
+    void recordTurnStart() {
+        this.turns.subList(this.currentTurn + 1, this.turns.size()).clear();
+        this.spilledTurns.clear(this.currentTurn + 1, Integer.MAX_VALUE);
+        this.turns.add(this.game.createMemento());
+        this.currentTurn++;
+        trim();
+    }
+
+    /**
+     * @return the memento of the start of the turn being played
+     */
+    Memento getCurrentTurn() {
+        return this.turns.get(this.currentTurn);
+    }
+
+    /**
+     * Restores the game to the start of the turn being played, or to the start of the turn
+     * before it when the turn being played has not been started on yet
+     *
+     * @return true if there was a turn restored, false otherwise
+     */
+    boolean undo(final boolean atTurnStart) {
+        if (!atTurnStart) {
+            restoreTurn(this.currentTurn);
+            return true;
+        }
+        return this.currentTurn > 0 && restoreTurn(this.currentTurn - 1);
+    }
+
+    /**
+     * Restores the game to the start of the turn after the one being played
+     *
+     * @return true if there was a turn restored, false otherwise
+     */
+    boolean redo() {
+        return this.currentTurn < this.turns.size() - 1 && restoreTurn(this.currentTurn + 1);
+    }
+
+    // Makes the given turn the one being played, false if it could not be read back
+    private boolean restoreTurn(final int turn) {
+        Memento memento = this.turns.get(turn);
+        if (memento == null) {
+            memento = readSpilledTurn(turn);
+            if (memento == null) {
+                return false;
+            }
+            this.turns.set(turn, memento);
+        }
+
+        memento.restoreChanges(this.game.createMemento());
+        this.currentTurn = turn;
+        trim();
+        return true;
+    }
+
+    // -----------------------------------
+    //
+    // Spilling
+    //
+    // -----------------------------------
+
+    // Moves the turns too far from the one being played out of memory
+    private void trim() {
+        if (this.spillFolder == null) {
+            return;
+        }
+        for (int i = 0; i < this.turns.size(); i++) {
+            if (this.turns.get(i) != null && Math.abs(i - this.currentTurn) >= this.turnsInMemory) {
+                spill(i);
+            }
+        }
+    }
+
+    private void spill(final int turn) {
+        if (!this.spilledTurns.get(turn)) {
+            File file = getSpillFile(turn);
+            try {
+                SnapshotArchive archive = new SnapshotArchive();
+                this.turns.get(turn).save(archive.getRoot(file));
+                archive.writeTo(file);
+            } catch (IOException e) {
+                // keep the turn in memory rather than lose it
+                System.err.println("Failed to spill turn " + turn + ": " + e.getMessage());
+                return;
+            }
+            this.spilledTurns.set(turn);
+        }
+        this.turns.set(turn, null);
+    }
+
+    private Memento readSpilledTurn(final int turn) {
+        File file = getSpillFile(turn);
+        try {
+            return this.spilledTurnReader.apply(SnapshotArchive.readFrom(file).getRoot(file));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to read spilled turn " + turn + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private File getSpillFile(final int turn) {
+        return new File(this.spillFolder, SPILL_PREFIX + turn + SPILL_EXTENSION);
+    }
+}
@@ -3,9 +3,7 @@ package domain.bank;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 
 import data.*;
@@ -17,16 +15,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public class Bank implements Restorable {
 
     private static final int MAX_RESOURCES = 19;
-    private final HashMap<Resource, Integer> bank = new HashMap<>();
+    // amount of each resource left in the bank indexed by ordinal
+    private final int[] stock = new int[Resource.COUNT];
+    private final int[] scratchDelta = new int[Resource.COUNT]; // reused by the Resource[] methods
     private static final int MAX_NUM_LOANS = 4;
     private final Loan[] loans = new Loan[MAX_NUM_LOANS];
 
     public Bank() {
-        bank.put(Resource.LUMBER, MAX_RESOURCES);
-        bank.put(Resource.BRICK, MAX_RESOURCES);
-        bank.put(Resource.WOOL, MAX_RESOURCES);
-        bank.put(Resource.GRAIN, MAX_RESOURCES);
-        bank.put(Resource.ORE, MAX_RESOURCES);
+        Arrays.fill(stock, MAX_RESOURCES);
 
         for (int i = 0; i < loans.length; i++) {
             if (this.loans[i] == null) {
@@ -35,14 +31,37 @@ public class Bank implements Restorable {
         }
     }
 
+    /**
+     * Creates a copy of the stock of this bank with no loans taken out. Loans refer to players,
+     * which refer to the bank, so they are copied by copyLoansTo once the players are copied.
+     */
+    public Bank copy() {
+        Bank copy = new Bank();
+        System.arraycopy(this.stock, 0, copy.stock, 0, Resource.COUNT);
+        return copy;
+    }
+
+    /**
+     * Copies the loans of this bank into the given copy of it, each loan is given to the player
+     * of the given array with the same number as the player who took it out
+     */
+    public void copyLoansTo(final Bank copy, final Player[] players) {
+        for (Player player : players) {
+            Loan loan = this.loans[getLoanIdxForPlayer(player)];
+            if (loan != null && !loan.isEmptyLoan()) {
+                copy.loans[getLoanIdxForPlayer(player)] = loan.copy(player);
+            }
+        }
+    }
+
     public boolean removeResource(final Resource type, final int amount) {
         if (amount <= 0 || amount > MAX_RESOURCES) {
             throw new IllegalArgumentException("Must be a value between 1 and 19");
         }
-        if (bank.get(type) - amount < 0) {
+        if (stock[type.ordinal()] - amount < 0) {
             return false;
         }
-        bank.put(type, bank.get(type) - amount);
+        stock[type.ordinal()] -= amount;
         return true;
     }
 
@@ -50,51 +69,123 @@ public class Bank implements Restorable {
         if (amount <= 0 || amount > MAX_RESOURCES) {
             throw new IllegalArgumentException("Must be a value between 1 and 19");
         }
-        if (bank.get(type) + amount > MAX_RESOURCES) {
+        if (stock[type.ordinal()] + amount > MAX_RESOURCES) {
             return false;
         }
-        bank.put(type, bank.get(type) + amount);
+        stock[type.ordinal()] += amount;
         return true;
     }
 
     public int getResourceAmount(final Resource type) {
-        return bank.get(type);
+        return stock[type.ordinal()];
     }
 
     public void reset() {
-        bank.put(Resource.LUMBER, MAX_RESOURCES);
-        bank.put(Resource.BRICK, MAX_RESOURCES);
-        bank.put(Resource.WOOL, MAX_RESOURCES);
-        bank.put(Resource.GRAIN, MAX_RESOURCES);
-        bank.put(Resource.ORE, MAX_RESOURCES);
+        Arrays.fill(stock, MAX_RESOURCES);
     }
 
-    public boolean addResources(final Resource[] resources) {
-        for (int i = 0; i < resources.length; i++) {
-            if (bank.get(resources[i]) == MAX_RESOURCES) {
-                for (int removed = 0; removed < i; removed++) {
-                    this.removeResource(resources[removed], 1);
-                }
+    // -----------------------------------
+    //
+    // Transactions, indexed by resource ordinal
+    //
+    // -----------------------------------
+
+    /**
+     * Tells whether the given delta can be applied to the stock of the bank without any
+     * resource going below 0 or above the maximum amount.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     */
+    public boolean canApply(final int[] delta) {
+        return canApply(delta, 1);
+    }
+
+    /**
+     * Applies the given delta to the stock of the bank.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     * @throws IllegalArgumentException if the delta cannot be applied, the stock is left unchanged
+     */
+    public void apply(final int[] delta) {
+        if (!applyOrRollback(delta, 1)) {
+            throw new IllegalArgumentException("Resource delta would leave the bank out of bounds");
+        }
+    }
+
+    /**
+     * Applies the given delta to the stock of the bank if all of it can be applied,
+     * otherwise nothing changes.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     * @return true if the delta was applied, false if the stock was left unchanged
+     */
+    public boolean applyOrRollback(final int[] delta) {
+        return applyOrRollback(delta, 1);
+    }
+
+    /**
+     * Takes the given amounts out of the bank, all of them or none
+     *
+     * @param amounts the amount of each resource indexed by ordinal
+     * @return true if the amounts were taken, false if the bank does not have enough of them
+     */
+    public boolean removeResources(final int[] amounts) {
+        return applyOrRollback(amounts, -1);
+    }
+
+    /**
+     * Puts the given amounts back into the bank, all of them or none
+     *
+     * @param amounts the amount of each resource indexed by ordinal
+     * @return true if the amounts were put back, false if that would overflow the bank
+     */
+    public boolean addResources(final int[] amounts) {
+        return applyOrRollback(amounts, 1);
+    }
+
+    // the delta is multiplied by sign so removals do not need a negated copy of the amounts
+    private boolean canApply(final int[] delta, final int sign) {
+        if (delta.length != Resource.COUNT) {
+            throw new IllegalArgumentException("Resource delta must have one amount per resource");
+        }
+        for (int i = 0; i < Resource.COUNT; i++) {
+            int result = stock[i] + sign * delta[i];
+            if (result < 0 || result > MAX_RESOURCES) {
                 return false;
             }
-            bank.put(resources[i], bank.get(resources[i]) + 1);
         }
         return true;
     }
 
-    public boolean removeResources(final Resource[] resources) {
-        for (int i = 0; i < resources.length; i++) {
-            if (this.getResourceAmount(resources[i]) == 0) {
-                for (int added = 0; added < i; added++) {
-                    this.addResource(resources[added], 1);
-                }
-                return false;
-            }
-            this.removeResource(resources[i], 1);
+    private boolean applyOrRollback(final int[] delta, final int sign) {
+        if (!canApply(delta, sign)) {
+            return false;
+        }
+        for (int i = 0; i < Resource.COUNT; i++) {
+            stock[i] += sign * delta[i];
         }
         return true;
     }
 
+    // Fills the scratch delta with the given resources counted once each
+    private int[] toScratchDelta(final Resource[] resources) {
+        Arrays.fill(scratchDelta, 0);
+        for (Resource resource : resources) {
+            scratchDelta[resource.ordinal()]++;
+        }
+        return scratchDelta;
+    }
+
+    public boolean addResources(final Resource[] resources) {
+        // all or nothing, a resource that would overflow means none get added
+        return applyOrRollback(toScratchDelta(resources), 1);
+    }
+
+    public boolean removeResources(final Resource[] resources) {
+        // all or nothing, a resource the bank is out of means none get removed
+        return applyOrRollback(toScratchDelta(resources), -1);
+    }
+
     public void takeOutLoan(final Player player, final Resource[] resources) throws NotEnoughResourcesException {
         int idx = getLoanIdxForPlayer(player);
         Loan l = this.loans[idx];
@@ -128,7 +219,7 @@ public class Bank implements Restorable {
             if (!l.loanIsPaid()) {
                 l.payLoan(this, currentPlayer);
             } else {
-                this.loans[getLoanIdxForPlayer(currentPlayer)] = null;
+                this.loans[getLoanIdxForPlayer(currentPlayer)] = new Loan();
             }
         }
     }
@@ -145,17 +236,18 @@ public class Bank implements Restorable {
     //
     // -----------------------------------
 
+    private BankMemento lastMemento;
+
     public class BankMemento implements Memento {
 
-        private final HashMap<Resource, Integer> bank;
+        private final int[] stock;
         // Storage Constants
         private static final String TARGET_FILE_NAME = "bank.txt";
         private static final String LOAN_SUBFOLDER_PREFIX = "Loan";
         private Memento[] loanMementos = new Memento[MAX_NUM_LOANS];
 
         private BankMemento() {
-            this.bank = new HashMap<>();
-            this.bank.putAll(Bank.this.bank);
+            this.stock = Arrays.copyOf(Bank.this.stock, Resource.COUNT);
 
             this.loanMementos = new Memento[MAX_NUM_LOANS];
             for (int i = 0; i < MAX_NUM_LOANS; i++) {
@@ -170,12 +262,11 @@ public class Bank implements Restorable {
 
         @SuppressFBWarnings("EI_EXPOSE_REP2")
         public BankMemento(final File folder) {
-            this.bank = new HashMap<>();
+            this.stock = new int[Resource.COUNT];
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             for (Map.Entry<String, String> entry : reader.readAllFields().entrySet()) {
-                this.bank.put(Resource.valueOf(entry.getKey()),
-                        Integer.parseInt(entry.getValue()));
+                this.stock[Resource.valueOf(entry.getKey()).ordinal()] = Integer.parseInt(entry.getValue());
             }
 
             for (int i = 0; i < MAX_NUM_LOANS; i++) {
@@ -192,37 +283,59 @@ public class Bank implements Restorable {
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write the state of the bank's attributes to the file
+                for (int i = 0; i < Resource.COUNT; i++) {
+                    writer.writeField(Resource.values()[i].toString(), Integer.toString(stock[i]));
+                }
 
-            // Write the state of the bank's attributes to the file
-            for (Map.Entry<Resource, Integer> entry : bank.entrySet()) {
-                writer.writeField(entry.getKey().toString(), entry.getValue().toString());
+                for (int i = 0; i < MAX_NUM_LOANS; i++) {
+                    File loanSubFolder = writer.getSubFolder(LOAN_SUBFOLDER_PREFIX + i);
+                    Memento m = this.loanMementos[i];
+                    if (m != null) {
+                        m.save(loanSubFolder);
+                    }
+                }
             }
+        }
 
+        private boolean isCurrent() {
+            if (!Arrays.equals(this.stock, Bank.this.stock)) {
+                return false;
+            }
             for (int i = 0; i < MAX_NUM_LOANS; i++) {
-                File loanSubFolder = writer.getSubFolder(LOAN_SUBFOLDER_PREFIX + i);
-                Memento m = this.loanMementos[i];
-                if (m != null) {
-                    m.save(loanSubFolder);
+                Loan l = Bank.this.loans[i];
+                Memento loanMemento = l == null ? null : l.createMemento();
+                if (loanMemento != this.loanMementos[i]) {
+                    return false;
                 }
             }
+            return true;
         }
 
         public void restore() {
-            // Restore the bank state from the memento
-            Bank.this.bank.clear();
-            Bank.this.bank.putAll(this.bank);
+            restoreChanges(null);
+        }
 
-            for (Memento m : this.loanMementos) {
-                if (m != null) {
-                    m.restore();
-                }
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
             }
+            BankMemento previous = current instanceof BankMemento ? (BankMemento) current : null;
+
+            // Restore the bank state from the memento
+            System.arraycopy(this.stock, 0, Bank.this.stock, 0, Resource.COUNT);
+
+            Memento.restoreChanges(this.loanMementos, previous != null ? previous.loanMementos : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new BankMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new BankMemento();
+        }
+        return this.lastMemento;
     }
 }
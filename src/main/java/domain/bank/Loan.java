@@ -30,6 +30,18 @@ public class Loan implements Restorable {
         this.turnsUntilDue = TURNS_UNTIL_DUE;
     }
 
+    /**
+     * Creates an independent copy of this loan owed by the given player instead
+     */
+    Loan copy(final Player player) {
+        Loan copy = new Loan();
+        copy.loanPlayer = player;
+        copy.loanResourcesBorrowed = Arrays.copyOf(this.loanResourcesBorrowed, this.loanResourcesBorrowed.length);
+        copy.resourcesDue = Arrays.copyOf(this.resourcesDue, this.resourcesDue.length);
+        copy.turnsUntilDue = this.turnsUntilDue;
+        return copy;
+    }
+
     public boolean isEmptyLoan() {
         return loanPlayer == null;
     }
@@ -119,6 +131,8 @@ public class Loan implements Restorable {
         return due;
     }
 
+    private LoanMemento lastMemento;
+
     public class LoanMemento implements Memento {
         private Player player;
         private Resource[] resourcesBorrowed;
@@ -143,45 +157,33 @@ public class Loan implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.player = parsePlayer(reader.readField(PLAYER));
-            this.resourcesBorrowed = parseResourceArray(reader.readField(RESOURCES_BORROWED));
-            this.resourcesDue = parseResourceArray(reader.readField(RESOURCES_DUE));
-            this.turnsUntilDue = Integer.parseInt(reader.readField(TURNS_UNTIL_DUE));
-        }
-
-        private Player parsePlayer(final String ownerString) {
-            // Extract player number from the string representation
-            int playerNum = Integer.parseInt(ownerString.substring(ownerString.lastIndexOf(" ") + 1));
-            // Retrieve the player using the GameLoader
-            return GameLoader.getInstance().getPlayerByNum(playerNum);
-        }
-
-        private Resource[] parseResourceArray(final String arrayString) {
-            // [GRAIN, ORE]
-            String contents = arrayString.substring(1, arrayString.length() - 1);
-            String[] delineated = contents.split(", ");
-            Resource[] resources = new Resource[delineated.length];
-            for (int i = 0; i < delineated.length; i++) {
-                resources[i] = Resource.valueOf(delineated[i]);
-            }
-
-            return resources;
+            this.player = reader.readPlayer(PLAYER);
+            this.resourcesBorrowed = reader.readEnumArray(RESOURCES_BORROWED, Resource.class);
+            this.resourcesDue = reader.readEnumArray(RESOURCES_DUE, Resource.class);
+            this.turnsUntilDue = reader.readInt(TURNS_UNTIL_DUE);
         }
 
         @Override
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
-
-            if (!isEmptyLoan()) {
-                // Write simple fields to the file
-                writer.writeField(PLAYER, player.toString());
-                writer.writeField(RESOURCES_BORROWED, Arrays.toString(resourcesBorrowed));
-                writer.writeField(RESOURCES_DUE, Arrays.toString(resourcesDue));
-                writer.writeField(TURNS_UNTIL_DUE, Integer.toString(turnsUntilDue));
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                if (!isEmptyLoan()) {
+                    // Write simple fields to the file
+                    writer.writeField(PLAYER, player.toString());
+                    writer.writeField(RESOURCES_BORROWED, Arrays.toString(resourcesBorrowed));
+                    writer.writeField(RESOURCES_DUE, Arrays.toString(resourcesDue));
+                    writer.writeField(TURNS_UNTIL_DUE, Integer.toString(turnsUntilDue));
+                }
             }
         }
 
+        private boolean isCurrent() {
+            return this.player == Loan.this.loanPlayer
+                    && this.turnsUntilDue == Loan.this.turnsUntilDue
+                    && Arrays.equals(this.resourcesBorrowed, Loan.this.loanResourcesBorrowed)
+                    && Arrays.equals(this.resourcesDue, Loan.this.resourcesDue);
+        }
+
         @Override
         public void restore() {
             Loan.this.loanPlayer = this.player;
@@ -193,6 +195,9 @@ public class Loan implements Restorable {
 
     @Override
     public Memento createMemento() {
-        return new Loan.LoanMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new LoanMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -1,5 +1,11 @@
 package domain.bank;
 
 public enum Resource {
-    BRICK, LUMBER, ORE, GRAIN, WOOL, ANY
+    BRICK, LUMBER, ORE, GRAIN, WOOL, ANY;
+
+    /**
+     * Number of resources that can actually be held, which is every resource but ANY.
+     * Resource amounts kept in arrays are indexed by ordinal and have this length.
+     */
+    public static final int COUNT = ANY.ordinal();
 }
@@ -16,6 +16,16 @@ public class Building implements Restorable {
         district = DistrictType.EMPTY;
     }
 
+    /**
+     * Creates an independent copy of this building
+     */
+    public Building copy() {
+        Building copy = new Building();
+        copy.isCity = this.isCity;
+        copy.district = this.district;
+        return copy;
+    }
+
     /**
      * Given a resource type, returns the number of resources
      * the player owning this building should receive based on the building's bonuses
@@ -53,9 +63,14 @@ public class Building implements Restorable {
 
     @Override
     public Memento createMemento() {
-        return new BuildingMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new BuildingMemento();
+        }
+        return this.lastMemento;
     }
 
+    private BuildingMemento lastMemento;
+
     public class BuildingMemento implements Memento {
         private boolean isCity;
         private DistrictType district;
@@ -75,18 +90,22 @@ public class Building implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.isCity = Boolean.parseBoolean(reader.readField(IS_CITY));
-            this.district = DistrictType.valueOf(reader.readField(DISTRICT));
+            this.isCity = reader.readBoolean(IS_CITY);
+            this.district = reader.readEnum(DISTRICT, DistrictType.class);
         }
 
         @Override
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(DISTRICT, district.toString());
+                writer.writeField(IS_CITY, Boolean.toString(isCity));
+            }
+        }
 
-            // Write simple fields to the file
-            writer.writeField(DISTRICT, district.toString());
-            writer.writeField(IS_CITY, Boolean.toString(isCity));
+        private boolean isCurrent() {
+            return this.isCity == Building.this.isCity && this.district == Building.this.district;
         }
 
         @Override
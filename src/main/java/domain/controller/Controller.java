@@ -5,8 +5,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import domain.bank.Resource;
 import domain.building.DistrictType;
@@ -32,7 +33,7 @@ public class Controller implements Restorable {
     public int lastPlacedVertex; // Used to ensure road is placed next to new settlement in setup phase
     private boolean devCardsEnabled;
 
-    private final Random random;
+    private final RandomGenerator random;
 
     // Lots of constants to set up the beginner game mode
     private static final Map<Integer, Integer[]> PLAYER_NUM_TO_STARTER_LOCATIONS;
@@ -78,16 +79,16 @@ public class Controller implements Restorable {
      */
     @SuppressFBWarnings({"EI_EXPOSE_REP2", "PREDICTABLE_RANDOM"})
     public Controller(final Game mainGame, final Player[] players, final GameType gameType) {
-        this(mainGame, players, gameType, new Random());
+        this(mainGame, players, gameType, new SplittableRandom());
     }
 
     /**
      * Separate Helper constructor only to be used for testing of mocked
      * randomness
-     * @param randomGenerator, Random object that can be controlled externally
+     * @param randomGenerator, generator that can be controlled externally
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
-    public Controller(final Game mainGame, final Player[] players, final GameType gameType, final Random randomGenerator) {
+    public Controller(final Game mainGame, final Player[] players, final GameType gameType, final RandomGenerator randomGenerator) {
         this.game = mainGame;
         this.playerArr = players;
         this.currentPlayerNum = 0;
@@ -104,6 +105,33 @@ public class Controller implements Restorable {
         this.random = randomGenerator;
     }
 
+    private Controller(final Controller other, final Game forkedGame, final Player[] players, final RandomGenerator randomGenerator) {
+        this.game = forkedGame;
+        this.playerArr = players;
+        this.currentPlayerNum = other.currentPlayerNum;
+        this.currentPlayer = players[other.currentPlayerNum];
+        this.gamePhase = other.gamePhase;
+        this.gameState = other.gameState;
+        this.lastPlacedVertex = other.lastPlacedVertex;
+        this.devCardsEnabled = other.devCardsEnabled;
+        this.random = randomGenerator;
+    }
+
+    /**
+     * Creates an independent copy of the game being played, with its own players, board,
+     * deck and bank, that can be played on without changing this one.
+     * <p>
+     * All randomness of the copy comes from the given generator, none is drawn from the
+     * generators of this game, so forking never changes how a seeded game plays out.
+     *
+     * @param randomGenerator where the copy rolls its dice and weather and picks what is stolen from
+     */
+    public Controller fork(final RandomGenerator randomGenerator) {
+        Player[] players = new Player[this.playerArr.length];
+        Game forkedGame = this.game.copy(this.playerArr, players, GameRandom.split(randomGenerator));
+        return new Controller(this, forkedGame, players, randomGenerator);
+    }
+
     /**
      * This method sets up the players' starter locations for a beginner game.
      * It does this by essentially running through an entire advanced game
@@ -393,6 +421,34 @@ public class Controller implements Restorable {
         return game.getBuildableRoads(currentPlayer, lastPlacedVertex);
     }
 
+    // -------------------------------------------------------------------------------
+    //
+    // Legal Moves:
+    //
+    // -------------------------------------------------------------------------------
+
+    /**
+     * Lists every move the current player can make in the current state, without changing
+     * anything. Placements are listed for the placing states, and everything that can be
+     * done in a turn for DEFAULT. Robber moves are listed by getLegalRobberMoves since they
+     * only come up after a roll of 7 or a knight.
+     *
+     * @return the moves encoded as described in Move
+     */
+    public int[] getLegalMoves() {
+        return new MoveGenerator(this, this.game).generateForState();
+    }
+
+    /**
+     * Lists every tile the current player can move the robber to, together with each
+     * player there they can rob.
+     *
+     * @return MOVE_ROBBER moves encoded as described in Move
+     */
+    public int[] getLegalRobberMoves() {
+        return new MoveGenerator(this, this.game).generateRobberMoves();
+    }
+
     // -------------------------------------------------------------------------------
     //
     // Setters and Getter Methods:
@@ -617,6 +673,14 @@ public class Controller implements Restorable {
         return game.getPlayersFromTile(tileId);
     }
 
+    /**
+     * Gets the players with a building on the given tile as a mask, bit n is set if
+     * player number n has a building there
+     */
+    public long getPlayerMaskOnTile(final int tileId) {
+        return game.getPlayerMaskOnTile(tileId);
+    }
+
     /**
      * Method that tries the move the robber to the specified location
      * and returns a code whether it succeeded or the reason it failed
@@ -853,6 +917,13 @@ public class Controller implements Restorable {
         return game.getValidRobberSpots(currentPlayer);
     }
 
+    /**
+     * Gets the scores of the vertexes of the board as spots for a settlement
+     */
+    public SpotScorer getSpotScorer() {
+        return game.getSpotScorer();
+    }
+
     /**
      * Method that plays the road building card.
      * Warning, this simply sets up the controller for the subsequent clicks
@@ -913,6 +984,8 @@ public class Controller implements Restorable {
     //
     // -----------------------------------
 
+    private ControllerMemento lastMemento;
+
     public class ControllerMemento implements Memento {
 
         // simple fields
@@ -965,12 +1038,12 @@ public class Controller implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.gamePhase = GamePhase.valueOf(reader.readField(GAME_PHASE));
-            this.gameState = GameState.valueOf(reader.readField(GAME_STATE));
-            this.currentPlayerNum = Integer.parseInt(reader.readField(CURRENT_PLAYER_NUM));
-            this.currentPlayer = GameLoader.getInstance().getPlayerByNum(this.currentPlayerNum + 1);
-            this.lastPlacedVertex = Integer.parseInt(reader.readField(LAST_PLACED_VERTEX));
-            this.devCardsEnabled = Boolean.parseBoolean(reader.readField(DEV_CARDS_ENABLED));
+            this.gamePhase = reader.readEnum(GAME_PHASE, GamePhase.class);
+            this.gameState = reader.readEnum(GAME_STATE, GameState.class);
+            this.currentPlayerNum = reader.readInt(CURRENT_PLAYER_NUM);
+            this.currentPlayer = Controller.this.playerArr[this.currentPlayerNum];
+            this.lastPlacedVertex = reader.readInt(LAST_PLACED_VERTEX);
+            this.devCardsEnabled = reader.readBoolean(DEV_CARDS_ENABLED);
 
             // Read sub-mementos from the appropriate sub-folders
             File gameSubFolder = reader.getSubFolder(GAME_SUBFOLDER_NAME);
@@ -985,29 +1058,50 @@ public class Controller implements Restorable {
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
-
-            // Write simple fields to the file
-            writer.writeField(GAME_PHASE, gamePhase.toString());
-            writer.writeField(GAME_STATE, gameState.toString());
-            writer.writeField(CURRENT_PLAYER_NUM, Integer.toString(currentPlayerNum));
-            writer.writeField(LAST_PLACED_VERTEX, Integer.toString(lastPlacedVertex));
-            writer.writeField(DEV_CARDS_ENABLED, Boolean.toString(devCardsEnabled));
-
-            // delegate to sub mementos
-            // Save game memento's state to the appropriate subfolder
-            File gameSubFolder = writer.getSubFolder(GAME_SUBFOLDER_NAME);
-            gameMemento.save(gameSubFolder);
-
-            // Save player mementos to separate sub-folders
-            for (int i = 0; i < playerMementos.length; i++) {
-                // Create a subfolder for each player's memento
-                File playerSubFolder = writer.getSubFolder(PLAYER_SUBFOLDER_PREFIX + (i + 1));
-                playerMementos[i].save(playerSubFolder);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(GAME_PHASE, gamePhase.toString());
+                writer.writeField(GAME_STATE, gameState.toString());
+                writer.writeField(CURRENT_PLAYER_NUM, Integer.toString(currentPlayerNum));
+                writer.writeField(LAST_PLACED_VERTEX, Integer.toString(lastPlacedVertex));
+                writer.writeField(DEV_CARDS_ENABLED, Boolean.toString(devCardsEnabled));
+
+                // delegate to sub mementos
+                // Save game memento's state to the appropriate subfolder
+                File gameSubFolder = writer.getSubFolder(GAME_SUBFOLDER_NAME);
+                gameMemento.save(gameSubFolder);
+
+                // Save player mementos to separate sub-folders
+                for (int i = 0; i < playerMementos.length; i++) {
+                    // Create a subfolder for each player's memento
+                    File playerSubFolder = writer.getSubFolder(PLAYER_SUBFOLDER_PREFIX + (i + 1));
+                    playerMementos[i].save(playerSubFolder);
+                }
             }
         }
 
+        private boolean isCurrent() {
+            return this.gamePhase == Controller.this.gamePhase
+                    && this.gameState == Controller.this.gameState
+                    && this.currentPlayerNum == Controller.this.currentPlayerNum
+                    && this.currentPlayer == Controller.this.currentPlayer
+                    && this.lastPlacedVertex == Controller.this.lastPlacedVertex
+                    && this.devCardsEnabled == Controller.this.devCardsEnabled
+                    && this.gameMemento == Controller.this.game.createMemento()
+                    && Restorable.allCurrent(this.playerMementos, Controller.this.playerArr);
+        }
+
         public void restore() {
+            restoreChanges(null);
+        }
+
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
+            }
+            ControllerMemento previous = current instanceof ControllerMemento ? (ControllerMemento) current : null;
+
             // simple field restoration
             Controller.this.gamePhase = this.gamePhase;
             Controller.this.gameState = this.gameState;
@@ -1017,15 +1111,16 @@ public class Controller implements Restorable {
             Controller.this.currentPlayer = this.currentPlayer;
 
             // Delegate restoration to sub mementos
-            this.gameMemento.restore();
-            for (Memento playerMemento: this.playerMementos) {
-                playerMemento.restore();
-            }
+            this.gameMemento.restoreChanges(previous != null ? previous.gameMemento : null);
+            Memento.restoreChanges(this.playerMementos, previous != null ? previous.playerMementos : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new ControllerMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new ControllerMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -0,0 +1,57 @@
+package domain.controller;
+
+/**
+ * Moves are packed into a single int so a whole list of them is one int array:
+ * the type in the top byte, the target in the next two bytes and the option in the last one.
+ * <ul>
+ *     <li>PLACE_SETTLEMENT, UPGRADE_CITY: the target is the vertex</li>
+ *     <li>PLACE_ROAD: the target is the road</li>
+ *     <li>BUILD_DISTRICT: the target is the vertex, the option the DistrictType ordinal</li>
+ *     <li>BANK_TRADE: the target is the Resource ordinal given, the option the one taken</li>
+ *     <li>PLAY_MONOPOLY: the target is the Resource ordinal to take</li>
+ *     <li>PLAY_YEAR_OF_PLENTY: the target and the option are the Resource ordinals taken</li>
+ *     <li>MOVE_ROBBER: the target is the tile, the option the number of the player to rob
+ *     or NO_PLAYER</li>
+ * </ul>
+ * Every other type has neither a target nor an option.
+ */
+public final class Move {
+    public static final int NO_PLAYER = 0;
+
+    private static final int TYPE_SHIFT = 24;
+    private static final int TARGET_SHIFT = 8;
+    private static final int TARGET_MASK = 0xFFFF;
+    private static final int OPTION_MASK = 0xFF;
+    private static final MoveType[] TYPES = MoveType.values();
+
+    private Move() {
+    }
+
+    public static int of(final MoveType type) {
+        return of(type, 0, 0);
+    }
+
+    public static int of(final MoveType type, final int target) {
+        return of(type, target, 0);
+    }
+
+    public static int of(final MoveType type, final int target, final int option) {
+        return type.ordinal() << TYPE_SHIFT | (target & TARGET_MASK) << TARGET_SHIFT | option & OPTION_MASK;
+    }
+
+    public static MoveType type(final int move) {
+        return TYPES[move >>> TYPE_SHIFT];
+    }
+
+    public static int target(final int move) {
+        return move >>> TARGET_SHIFT & TARGET_MASK;
+    }
+
+    public static int option(final int move) {
+        return move & OPTION_MASK;
+    }
+
+    public static String toString(final int move) {
+        return type(move) + "(" + target(move) + ", " + option(move) + ")";
+    }
+}
@@ -0,0 +1,244 @@
+package domain.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.devcarddeck.DevCard;
+import domain.game.Game;
+import domain.gameboard.GameBoard;
+import domain.player.Player;
+
+/**
+ * Lists the moves the current player of a controller can make without making any of them.
+ * <p>
+ * Everything a move needs is looked up once: the hand is checked against each cost once,
+ * the buildable vertexes and roads come from one query each and the vertexes of the player
+ * are walked once for both cities and districts.
+ */
+final class MoveGenerator {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Resource[] RESOURCES = Arrays.copyOf(Resource.values(), Resource.COUNT);
+    private static final DistrictType[] DISTRICTS = Arrays.copyOfRange(DistrictType.values(), 1, DistrictType.values().length);
+
+    private final Controller controller;
+    private final Game game;
+    private final Player player;
+    private final int[] delta = new int[Resource.COUNT];
+    private int[] moves = new int[INITIAL_CAPACITY];
+    private int size;
+
+    MoveGenerator(final Controller controller, final Game game) {
+        this.controller = controller;
+        this.game = game;
+        this.player = controller.getCurrentPlayer();
+    }
+
+    /**
+     * @return the moves allowed in the state the controller is in
+     */
+    int[] generateForState() {
+        switch (this.controller.getState()) {
+            case FIRST_SETTLEMENT, SECOND_SETTLEMENT -> addAll(MoveType.PLACE_SETTLEMENT, this.controller.getBuildableVertexes());
+            case FIRST_ROAD, SECOND_ROAD -> addAll(MoveType.PLACE_ROAD, this.controller.getBuildableRoads());
+            case ROAD_BUILDING_1, ROAD_BUILDING_2 -> {
+                if (this.player.getNumRoads() > 0) {
+                    addAll(MoveType.PLACE_ROAD, this.controller.getBuildableRoads());
+                }
+            }
+            case BUILD_SETTLEMENT -> addSettlements();
+            case BUILD_ROAD -> addRoads();
+            case UPGRADE_SETTLEMENT -> addOwnedVertexMoves(true, false);
+            case BUILD_DISTRICT -> addOwnedVertexMoves(false, true);
+            case TURN_START -> {
+                add(Move.of(MoveType.ROLL_DICE));
+                addDevCardPlays();
+            }
+            case DEFAULT -> {
+                addSettlements();
+                addRoads();
+                addOwnedVertexMoves(true, true);
+                addDevCardPurchase();
+                addBankTrades();
+                addDevCardPlays();
+                add(Move.of(MoveType.END_TURN));
+            }
+            default -> {
+                // nothing can be done until the state is set
+            }
+        }
+        return Arrays.copyOf(this.moves, this.size);
+    }
+
+    /**
+     * @return every tile the robber can be moved to, once for each player there with
+     * something to steal, or once without a player if there is nobody to rob
+     */
+    int[] generateRobberMoves() {
+        Set<Integer> withVictims = this.controller.getValidRobberSpots();
+        int robberTile = this.game.getRobberTileId();
+        long self = 1L << this.player.getPlayerNum();
+
+        for (int tile = 0; tile < GameBoard.NUM_TILES; tile++) {
+            if (tile == robberTile) {
+                continue;
+            }
+
+            int before = this.size;
+            if (withVictims.contains(tile)) {
+                long victims = this.controller.getPlayerMaskOnTile(tile) & ~self;
+                for (Player victim : this.controller.getPlayerArr()) {
+                    if ((victims & 1L << victim.getPlayerNum()) != 0 && victim.hand.getResourceCount() > 0) {
+                        add(Move.of(MoveType.MOVE_ROBBER, tile, victim.getPlayerNum()));
+                    }
+                }
+            }
+            if (this.size == before) {
+                add(Move.of(MoveType.MOVE_ROBBER, tile, Move.NO_PLAYER));
+            }
+        }
+        return Arrays.copyOf(this.moves, this.size);
+    }
+
+    // -----------------------------------
+    //
+    // Building
+    //
+    // -----------------------------------
+
+    private void addSettlements() {
+        if (this.player.canAffordSettlement()) {
+            addAll(MoveType.PLACE_SETTLEMENT, this.controller.getBuildableVertexes());
+        }
+    }
+
+    private void addRoads() {
+        if (this.player.canAffordRoad()) {
+            addAll(MoveType.PLACE_ROAD, this.controller.getBuildableRoads());
+        }
+    }
+
+    // Cities and districts both go on the buildings of the player, so they share one walk over them
+    private void addOwnedVertexMoves(final boolean cities, final boolean districts) {
+        boolean canUpgrade = cities && this.player.canAffordCity();
+        boolean[] affordable = new boolean[DISTRICTS.length];
+        boolean anyDistrict = false;
+        if (districts) {
+            for (int i = 0; i < DISTRICTS.length; i++) {
+                affordable[i] = this.player.canAffordDistrict(DISTRICTS[i]);
+                anyDistrict |= affordable[i];
+            }
+        }
+        if (!canUpgrade && !anyDistrict) {
+            return;
+        }
+
+        for (int vertex : this.game.getVertexesOwnedBy(this.player)) {
+            if (canUpgrade && !this.game.isCity(vertex)) {
+                add(Move.of(MoveType.UPGRADE_CITY, vertex));
+            }
+            if (anyDistrict && this.game.getDistrictTypeForVertex(vertex) == DistrictType.EMPTY) {
+                for (int i = 0; i < DISTRICTS.length; i++) {
+                    if (affordable[i]) {
+                        add(Move.of(MoveType.BUILD_DISTRICT, vertex, DISTRICTS[i].ordinal()));
+                    }
+                }
+            }
+        }
+    }
+
+    // -----------------------------------
+    //
+    // Cards and trades
+    //
+    // -----------------------------------
+
+    private void addDevCardPurchase() {
+        if (this.player.canAffordDevCard() && !this.game.isDevCardDeckEmpty()) {
+            add(Move.of(MoveType.BUY_DEV_CARD));
+        }
+    }
+
+    private void addBankTrades() {
+        for (Resource given : RESOURCES) {
+            int ratio = this.player.getTradeRatio(given);
+            if (this.player.hand.getResourceCount(given) < ratio) {
+                continue;
+            }
+
+            for (Resource taken : RESOURCES) {
+                if (taken == given) {
+                    continue;
+                }
+                Arrays.fill(this.delta, 0);
+                this.delta[given.ordinal()] = -ratio;
+                this.delta[taken.ordinal()] = 1;
+                if (!this.player.hand.canApply(this.delta)) {
+                    continue;
+                }
+
+                // the bank gets what the player gives and the other way around
+                this.delta[given.ordinal()] = ratio;
+                this.delta[taken.ordinal()] = -1;
+                if (this.game.canBankApply(this.delta)) {
+                    add(Move.of(MoveType.BANK_TRADE, given.ordinal(), taken.ordinal()));
+                }
+            }
+        }
+    }
+
+    private void addDevCardPlays() {
+        if (!this.controller.getDevCardsEnabled()) {
+            return;
+        }
+
+        if (this.player.canPlayDevCard(DevCard.KNIGHT)) {
+            add(Move.of(MoveType.PLAY_KNIGHT));
+        }
+        if (this.player.canPlayDevCard(DevCard.ROAD) && this.player.getNumRoads() > 0
+                && !this.controller.getBuildableRoads().isEmpty()) {
+            add(Move.of(MoveType.PLAY_ROAD_BUILDING));
+        }
+        if (this.player.canPlayDevCard(DevCard.MONOPOLY)) {
+            for (Resource resource : RESOURCES) {
+                add(Move.of(MoveType.PLAY_MONOPOLY, resource.ordinal()));
+            }
+        }
+        if (this.player.canPlayDevCard(DevCard.PLENTY)) {
+            addYearOfPlenty();
+        }
+    }
+
+    private void addYearOfPlenty() {
+        for (int first = 0; first < RESOURCES.length; first++) {
+            for (int second = first; second < RESOURCES.length; second++) {
+                Arrays.fill(this.delta, 0);
+                this.delta[first]--;
+                this.delta[second]--;
+                if (this.game.canBankApply(this.delta)) {
+                    add(Move.of(MoveType.PLAY_YEAR_OF_PLENTY, first, second));
+                }
+            }
+        }
+    }
+
+    // -----------------------------------
+    //
+    // Move list
+    //
+    // -----------------------------------
+
+    private void addAll(final MoveType type, final Set<Integer> targets) {
+        for (int target : targets) {
+            add(Move.of(type, target));
+        }
+    }
+
+    private void add(final int move) {
+        if (this.size == this.moves.length) {
+            this.moves = Arrays.copyOf(this.moves, this.size * 2);
+        }
+        this.moves[this.size++] = move;
+    }
+}
@@ -0,0 +1,11 @@
+package domain.controller;
+
+/**
+ * The kinds of moves listed by Controller.getLegalMoves, see Move for what the target and the
+ * option of each kind hold
+ */
+public enum MoveType {
+    PLACE_SETTLEMENT, PLACE_ROAD, UPGRADE_CITY, BUILD_DISTRICT, BUY_DEV_CARD, BANK_TRADE,
+    PLAY_KNIGHT, PLAY_ROAD_BUILDING, PLAY_MONOPOLY, PLAY_YEAR_OF_PLENTY,
+    MOVE_ROBBER, ROLL_DICE, END_TURN
+}
@@ -7,23 +7,59 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import domain.game.GameRandom;
+
+/**
+ * The shuffled development cards of a game.
+ * <p>
+ * Cards are kept as the bytes of their ordinals: the cards left are cards[cursor] up to
+ * cards[end], so drawing moves the cursor and copying the deck copies one small array.
+ * New decks are shuffled from a template no deck ever writes to, so decks can be made
+ * from any number of threads at once.
+ */
 public class DevelopmentCardDeck implements Restorable {
-    private static final DevCard[] DEFAULT_DECK = {
+    private static final DevCard[] CARD_TYPES = DevCard.values();
+    private static final byte[] DEFAULT_DECK = encode(
         DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT, DevCard.KNIGHT,
         DevCard.VICTORY, DevCard.VICTORY, DevCard.VICTORY, DevCard.VICTORY, DevCard.VICTORY,
         DevCard.ROAD, DevCard.ROAD,
         DevCard.PLENTY, DevCard.PLENTY,
-        DevCard.MONOPOLY, DevCard.MONOPOLY};
-    private final ArrayList<DevCard> deck = new ArrayList<>();
+        DevCard.MONOPOLY, DevCard.MONOPOLY);
+
+    private byte[] cards;
+    private int cursor;
+    private int end;
 
     /**
      * Creates a new deck object
      */
+    @SuppressFBWarnings("PREDICTABLE_RANDOM")
     public DevelopmentCardDeck() {
-        Collections.shuffle(Arrays.asList(DEFAULT_DECK));
-        this.deck.addAll(Arrays.asList(DEFAULT_DECK));
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new deck shuffled with the given generator
+     */
+    public DevelopmentCardDeck(final RandomGenerator random) {
+        // shuffle this deck's own copy, the default deck is shared by every game
+        this(Arrays.copyOf(DEFAULT_DECK, DEFAULT_DECK.length));
+        GameRandom.shuffle(this.cards, random);
+    }
+
+    private DevelopmentCardDeck(final byte[] deckCards) {
+        this.cards = deckCards;
+        this.end = deckCards.length;
+    }
+
+    /**
+     * Creates an independent copy of this deck with the cards in the same order
+     */
+    public DevelopmentCardDeck copy() {
+        return new DevelopmentCardDeck(remaining());
     }
 
     /**
@@ -31,8 +67,8 @@ public class DevelopmentCardDeck implements Restorable {
      * @return DevCard
      */
     public DevCard draw() throws EmptyDevCardDeckException {
-        if (this.deck.size() > 0) {
-            return this.deck.remove(0);
+        if (this.cursor < this.end) {
+            return CARD_TYPES[this.cards[this.cursor++]];
         }
         throw new EmptyDevCardDeckException();
     }
@@ -42,14 +78,45 @@ public class DevelopmentCardDeck implements Restorable {
      * @return ArrayList<DevCard>
      */
     public ArrayList<DevCard> getDeck() {
-        return new ArrayList<>(deck);
+        return decode(this.cards, this.cursor, this.end);
+    }
+
+    public boolean isEmpty() {
+        return this.cursor == this.end;
     }
 
     /**
      * Returns a card to the deck if not used
      */
     public void returnToDeck(final DevCard card) {
-        this.deck.add(card);
+        if (this.end == this.cards.length) {
+            // the room of the cards drawn is reused before the deck grows
+            byte[] left = remaining();
+            this.cards = Arrays.copyOf(left, Math.max(left.length + 1, this.cards.length));
+            this.cursor = 0;
+            this.end = left.length;
+        }
+        this.cards[this.end++] = (byte) card.ordinal();
+    }
+
+    private byte[] remaining() {
+        return Arrays.copyOfRange(this.cards, this.cursor, this.end);
+    }
+
+    private static byte[] encode(final DevCard... deckCards) {
+        byte[] encoded = new byte[deckCards.length];
+        for (int i = 0; i < deckCards.length; i++) {
+            encoded[i] = (byte) deckCards[i].ordinal();
+        }
+        return encoded;
+    }
+
+    private static ArrayList<DevCard> decode(final byte[] deckCards, final int from, final int to) {
+        ArrayList<DevCard> decoded = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            decoded.add(CARD_TYPES[deckCards[i]]);
+        }
+        return decoded;
     }
 
     // -----------------------------------
@@ -58,8 +125,10 @@ public class DevelopmentCardDeck implements Restorable {
     //
     // -----------------------------------
 
+    private DevCardDeckMemento lastMemento;
+
     public class DevCardDeckMemento implements Memento {
-        private final ArrayList<DevCard> deck;
+        private final byte[] deck;
 
         // Storage Constants
         private static final String TARGET_FILE_NAME = "deck.txt";
@@ -68,8 +137,7 @@ public class DevelopmentCardDeck implements Restorable {
         private static final String DEV_CARDS = "DevCards";
 
         private DevCardDeckMemento() {
-            this.deck = new ArrayList<>();
-            this.deck.addAll(DevelopmentCardDeck.this.deck);
+            this.deck = remaining();
         }
 
         @SuppressFBWarnings("EI_EXPOSE_REP2")
@@ -78,36 +146,35 @@ public class DevelopmentCardDeck implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.deck = parseDevCards(reader.readField(DEV_CARDS));
-        }
-
-        private ArrayList<DevCard> parseDevCards(final String devCardsString) {
-            String[] devCardArray = devCardsString.substring(1, devCardsString.length() - 1).split(", ");
-
-            ArrayList<DevCard> devCards = new ArrayList<>();
-            for (String devCardStr : devCardArray) {
-                devCards.add(DevCard.valueOf(devCardStr.trim()));
-            }
-            return devCards;
+            this.deck = encode(reader.readEnumArray(DEV_CARDS, DevCard.class));
         }
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write each DevCard in the deck to the file
+                writer.writeField(DEV_CARDS, decode(deck, 0, deck.length).toString());
+            }
+        }
 
-            // Write each DevCard in the deck to the file
-            writer.writeField(DEV_CARDS, Arrays.toString(deck.toArray()));
+        private boolean isCurrent() {
+            DevelopmentCardDeck parent = DevelopmentCardDeck.this;
+            return Arrays.equals(this.deck, 0, this.deck.length, parent.cards, parent.cursor, parent.end);
         }
 
         public void restore() {
-            // Deserialize the array of DevCards and replace the deck in DevelopmentCardDeck
-            DevelopmentCardDeck.this.deck.clear();
-            DevelopmentCardDeck.this.deck.addAll(deck);
+            // the snapshot is never written, the deck works on a copy of it
+            DevelopmentCardDeck.this.cards = Arrays.copyOf(deck, deck.length);
+            DevelopmentCardDeck.this.cursor = 0;
+            DevelopmentCardDeck.this.end = deck.length;
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new DevCardDeckMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new DevCardDeckMemento();
+        }
+        return this.lastMemento;
     }
 }
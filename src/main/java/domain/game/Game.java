@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.time.temporal.ValueRange;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.random.RandomGenerator;
 
 import domain.bank.Bank;
 import domain.bank.Resource;
@@ -31,6 +32,9 @@ public class Game implements Restorable {
     private boolean setup = true;
     private static final int ROBBER_NUM = 7;
     private final ValueRange range = java.time.temporal.ValueRange.of(0, 18);
+    private YieldIndex yieldIndex; // built on the first roll
+    private SpotScorer spotScorer; // built when first asked for
+    private final RandomGenerator random; // picks what is stolen
 
      /**
      * Creates a new game object
@@ -38,12 +42,53 @@ public class Game implements Restorable {
      * @param vg the vertexGraph
      * @param devDeck the development card deck
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    @SuppressFBWarnings({"EI_EXPOSE_REP2", "PREDICTABLE_RANDOM"})
     public Game(final GameBoard gb, final GameboardGraph vg, final DevelopmentCardDeck devDeck, final Bank resourceBank) {
+        this(gb, vg, devDeck, resourceBank, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new game object that steals with the given generator
+     * @param random where the resource to steal is picked from
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public Game(final GameBoard gb, final GameboardGraph vg, final DevelopmentCardDeck devDeck, final Bank resourceBank,
+                final RandomGenerator random) {
         this.gameBoard = gb;
         this.gameboardGraph = vg;
         this.deck = devDeck;
         this.bank = resourceBank;
+        this.random = random;
+    }
+
+    private Game(final Game other, final Bank resourceBank, final Player[] players, final RandomGenerator random) {
+        this.gameBoard = other.gameBoard.copy();
+        this.gameboardGraph = other.gameboardGraph.copy(players);
+        this.deck = other.deck.copy();
+        this.bank = resourceBank;
+        this.setup = other.setup;
+        this.yieldIndex = other.yieldIndex != null ? other.yieldIndex.copy(this.gameboardGraph) : null;
+        this.spotScorer = other.spotScorer; // holds no state of the game it was built from
+        this.random = random;
+    }
+
+    /**
+     * Creates an independent copy of this game together with the given players of it
+     *
+     * @param players      the players of this game
+     * @param playerCopies filled with the copies of the players, in the same order
+     * @param random       where the copy picks what is stolen from, the generator of this game is left untouched
+     * @return the copy of this game, owned and played by the copies of the players
+     */
+    public Game copy(final Player[] players, final Player[] playerCopies, final RandomGenerator random) {
+        // players and the loans of the bank refer to each other, so the loans are copied last
+        Bank bankCopy = this.bank.copy();
+        for (int i = 0; i < players.length; i++) {
+            playerCopies[i] = players[i].copy(bankCopy);
+        }
+        this.bank.copyLoansTo(bankCopy, playerCopies);
+
+        return new Game(this, bankCopy, playerCopies, random);
     }
 
     /**
@@ -78,19 +123,10 @@ public class Game implements Restorable {
     }
 
     public Set<Integer> getBuildableVertexes(final Player player) {
-        Set<Integer> buildableVertexes = gameboardGraph.getBuildableVertexes();
         if (setup) {
-            return buildableVertexes;
+            return gameboardGraph.getBuildableVertexes();
         }
-
-        Set<Integer> accessibleVertexes = new HashSet<>();
-        for (Integer v : buildableVertexes) {
-            if (gameboardGraph.getVertex(v).isAdjacentToFriendlyRoad(player)) {
-                accessibleVertexes.add(v);
-            }
-        }
-
-        return accessibleVertexes;
+        return gameboardGraph.getBuildableVertexesRegularPlay(player);
     }
 
     /**
@@ -140,14 +176,22 @@ public class Game implements Restorable {
      * @param condition the vertex or die value
      */
     public void distributeResources(final Player player, final int condition) {
-       Resource[] unadjustedHarvest = (setup) ? resourcesFromVertex(player, condition) : resourcesFromDie(player, condition);
-       Resource[] adjustedHarvest = player.harvestBooster.getAdjustedHarvest(unadjustedHarvest);
+       int[] unadjustedHarvest = (setup) ? countResources(resourcesFromVertex(player, condition)) : getYieldFromDie(player, condition);
+       int[] adjustedHarvest = player.harvestBooster.getAdjustedHarvest(unadjustedHarvest);
 
        if (player.addResources(adjustedHarvest)) {
            bank.removeResources(adjustedHarvest);
        }
     }
 
+    private static int[] countResources(final Resource[] resources) {
+        int[] amounts = new int[Resource.COUNT];
+        for (Resource resource : resources) {
+            amounts[resource.ordinal()]++;
+        }
+        return amounts;
+    }
+
     /**
      * Calculates resources from vertex
      * @param player the player
@@ -177,25 +221,42 @@ public class Game implements Restorable {
      * @return Resource[] an array of resource enums to give to player
      */
     Resource[] resourcesFromDie(final Player player, final int die) {
-        ArrayList<Resource> resources = new ArrayList<>();
         if (die == ROBBER_NUM) {
             return new Resource[0];
         }
-        for (Tile tile : this.gameBoard.getTiles()) {
-            List<Integer> tileVertexes = tile.getVertexIDs();
-            if (tile.getTerrain() != Terrain.DESERT && tile.getDieNumber() == die) {
-                for (int i = 0; i < tile.getVertexIDs().size(); i++) {
-                    Vertex curVertex = gameboardGraph.getVertex(tileVertexes.get(i));
-                    if (curVertex.getOwner() == player) {
-                        for (int numResources = 0; numResources < curVertex.getYield(tile.getResource()); numResources++) {
-                            resources.add(tile.getResource());
-                        }
-                    }
-                }
-            }
+
+        return this.getYieldIndex().getResources(player, die);
+    }
+
+    /**
+     * Calculates how many of each resource the player gets for the given die value
+     * @param player the player
+     * @param die the die value just rolled
+     * @return int[] the amount of each resource indexed by its ordinal, before harvest boosts
+     */
+    public int[] getYieldFromDie(final Player player, final int die) {
+        if (die == ROBBER_NUM) {
+            return new int[Resource.COUNT];
         }
 
-        return resources.toArray(new Resource[0]);
+        return this.getYieldIndex().getYield(player, die);
+    }
+
+    private YieldIndex getYieldIndex() {
+        if (this.yieldIndex == null) {
+            this.yieldIndex = new YieldIndex(this.gameBoard, this.gameboardGraph);
+        }
+        return this.yieldIndex;
+    }
+
+    /**
+     * Gets the scores of the vertexes of this board as spots for a settlement
+     */
+    public SpotScorer getSpotScorer() {
+        if (this.spotScorer == null) {
+            this.spotScorer = new SpotScorer(this.gameBoard, this.gameboardGraph);
+        }
+        return this.spotScorer;
     }
 
     public void updateLoanDueTimes(final Player currentPlayer) {
@@ -241,6 +302,14 @@ public class Game implements Restorable {
         }
     }
 
+    public int[] getVertexesOwnedBy(final Player player) {
+        return gameboardGraph.getVertexesOwnedBy(player);
+    }
+
+    public boolean isCity(final int vertex) {
+        return gameboardGraph.getVertex(vertex).isCity();
+    }
+
     public DistrictType getDistrictTypeForVertex(final int vertex) {
         Vertex v = gameboardGraph.getVertex(vertex);
         return v.getBuilding().getDistrict();
@@ -258,6 +327,19 @@ public class Game implements Restorable {
         }
     }
 
+    public boolean isDevCardDeckEmpty() {
+        return this.deck.isEmpty();
+    }
+
+    /**
+     * Tells whether the given delta can be applied to the stock of the bank
+     *
+     * @see Bank#canApply(int[])
+     */
+    public boolean canBankApply(final int[] delta) {
+        return this.bank.canApply(delta);
+    }
+
     /**
      * Transitions the game from setup to regular play mode
      */
@@ -305,7 +387,6 @@ public class Game implements Restorable {
     /**
      * Allows the robber player to steal a resource from the robbed player given they have enough
      */
-    @SuppressFBWarnings("PREDICTABLE_RANDOM")
     public void stealFromPlayer(final Player robber, final Player robbed) throws NotEnoughResourcesException {
         if (robbed.hand.getResourceCount() == 0) {
             throw new NotEnoughResourcesException();
@@ -313,7 +394,7 @@ public class Game implements Restorable {
         //Get all possible resources
         Resource[] robbedHand = robbed.hand.getResourceTypes();
         //"Randomly" pick a resource
-        int index = (int) (Math.random() * robbedHand.length);
+        int index = this.random.nextInt(robbedHand.length);
         Resource stolen = robbedHand[index];
         //Adjust
         robbed.hand.removeResource(stolen, 1);
@@ -340,17 +421,26 @@ public class Game implements Restorable {
         return pList.toArray(new Player[0]);
     }
 
+    public int getRobberTileId() {
+        return this.gameBoard.getRobberTile().getTileNumber();
+    }
+
+    /**
+     * Gets the tiles where someone other than the given player has a building
+     */
     public Set<Integer> getValidRobberSpots(final Player player) {
-        Set<Integer> robberSpots = new HashSet<>();
-        for (Tile tile : gameBoard.getTiles()) {
-            for (Integer v : tile.getVertexIDs()) {
-                if (gameboardGraph.getVertex(v).ownedByEnemyOf(player)) {
-                    robberSpots.add(tile.getTileNumber());
-                }
-            }
-        }
+        return gameboardGraph.getTilesWithEnemiesOf(player);
+    }
 
-        return robberSpots;
+    /**
+     * Gets the players with a building on the given tile without making a list of them,
+     * bit n of the mask is set if player number n has a building on the tile
+     */
+    public long getPlayerMaskOnTile(final int tileID) {
+        if (!range.isValidIntValue(tileID)) {
+            throw new IllegalArgumentException("Bad tile num");
+        }
+        return gameboardGraph.getTileOccupants(tileID);
     }
 
     /**
@@ -376,14 +466,12 @@ public class Game implements Restorable {
         if (!player.useDevCard(DevCard.PLENTY)) {
             throw new CardNotPlayableException();
         }
-        int amount1 = bank.getResourceAmount(resource1);
-        int amount2 = bank.getResourceAmount(resource2);
-        if (amount1 == 0 || amount2 == 0) {
+        Resource[] resources = {resource1, resource2};
+        // the bank takes both out or neither, this also covers asking twice for its last card
+        if (!bank.removeResources(resources)) {
             player.hand.addDevelopmentCard(DevCard.PLENTY); // re add the dev card because it wasn't used
             throw new NotEnoughResourcesException();
         }
-        Resource[] resources = {resource1, resource2};
-        bank.removeResources(resources);
         player.addResources(resources);
 
     }
@@ -394,6 +482,8 @@ public class Game implements Restorable {
     //
     // -----------------------------------
 
+    private GameMemento lastMemento;
+
     public class GameMemento implements Memento {
 
         // simple fields
@@ -432,7 +522,7 @@ public class Game implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.setup = Boolean.parseBoolean(reader.readField(SETUP));
+            this.setup = reader.readBoolean(SETUP);
 
             // Read sub-mementos from the appropriate sub-folders
             File gameBoardSubFolder = reader.getSubFolder(GAME_BOARD_SUBFOLDER_NAME);
@@ -450,40 +540,64 @@ public class Game implements Restorable {
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(SETUP, Boolean.toString(setup));
 
-            // Write simple fields to the file
-            writer.writeField(SETUP, Boolean.toString(setup));
+                // Save sub mementos' state
+                File gameBoardSubFolder = writer.getSubFolder(GAME_BOARD_SUBFOLDER_NAME);
+                gameBoardMemento.save(gameBoardSubFolder);
 
-            // Save sub mementos' state
-            File gameBoardSubFolder = writer.getSubFolder(GAME_BOARD_SUBFOLDER_NAME);
-            gameBoardMemento.save(gameBoardSubFolder);
+                File gameboardGraphSubFolder = writer.getSubFolder(GAMEBOARD_GRAPH_SUBFOLDER_NAME);
+                gameboardGraphMemento.save(gameboardGraphSubFolder);
 
-            File gameboardGraphSubFolder = writer.getSubFolder(GAMEBOARD_GRAPH_SUBFOLDER_NAME);
-            gameboardGraphMemento.save(gameboardGraphSubFolder);
+                File deckSubFolder = writer.getSubFolder(DECK_SUBFOLDER_NAME);
+                deckMemento.save(deckSubFolder);
 
-            File deckSubFolder = writer.getSubFolder(DECK_SUBFOLDER_NAME);
-            deckMemento.save(deckSubFolder);
+                File bankSubFolder = writer.getSubFolder(BANK_SUBFOLDER_NAME);
+                bankMemento.save(bankSubFolder);
+            }
+        }
 
-            File bankSubFolder = writer.getSubFolder(BANK_SUBFOLDER_NAME);
-            bankMemento.save(bankSubFolder);
+        private boolean isCurrent() {
+            return this.setup == Game.this.setup
+                    && Restorable.allCurrent(
+                            new Memento[]{this.gameBoardMemento, this.gameboardGraphMemento, this.deckMemento, this.bankMemento},
+                            new Restorable[]{Game.this.gameBoard, Game.this.gameboardGraph, Game.this.deck, Game.this.bank});
         }
 
         public void restore() {
+            restoreChanges(null);
+        }
+
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
+            }
+            GameMemento previous = current instanceof GameMemento ? (GameMemento) current : null;
+
             // Restore simple fields
             Game.this.setup = this.setup;
+            Game.this.spotScorer = null; // the tiles or ports might have changed
 
             // Restore sub mementos
-            gameBoardMemento.restore();
-            gameboardGraphMemento.restore();
-            deckMemento.restore();
-            bankMemento.restore();
+            if (previous == null || gameBoardMemento != previous.gameBoardMemento) {
+                gameBoardMemento.restoreChanges(previous != null ? previous.gameBoardMemento : null);
+                Game.this.yieldIndex = null; // the tiles might have changed
+            }
+            gameboardGraphMemento.restoreChanges(previous != null ? previous.gameboardGraphMemento : null);
+            deckMemento.restoreChanges(previous != null ? previous.deckMemento : null);
+            bankMemento.restoreChanges(previous != null ? previous.bankMemento : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new GameMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new GameMemento();
+        }
+        return this.lastMemento;
     }
 }
 
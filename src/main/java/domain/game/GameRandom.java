@@ -0,0 +1,52 @@
+package domain.game;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Helpers for the generators a game draws its randomness from.
+ * <p>
+ * Every game has a generator of its own, split off one root generator per game, so games
+ * running at the same time never share one and a game seeded the same way plays out the same.
+ */
+public final class GameRandom {
+
+    private GameRandom() {
+        // restricts access
+    }
+
+    /**
+     * Shuffles the given array in place, every order being equally likely
+     */
+    public static <T> void shuffle(final T[] items, final RandomGenerator random) {
+        for (int i = items.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T item = items[i];
+            items[i] = items[j];
+            items[j] = item;
+        }
+    }
+
+    /**
+     * Shuffles the given array in place, every order being equally likely
+     */
+    public static void shuffle(final byte[] items, final RandomGenerator random) {
+        for (int i = items.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte item = items[i];
+            items[i] = items[j];
+            items[j] = item;
+        }
+    }
+
+    /**
+     * Creates a new generator from the given one, for a part of a game that needs its own.
+     * Splittable generators are split, any other generator seeds a new one.
+     */
+    public static RandomGenerator split(final RandomGenerator random) {
+        if (random instanceof RandomGenerator.SplittableGenerator splittable) {
+            return splittable.split();
+        }
+        return new SplittableRandom(random.nextLong());
+    }
+}
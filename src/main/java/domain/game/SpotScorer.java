@@ -0,0 +1,216 @@
+package domain.game;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import domain.bank.Resource;
+import domain.gameboard.GameBoard;
+import domain.gameboard.Tile;
+import domain.graphs.BoardTopology;
+import domain.graphs.GameboardGraph;
+import domain.graphs.Vertex;
+
+/**
+ * Ranks the vertexes of a board as spots for a settlement, for bots and hints during setup.
+ * <p>
+ * A spot is worth the pips of the tiles around it, the number of different resources it
+ * produces and the port next to it. All of that is fixed once the tiles and ports are laid
+ * out, so the scores of the whole board are worked out once from flat arrays when the scorer
+ * is built. A scorer never changes afterwards and can be read from any number of threads.
+ * <p>
+ * Note: the robber is ignored, it rarely stays where it is at the start of the game.
+ */
+public final class SpotScorer {
+    public static final int NO_ROAD = -1;
+
+    private static final int NUM_RESOURCES = Resource.COUNT;
+    private static final int PIPS_AT_SEVEN = 6;
+    private static final int SEVEN = 7;
+    private static final double DIVERSITY_WEIGHT = 1.5;
+    private static final double GENERIC_PORT_BONUS = 1.0;
+    private static final double RESOURCE_PORT_WEIGHT = 0.5; // a 2:1 port is worth more the more it gets of its resource
+    private static final double LOOKAHEAD_WEIGHT = 0.5; // the second settlement is a turn or more away
+
+    private final BoardTopology topology;
+    private final double[] scores;
+
+    /**
+     * The best settlement found by a lookahead, the road to build next to it and the value
+     * of both together. The road is NO_ROAD if no road leads towards another spot.
+     */
+    public record Placement(int vertex, int road, double score) {
+    }
+
+    SpotScorer(final GameBoard gameBoard, final GameboardGraph gameboardGraph) {
+        this.topology = gameboardGraph.getTopology();
+
+        // pips of every vertex and resource in one flat array, vertex v at [v * NUM_RESOURCES]
+        float[] pips = new float[GameboardGraph.NUM_VERTICES * NUM_RESOURCES];
+        for (Tile tile : gameBoard.getTiles()) {
+            Resource resource = tile.getResource();
+            if (resource == null || tile.getDieNumber() == SEVEN) {
+                continue; // a seven moves the robber instead of producing
+            }
+            int tilePips = PIPS_AT_SEVEN - Math.abs(SEVEN - tile.getDieNumber());
+            // every corner entry is counted, the same way the game pays out a roll
+            for (int vertex : tile.getVertexIDs()) {
+                pips[vertex * NUM_RESOURCES + resource.ordinal()] += tilePips;
+            }
+        }
+
+        // the resource a port trades, ANY for 3:1 ports, or null where there is none
+        Resource[] ports = new Resource[GameboardGraph.NUM_VERTICES];
+        for (int vertex = 0; vertex < ports.length; vertex++) {
+            Vertex location = gameboardGraph.getVertex(vertex);
+            ports[vertex] = location.hasPort() ? location.getAdjacentPort().getResource() : null;
+        }
+
+        this.scores = new double[GameboardGraph.NUM_VERTICES];
+        for (int vertex = 0; vertex < this.scores.length; vertex++) {
+            int base = vertex * NUM_RESOURCES;
+            double yield = 0;
+            int diversity = 0;
+            for (int r = 0; r < NUM_RESOURCES; r++) {
+                yield += pips[base + r];
+                diversity += pips[base + r] > 0 ? 1 : 0;
+            }
+
+            double port = 0;
+            if (ports[vertex] == Resource.ANY) {
+                port = GENERIC_PORT_BONUS;
+            } else if (ports[vertex] != null) {
+                port = RESOURCE_PORT_WEIGHT * pips[base + ports[vertex].ordinal()];
+            }
+            this.scores[vertex] = yield + DIVERSITY_WEIGHT * diversity + port;
+        }
+    }
+
+    /**
+     * Gets how good the given vertex is as a spot for a settlement, higher is better
+     */
+    public double getScore(final int vertex) {
+        return this.scores[vertex];
+    }
+
+    /**
+     * Gets the scores of all vertexes, indexed by vertex ID
+     */
+    public double[] getScores() {
+        return Arrays.copyOf(this.scores, this.scores.length);
+    }
+
+    /**
+     * Gets the best scoring of the given vertexes, the lowest ID among equal scores
+     *
+     * @throws IllegalArgumentException if no vertexes are given
+     */
+    public int bestVertex(final Iterable<Integer> vertexes) {
+        int best = -1;
+        for (int vertex : vertexes) {
+            int compared = best == -1 ? 1 : Double.compare(this.scores[vertex], this.scores[best]);
+            if (compared > 0 || compared == 0 && vertex < best) {
+                best = vertex;
+            }
+        }
+        if (best == -1) {
+            throw new IllegalArgumentException("No vertexes to pick from");
+        }
+        return best;
+    }
+
+    /**
+     * Gets how good the spots a road leads to are, the score of the best buildable vertex
+     * next to either end of the road, or 0 if there is none
+     */
+    public double getRoadScore(final int road, final Set<Integer> buildableVertexes) {
+        boolean[] buildable = toMask(buildableVertexes);
+        BoardTopology.AdjacencyTable roadToVertex = this.topology.getRoadToVertex();
+        int first = roadToVertex.get(roadToVertex.start(road));
+        int second = this.topology.getTail(road, first);
+        return Math.max(followUp(first, second, buildable), followUp(second, first, buildable));
+    }
+
+    /**
+     * Looks two steps ahead from each buildable vertex: the settlement itself and the road
+     * next to it that leads to the best spot for the next one.
+     * <p>
+     * Meant for setup, where every road next to a buildable vertex is still free.
+     *
+     * @param buildableVertexes the vertexes a settlement can be placed on now
+     * @return the best placement, the lowest IDs among equal values, or null if nothing is buildable
+     */
+    public Placement bestPlacement(final Set<Integer> buildableVertexes) {
+        boolean[] buildable = toMask(buildableVertexes);
+        return buildableVertexes.stream()
+                .map(vertex -> evaluate(vertex, buildable))
+                .reduce(SpotScorer::better)
+                .orElse(null);
+    }
+
+    /**
+     * Does the same as bestPlacement, with the vertexes split up over the threads of the given pool
+     */
+    public Placement bestPlacement(final Set<Integer> buildableVertexes, final ForkJoinPool pool) {
+        boolean[] buildable = toMask(buildableVertexes);
+        int[] candidates = buildableVertexes.stream().mapToInt(Integer::intValue).toArray();
+        return pool.submit(() -> Arrays.stream(candidates)
+                .parallel()
+                .mapToObj(vertex -> evaluate(vertex, buildable))
+                .reduce(SpotScorer::better)
+                .orElse(null)).join();
+    }
+
+    // -----------------------------------
+    //
+    // Lookahead
+    //
+    // -----------------------------------
+
+    private Placement evaluate(final int vertex, final boolean[] buildable) {
+        BoardTopology.AdjacencyTable vertexToRoad = this.topology.getVertexToRoad();
+        Placement best = new Placement(vertex, NO_ROAD, this.scores[vertex]);
+        for (int k = vertexToRoad.start(vertex); k < vertexToRoad.end(vertex); k++) {
+            int road = vertexToRoad.get(k);
+            // the settlement makes every vertex next to it unbuildable, so only the far end of the road counts
+            double follow = followUp(this.topology.getTail(road, vertex), vertex, buildable);
+            if (follow > 0) {
+                best = better(best, new Placement(vertex, road, this.scores[vertex] + LOOKAHEAD_WEIGHT * follow));
+            }
+        }
+        return best;
+    }
+
+    // The best buildable vertex next to the given end of a road, other than its other end
+    private double followUp(final int end, final int otherEnd, final boolean[] buildable) {
+        BoardTopology.AdjacencyTable vertexToVertex = this.topology.getVertexToVertex();
+        double best = 0;
+        for (int k = vertexToVertex.start(end); k < vertexToVertex.end(end); k++) {
+            int next = vertexToVertex.get(k);
+            if (next != otherEnd && buildable[next]) {
+                best = Math.max(best, this.scores[next]);
+            }
+        }
+        return best;
+    }
+
+    // Higher value first, then the lower vertex and road so the result does not depend on the order
+    private static Placement better(final Placement a, final Placement b) {
+        int compared = Double.compare(a.score(), b.score());
+        if (compared != 0) {
+            return compared > 0 ? a : b;
+        }
+        if (a.vertex() != b.vertex()) {
+            return a.vertex() < b.vertex() ? a : b;
+        }
+        return a.road() <= b.road() ? a : b;
+    }
+
+    private static boolean[] toMask(final Set<Integer> vertexes) {
+        boolean[] mask = new boolean[GameboardGraph.NUM_VERTICES];
+        for (int vertex : vertexes) {
+            mask[vertex] = true;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,130 @@
+package domain.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import domain.bank.Resource;
+import domain.gameboard.GameBoard;
+import domain.gameboard.Terrain;
+import domain.gameboard.Tile;
+import domain.graphs.GameboardGraph;
+import domain.graphs.Vertex;
+import domain.player.Player;
+
+/**
+ * Index from every die number to the (vertex, resource) pairs that produce when it is rolled.
+ * <p>
+ * Which vertexes touch which tiles never changes during a game, so the pairs are built once
+ * from the tiles. What a vertex yields depends on its owner, city and district, which the
+ * vertex reads from the board state at the time of the roll. Building, upgrading and
+ * districts are therefore picked up without the index having to be rebuilt, only a change
+ * of the tiles themselves (restoring a game) requires that.
+ * <p>
+ * Note: the tile holding the robber still produces, the same as in Game before this index.
+ */
+final class YieldIndex {
+
+    private static final int MAX_DIE = 12;
+    private static final Resource[] RESOURCES = Resource.values();
+
+    // entries of die d are vertexes[d][i] producing resources[d][i], in tile and then corner order
+    private final Vertex[][] vertexes;
+    private final int[][] resources;
+
+    YieldIndex(final GameBoard gameBoard, final GameboardGraph gameboardGraph) {
+        this.vertexes = new Vertex[MAX_DIE + 1][];
+        this.resources = new int[MAX_DIE + 1][];
+
+        for (int die = 0; die <= MAX_DIE; die++) {
+            List<Vertex> dieVertexes = new ArrayList<>();
+            List<Integer> dieResources = new ArrayList<>();
+            for (Tile tile: gameBoard.getTiles()) {
+                if (tile.getTerrain() != Terrain.DESERT && tile.getDieNumber() == die) {
+                    for (Integer vertexId: tile.getVertexIDs()) {
+                        dieVertexes.add(gameboardGraph.getVertex(vertexId));
+                        dieResources.add(tile.getResource().ordinal());
+                    }
+                }
+            }
+
+            this.vertexes[die] = dieVertexes.toArray(new Vertex[0]);
+            this.resources[die] = new int[dieResources.size()];
+            for (int i = 0; i < this.resources[die].length; i++) {
+                this.resources[die][i] = dieResources.get(i);
+            }
+        }
+    }
+
+    private YieldIndex(final YieldIndex other, final GameboardGraph gameboardGraph) {
+        this.vertexes = new Vertex[MAX_DIE + 1][];
+        for (int die = 0; die <= MAX_DIE; die++) {
+            this.vertexes[die] = new Vertex[other.vertexes[die].length];
+            for (int i = 0; i < this.vertexes[die].length; i++) {
+                this.vertexes[die][i] = gameboardGraph.getVertex(other.vertexes[die][i].getLocationId());
+            }
+        }
+        this.resources = other.resources; // never written after the index is built
+    }
+
+    /**
+     * Creates a copy of this index over the vertexes of the given graph, which must be a copy of
+     * the graph this index was built from
+     */
+    YieldIndex copy(final GameboardGraph gameboardGraph) {
+        return new YieldIndex(this, gameboardGraph);
+    }
+
+    /**
+     * Gets how many of each resource the given player gets for the given die roll
+     *
+     * @return the amounts indexed by resource ordinal
+     */
+    int[] getYield(final Player player, final int die) {
+        int[] yield = new int[Resource.COUNT];
+        if (die < 0 || die > MAX_DIE) {
+            return yield;
+        }
+
+        Vertex[] dieVertexes = this.vertexes[die];
+        int[] dieResources = this.resources[die];
+        for (int i = 0; i < dieVertexes.length; i++) {
+            if (dieVertexes[i].getOwner() == player) {
+                yield[dieResources[i]] += dieVertexes[i].getYield(RESOURCES[dieResources[i]]);
+            }
+        }
+
+        return yield;
+    }
+
+    /**
+     * Gets the resources the given player gets for the given die roll, in the order
+     * of the tiles producing them
+     */
+    Resource[] getResources(final Player player, final int die) {
+        if (die < 0 || die > MAX_DIE) {
+            return new Resource[0];
+        }
+
+        Vertex[] dieVertexes = this.vertexes[die];
+        int[] dieResources = this.resources[die];
+
+        int[] amounts = new int[dieVertexes.length];
+        int total = 0;
+        for (int i = 0; i < dieVertexes.length; i++) {
+            if (dieVertexes[i].getOwner() == player) {
+                amounts[i] = dieVertexes[i].getYield(RESOURCES[dieResources[i]]);
+                total += amounts[i];
+            }
+        }
+
+        Resource[] harvest = new Resource[total];
+        int next = 0;
+        for (int i = 0; i < dieVertexes.length; i++) {
+            for (int j = 0; j < amounts[i]; j++) {
+                harvest[next++] = RESOURCES[dieResources[i]];
+            }
+        }
+
+        return harvest;
+    }
+}
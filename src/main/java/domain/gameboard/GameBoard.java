@@ -3,13 +3,15 @@ package domain.gameboard;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
+import domain.game.GameRandom;
 import domain.game.GameType;
 import data.*;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 public class GameBoard implements Restorable {
-    private static final int NUM_TILES = 19;
+    public static final int NUM_TILES = 19;
     private final Terrain[] terrainOrder = {Terrain.MOUNTAINS, Terrain.PASTURE, Terrain.FORREST, Terrain.FIELDS, Terrain.HILLS, Terrain.PASTURE, Terrain.HILLS, Terrain.FIELDS, Terrain.FORREST,  Terrain.DESERT, Terrain.FORREST, Terrain.MOUNTAINS, Terrain.FORREST, Terrain.MOUNTAINS, Terrain.FIELDS, Terrain.PASTURE, Terrain.HILLS, Terrain.FIELDS, Terrain.PASTURE};
     private final Integer[] dieOrder = {10, 2, 9, 12, 6, 4, 10, 9, 11, 7, 3, 8, 8, 3, 4, 5, 5, 6, 11};
     private Tile robberTile;
@@ -19,10 +21,19 @@ public class GameBoard implements Restorable {
      * Initializes a new GameBoard with specified game type.
      * @param type the game difficulty
      */
+    @SuppressFBWarnings("PREDICTABLE_RANDOM")
     public GameBoard(final GameType type) {
+        this(type, new SplittableRandom());
+    }
+
+    /**
+     * Initializes a new GameBoard whose tiles are shuffled with the given generator
+     * @param type the game difficulty
+     */
+    public GameBoard(final GameType type, final RandomGenerator random) {
         if (type == GameType.Advanced) {
-            Collections.shuffle(Arrays.asList(this.terrainOrder));
-            Collections.shuffle(Arrays.asList(this.dieOrder));
+            GameRandom.shuffle(this.terrainOrder, random);
+            GameRandom.shuffle(this.dieOrder, random);
         }
 
         this.tiles = new Tile[NUM_TILES];
@@ -37,6 +48,24 @@ public class GameBoard implements Restorable {
         }
     }
 
+    private GameBoard(final GameBoard other) {
+        System.arraycopy(other.terrainOrder, 0, this.terrainOrder, 0, NUM_TILES);
+        System.arraycopy(other.dieOrder, 0, this.dieOrder, 0, NUM_TILES);
+
+        this.tiles = new Tile[NUM_TILES];
+        for (int i = 0; i < NUM_TILES; i++) {
+            this.tiles[i] = other.tiles[i].copy();
+        }
+        this.robberTile = this.tiles[other.robberTile.getTileNumber()];
+    }
+
+    /**
+     * Creates an independent copy of this board
+     */
+    public GameBoard copy() {
+        return new GameBoard(this);
+    }
+
     /**
      * Returns the corner vertexes of a tile
      * @param tileNum the number of the tile with desired vertexes
@@ -86,6 +115,8 @@ public class GameBoard implements Restorable {
     //
     // -----------------------------------
 
+    private GameBoardMemento lastMemento;
+
     public class GameBoardMemento implements Memento {
         // simple fields
         private final Terrain[] terrainOrder;
@@ -122,9 +153,9 @@ public class GameBoard implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.terrainOrder = parseTerrainArr(reader.readField(TERRAIN_ORDER));
+            this.terrainOrder = reader.readEnumArray(TERRAIN_ORDER, Terrain.class);
             this.dieOrder = parseDieArr(reader.readField(DIE_ORDER));
-            this.robberTileNum = Integer.parseInt(reader.readField(ROBBER_TILE_NUM));
+            this.robberTileNum = reader.readInt(ROBBER_TILE_NUM);
 
             // Read sub-mementos from the appropriate sub-folders
             this.tileMementos = new Memento[GameBoard.this.tiles.length];
@@ -134,18 +165,6 @@ public class GameBoard implements Restorable {
             }
         }
 
-        private Terrain[] parseTerrainArr(final String terrainOrderString) {
-            String[] terrainValues = terrainOrderString.substring(1, terrainOrderString.length() - 1).split(", ");
-
-            Terrain[] terrains = new Terrain[terrainValues.length];
-            for (int i = 0; i < terrainValues.length; i++) {
-                String terrainValue = terrainValues[i].trim().toUpperCase();
-                terrains[i] = Terrain.valueOf(terrainValue);
-            }
-
-            return terrains;
-        }
-
         private Integer[] parseDieArr(final String dieOrderString) {
             String[] dieValues = dieOrderString.substring(1, dieOrderString.length() - 1).split(", ");
 
@@ -159,22 +178,39 @@ public class GameBoard implements Restorable {
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
-
-            // Write simple fields to the file
-            writer.writeField(TERRAIN_ORDER, Arrays.toString(terrainOrder));
-            writer.writeField(DIE_ORDER, Arrays.toString(dieOrder));
-            writer.writeField(ROBBER_TILE_NUM, Integer.toString(robberTileNum));
-
-            // Save sub mementos' state
-            for (int i = 0; i < tileMementos.length; i++) {
-                // Create a subfolder for each tile's memento
-                File tileSubFolder = writer.getSubFolder(TILE_SUBFOLDER_PREFIX + i);
-                tileMementos[i].save(tileSubFolder);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(TERRAIN_ORDER, Arrays.toString(terrainOrder));
+                writer.writeField(DIE_ORDER, Arrays.toString(dieOrder));
+                writer.writeField(ROBBER_TILE_NUM, Integer.toString(robberTileNum));
+
+                // Save sub mementos' state
+                for (int i = 0; i < tileMementos.length; i++) {
+                    // Create a subfolder for each tile's memento
+                    File tileSubFolder = writer.getSubFolder(TILE_SUBFOLDER_PREFIX + i);
+                    tileMementos[i].save(tileSubFolder);
+                }
             }
         }
 
+        private boolean isCurrent() {
+            return this.robberTileNum == GameBoard.this.robberTile.getTileNumber()
+                    && Arrays.equals(this.terrainOrder, GameBoard.this.terrainOrder)
+                    && Arrays.equals(this.dieOrder, GameBoard.this.dieOrder)
+                    && Restorable.allCurrent(this.tileMementos, GameBoard.this.tiles);
+        }
+
         public void restore() {
+            restoreChanges(null);
+        }
+
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
+            }
+            GameBoardMemento previous = current instanceof GameBoardMemento ? (GameBoardMemento) current : null;
+
             // Restore simple fields
             System.arraycopy(this.terrainOrder, 0, GameBoard.this.terrainOrder, 0, this.terrainOrder.length);
             System.arraycopy(this.dieOrder, 0, GameBoard.this.dieOrder, 0, this.dieOrder.length);
@@ -182,14 +218,15 @@ public class GameBoard implements Restorable {
             GameBoard.this.setRobberTile(GameBoard.this.tiles[this.robberTileNum]);
 
             // Restore sub mementos
-            for (Memento tileMemento : tileMementos) {
-                tileMemento.restore();
-            }
+            Memento.restoreChanges(this.tileMementos, previous != null ? previous.tileMementos : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new GameBoardMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new GameBoardMemento();
+        }
+        return this.lastMemento;
     }
 }
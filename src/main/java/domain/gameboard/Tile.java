@@ -30,6 +30,16 @@ public class Tile implements Restorable {
         this.hasRobber = robber;
     }
 
+    /**
+     * Creates an independent copy of this tile, the corners of a tile never change so they are shared
+     */
+    public Tile copy() {
+        Tile copy = new Tile(this.terrainType, this.dieNumber, this.tileNumber, this.hasRobber);
+        copy.vertexIDs = this.vertexIDs;
+        copy.vertexIDsInitialized = this.vertexIDsInitialized;
+        return copy;
+    }
+
     public void setAdjacentVertexes(final List<Integer> vertexIds) {
         if (this.vertexIDsInitialized) {
             throw new IllegalCallerException("Cannot re-set the adjacent vertexes after initialization");
@@ -110,6 +120,8 @@ public class Tile implements Restorable {
     //
     // -----------------------------------
 
+    private TileMemento lastMemento;
+
     public class TileMemento implements Memento {
         private final Terrain terrainType;
         private final int dieNumber;
@@ -135,19 +147,25 @@ public class Tile implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.terrainType = Terrain.valueOf(reader.readField(TERRAIN_TYPE));
-            this.dieNumber = Integer.parseInt(reader.readField(DIE_NUMBER));
-            this.hasRobber = Boolean.parseBoolean(reader.readField(HAS_ROBBER));
+            this.terrainType = reader.readEnum(TERRAIN_TYPE, Terrain.class);
+            this.dieNumber = reader.readInt(DIE_NUMBER);
+            this.hasRobber = reader.readBoolean(HAS_ROBBER);
         }
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(TERRAIN_TYPE, terrainType.toString());
+                writer.writeField(DIE_NUMBER, Integer.toString(dieNumber));
+                writer.writeField(HAS_ROBBER, Boolean.toString(hasRobber));
+            }
+        }
 
-            // Write simple fields to the file
-            writer.writeField(TERRAIN_TYPE, terrainType.toString());
-            writer.writeField(DIE_NUMBER, Integer.toString(dieNumber));
-            writer.writeField(HAS_ROBBER, Boolean.toString(hasRobber));
+        private boolean isCurrent() {
+            return this.terrainType == Tile.this.terrainType
+                    && this.dieNumber == Tile.this.dieNumber
+                    && this.hasRobber == Tile.this.hasRobber;
         }
 
         public void restore() {
@@ -160,6 +178,9 @@ public class Tile implements Restorable {
 
     @Override
     public Memento createMemento() {
-        return new TileMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new TileMemento();
+        }
+        return this.lastMemento;
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package domain.graphs;
+
+import java.util.Arrays;
+
+import domain.player.Player;
+
+/**
+ * Ownership state of the board stored as flat byte arrays indexed by location ID.
+ * <p>
+ * Owners are not stored as Player references. Every player that gets placed on the board
+ * is registered once and the arrays hold the index of that registration, 0 meaning no
+ * owner. Comparing owners is then a byte comparison and copying the state of the board
+ * is a handful of array copies.
+ * <p>
+ * Vertexes and Roads are views over this state, they read and write their owner here.
+ */
+final class BoardState {
+
+    static final byte NO_OWNER = 0;
+
+    private final byte[] vertexOwner;
+    private final byte[] roadOwner;
+
+    // owners[i - 1] is the player stored as i in the arrays
+    private Player[] owners;
+    private int numOwners;
+
+    BoardState() {
+        this.vertexOwner = new byte[GameboardGraph.NUM_VERTICES];
+        this.roadOwner = new byte[GameboardGraph.NUM_ROADS];
+        this.owners = new Player[0];
+        this.numOwners = 0;
+    }
+
+    private BoardState(final BoardState other) {
+        this.vertexOwner = Arrays.copyOf(other.vertexOwner, other.vertexOwner.length);
+        this.roadOwner = Arrays.copyOf(other.roadOwner, other.roadOwner.length);
+        this.owners = Arrays.copyOf(other.owners, other.owners.length);
+        this.numOwners = other.numOwners;
+    }
+
+    /**
+     * Creates an independent copy of this state that refers to the same players
+     */
+    BoardState copy() {
+        return new BoardState(this);
+    }
+
+    /**
+     * Creates an independent copy of this state that refers to the given players instead,
+     * each owner is replaced by the player with the same number
+     *
+     * @throws IllegalArgumentException if an owner has no player with its number in the given players
+     */
+    BoardState copy(final Player[] players) {
+        BoardState copy = new BoardState(this);
+        for (int i = 0; i < copy.numOwners; i++) {
+            copy.owners[i] = withNumber(players, copy.owners[i].getPlayerNum());
+        }
+        return copy;
+    }
+
+    private static Player withNumber(final Player[] players, final int playerNum) {
+        for (Player player : players) {
+            if (player.getPlayerNum() == playerNum) {
+                return player;
+            }
+        }
+        throw new IllegalArgumentException("No copy of player " + playerNum + " was given");
+    }
+
+    // -----------------------------------------------
+    // Owner registration
+    // -----------------------------------------------
+
+    /**
+     * Gets the index the given player is stored as
+     *
+     * @return the index of the player, NO_OWNER if the player is null or was never placed on the board
+     */
+    byte indexOf(final Player player) {
+        if (player == null) {
+            return NO_OWNER;
+        }
+
+        for (int i = 0; i < this.numOwners; i++) {
+            if (this.owners[i] == player) {
+                return (byte) (i + 1);
+            }
+        }
+        return NO_OWNER;
+    }
+
+    private byte register(final Player player) {
+        byte index = this.indexOf(player);
+        if (index != NO_OWNER || player == null) {
+            return index;
+        }
+
+        if (this.numOwners == Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many players on the board");
+        }
+        if (this.numOwners == this.owners.length) {
+            this.owners = Arrays.copyOf(this.owners, this.numOwners + 1);
+        }
+        this.owners[this.numOwners] = player;
+        this.numOwners++;
+        return (byte) this.numOwners;
+    }
+
+    /**
+     * Gets the number of players ever placed on the board, the highest index in use
+     */
+    int getNumOwners() {
+        return this.numOwners;
+    }
+
+    private Player playerAt(final byte index) {
+        return index == NO_OWNER ? null : this.owners[index - 1];
+    }
+
+    // -----------------------------------------------
+    // Vertexes
+    // -----------------------------------------------
+
+    Player getVertexOwner(final int vertexId) {
+        return this.playerAt(this.vertexOwner[vertexId]);
+    }
+
+    byte getVertexOwnerIndex(final int vertexId) {
+        return this.vertexOwner[vertexId];
+    }
+
+    /**
+     * Sets the owner of the given vertex
+     *
+     * @return true if the owner changed, false if the player already owned it
+     */
+    boolean setVertexOwner(final int vertexId, final Player player) {
+        byte index = this.register(player);
+        if (this.vertexOwner[vertexId] == index) {
+            return false;
+        }
+
+        this.vertexOwner[vertexId] = index;
+        return true;
+    }
+
+    boolean isVertexOccupied(final int vertexId) {
+        return this.vertexOwner[vertexId] != NO_OWNER;
+    }
+
+    /**
+     * Tells whether the given vertex is owned by someone other than the given player
+     */
+    boolean vertexOwnedByEnemyOf(final int vertexId, final byte playerIndex) {
+        byte owner = this.vertexOwner[vertexId];
+        return owner != NO_OWNER && owner != playerIndex;
+    }
+
+    // -----------------------------------------------
+    // Roads
+    // -----------------------------------------------
+
+    Player getRoadOwner(final int roadId) {
+        return this.playerAt(this.roadOwner[roadId]);
+    }
+
+    byte getRoadOwnerIndex(final int roadId) {
+        return this.roadOwner[roadId];
+    }
+
+    /**
+     * Sets the owner of the given road
+     *
+     * @return true if the owner changed, false if the player already owned it
+     */
+    boolean setRoadOwner(final int roadId, final Player player) {
+        byte index = this.register(player);
+        if (this.roadOwner[roadId] == index) {
+            return false;
+        }
+
+        this.roadOwner[roadId] = index;
+        return true;
+    }
+
+    boolean isRoadOccupied(final int roadId) {
+        return this.roadOwner[roadId] != NO_OWNER;
+    }
+}
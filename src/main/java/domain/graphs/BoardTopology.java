@@ -0,0 +1,199 @@
+package domain.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable adjacency of the board stored as flat int arrays.
+ * <p>
+ * Every relation is kept in compressed sparse row form: the neighbors of row i are
+ * the entries between start(i) and end(i) of a single int array. The layout of the
+ * board never changes, so one topology is built per JVM and shared by every game
+ * instead of walking the object graph of each one.
+ */
+public final class BoardTopology {
+
+    public static final int NO_PORT = -1;
+
+    private final AdjacencyTable vertexToVertex;
+    private final AdjacencyTable vertexToRoad;
+    private final AdjacencyTable roadToRoad;
+    private final AdjacencyTable roadToVertex;
+    private final AdjacencyTable tileToVertex;
+    private final AdjacencyTable vertexToTile;
+    private final int[] vertexToPort;
+    private final List<List<Integer>> tileCorners;
+
+    /**
+     * Creates a topology from the given adjacency lists, row i of each array holds the
+     * IDs adjacent to location i. vertexToPortIds holds the adjacent port of each vertex
+     * or NO_PORT if the vertex has none.
+     */
+    public BoardTopology(final int[][] vertexToVertexIds, final int[][] vertexToRoadIds, final int[][] roadToRoadIds,
+                         final int[][] roadToVertexIds, final int[][] tileToVertexIds, final int[] vertexToPortIds) {
+        this.vertexToVertex = new AdjacencyTable(vertexToVertexIds);
+        this.vertexToRoad = new AdjacencyTable(vertexToRoadIds);
+        this.roadToRoad = new AdjacencyTable(roadToRoadIds);
+        this.roadToVertex = new AdjacencyTable(roadToVertexIds);
+        this.tileToVertex = new AdjacencyTable(tileToVertexIds);
+        this.vertexToTile = new AdjacencyTable(invert(tileToVertexIds, vertexToVertexIds.length));
+        this.vertexToPort = Arrays.copyOf(vertexToPortIds, vertexToPortIds.length);
+
+        List<List<Integer>> corners = new ArrayList<>(tileToVertexIds.length);
+        for (int[] row : tileToVertexIds) {
+            corners.add(List.of(Arrays.stream(row).boxed().toArray(Integer[]::new)));
+        }
+        this.tileCorners = List.copyOf(corners);
+    }
+
+    public AdjacencyTable getVertexToVertex() {
+        return this.vertexToVertex;
+    }
+
+    public AdjacencyTable getVertexToRoad() {
+        return this.vertexToRoad;
+    }
+
+    public AdjacencyTable getRoadToRoad() {
+        return this.roadToRoad;
+    }
+
+    public AdjacencyTable getRoadToVertex() {
+        return this.roadToVertex;
+    }
+
+    public AdjacencyTable getTileToVertex() {
+        return this.tileToVertex;
+    }
+
+    /**
+     * Gets the vertexes at the corners of the given tile as an unmodifiable list.
+     * The list holds only IDs, so the tiles of every game share it.
+     */
+    public List<Integer> getTileCorners(final int tileId) {
+        return this.tileCorners.get(tileId);
+    }
+
+    /**
+     * Gets the tiles each vertex is a corner of, the inverse of getTileToVertex
+     */
+    public AdjacencyTable getVertexToTile() {
+        return this.vertexToTile;
+    }
+
+    // Turns rows of IDs into rows of the rows that point to each ID
+    private static int[][] invert(final int[][] rows, final int numTargets) {
+        int[] degrees = new int[numTargets];
+        for (int[] row : rows) {
+            for (int target : row) {
+                degrees[target]++;
+            }
+        }
+
+        int[][] inverse = new int[numTargets][];
+        for (int i = 0; i < numTargets; i++) {
+            inverse[i] = new int[degrees[i]];
+            degrees[i] = 0;
+        }
+        for (int i = 0; i < rows.length; i++) {
+            for (int target : rows[i]) {
+                inverse[target][degrees[target]++] = i;
+            }
+        }
+        return inverse;
+    }
+
+    /**
+     * Gets the ID of the port next to the given vertex
+     *
+     * @return the port ID, NO_PORT if the vertex is not next to a port
+     */
+    public int getAdjacentPort(final int vertexId) {
+        return this.vertexToPort[vertexId];
+    }
+
+    /**
+     * Gets the vertex at the other end of the given road
+     */
+    public int getTail(final int roadId, final int originVertexId) {
+        int first = this.roadToVertex.get(this.roadToVertex.start(roadId));
+        return first != originVertexId ? first : this.roadToVertex.get(this.roadToVertex.start(roadId) + 1);
+    }
+
+    /**
+     * A single relation in compressed sparse row form.
+     * <p>
+     * Usage: {@code for (int k = table.start(i); k < table.end(i); k++) { int j = table.get(k); }}
+     */
+    public static final class AdjacencyTable {
+        private final int[] offsets;
+        private final int[] targets;
+
+        private AdjacencyTable(final int[][] rows) {
+            this.offsets = new int[rows.length + 1];
+            for (int i = 0; i < rows.length; i++) {
+                this.offsets[i + 1] = this.offsets[i] + rows[i].length;
+            }
+
+            this.targets = new int[this.offsets[rows.length]];
+            for (int i = 0; i < rows.length; i++) {
+                System.arraycopy(rows[i], 0, this.targets, this.offsets[i], rows[i].length);
+            }
+        }
+
+        /**
+         * Gets the number of rows in this table
+         */
+        public int size() {
+            return this.offsets.length - 1;
+        }
+
+        /**
+         * Gets the index of the first neighbor of the given row
+         */
+        public int start(final int row) {
+            return this.offsets[row];
+        }
+
+        /**
+         * Gets the index after the last neighbor of the given row
+         */
+        public int end(final int row) {
+            return this.offsets[row + 1];
+        }
+
+        /**
+         * Gets the number of neighbors of the given row
+         */
+        public int degree(final int row) {
+            return this.offsets[row + 1] - this.offsets[row];
+        }
+
+        /**
+         * Gets the neighbor stored at the given index
+         */
+        public int get(final int index) {
+            return this.targets[index];
+        }
+
+        /**
+         * Tells whether the given row has the given neighbor
+         */
+        public boolean contains(final int row, final int neighbor) {
+            for (int k = this.offsets[row]; k < this.offsets[row + 1]; k++) {
+                if (this.targets[k] == neighbor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Gets a copy of the neighbors of the given row
+         */
+        public int[] getRow(final int row) {
+            return Arrays.copyOfRange(this.targets, this.offsets[row], this.offsets[row + 1]);
+        }
+    }
+}
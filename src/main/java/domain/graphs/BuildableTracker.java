@@ -0,0 +1,244 @@
+package domain.graphs;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the buildable Vertexes and Roads of every player as bitmasks so that the graph does
+ * not have to check the whole board every time they are asked for.
+ * <p>
+ * Three masks are kept: the vertexes that are empty and observe the distance rule, and for
+ * each player the vertexes next to one of their roads and the roads they can build on.
+ * When a Vertex or Road changes owner only the bits of the locations around it are worked
+ * out again.
+ * <p>
+ * Like the LongestRoadTracker, changes are recorded when they happen and worked off the next
+ * time a mask is requested, so owners can be set before the topology of the graph is known.
+ */
+class BuildableTracker {
+    private static final int VERTEX_WORDS = LocationBits.wordsFor(GameboardGraph.NUM_VERTICES);
+    private static final int ROAD_WORDS = LocationBits.wordsFor(GameboardGraph.NUM_ROADS);
+
+    private final GameboardGraph gameboardGraph;
+    private final BoardState boardState;
+
+    private final long[] freeVertexes;
+    // indexed by the board state index of the player, index 0 is never used
+    private long[][] vertexesNextToRoad;
+    private long[][] buildableRoads;
+
+    // changes recorded since the last update
+    private final boolean[] dirtyRoads;
+    private final boolean[] dirtyVertexes;
+    private boolean hasChanges;
+    private boolean isBuilt;
+
+    BuildableTracker(final GameboardGraph graph) {
+        this.gameboardGraph = graph;
+        this.boardState = graph.getBoardState();
+        this.freeVertexes = new long[VERTEX_WORDS];
+        this.vertexesNextToRoad = new long[1][];
+        this.buildableRoads = new long[1][];
+        this.dirtyRoads = new boolean[GameboardGraph.NUM_ROADS];
+        this.dirtyVertexes = new boolean[GameboardGraph.NUM_VERTICES];
+        this.hasChanges = false;
+        this.isBuilt = false;
+    }
+
+    /**
+     * Records that the owner of the road with the given ID changed
+     */
+    void roadChanged(final int roadId) {
+        this.dirtyRoads[roadId] = true;
+        this.hasChanges = true;
+    }
+
+    /**
+     * Records that the owner of the vertex with the given ID changed
+     */
+    void vertexChanged(final int vertexId) {
+        this.dirtyVertexes[vertexId] = true;
+        this.hasChanges = true;
+    }
+
+    // -----------------------------------
+    //
+    // Queries
+    //
+    // -----------------------------------
+
+    /**
+     * Gets the vertexes that are empty and observe the distance rule
+     */
+    LocationBits getFreeVertexes() {
+        this.update();
+        return new LocationBits(this.freeVertexes);
+    }
+
+    /**
+     * Gets the free vertexes that are next to a road of the player with the given index
+     */
+    LocationBits getFreeVertexesNextToRoad(final byte playerIndex) {
+        this.update();
+        if (playerIndex == BoardState.NO_OWNER) {
+            return new LocationBits(new long[VERTEX_WORDS]);
+        }
+
+        long[] bits = new long[VERTEX_WORDS];
+        for (int i = 0; i < VERTEX_WORDS; i++) {
+            bits[i] = this.freeVertexes[i] & this.vertexesNextToRoad[playerIndex][i];
+        }
+        return new LocationBits(bits);
+    }
+
+    /**
+     * Gets the roads the player with the given index can build on in regular play
+     */
+    LocationBits getBuildableRoads(final byte playerIndex) {
+        this.update();
+        if (playerIndex == BoardState.NO_OWNER) {
+            return new LocationBits(new long[ROAD_WORDS]);
+        }
+        return new LocationBits(this.buildableRoads[playerIndex]);
+    }
+
+    // -----------------------------------
+    //
+    // Updating
+    //
+    // -----------------------------------
+
+    /**
+     * Works off the changes recorded since the last update, or builds every mask if they were
+     * never built.
+     */
+    private void update() {
+        this.ensurePlayers();
+        if (!this.isBuilt) {
+            this.rebuild();
+            return;
+        }
+        if (!this.hasChanges) {
+            return;
+        }
+
+        BoardTopology topology = this.gameboardGraph.getTopology();
+        BoardTopology.AdjacencyTable vertexToVertex = topology.getVertexToVertex();
+        BoardTopology.AdjacencyTable vertexToRoad = topology.getVertexToRoad();
+        BoardTopology.AdjacencyTable roadToVertex = topology.getRoadToVertex();
+
+        for (int vertexId = 0; vertexId < GameboardGraph.NUM_VERTICES; vertexId++) {
+            if (!this.dirtyVertexes[vertexId]) {
+                continue;
+            }
+
+            // the distance rule of the vertex and its neighbors
+            this.refreshFreeVertex(vertexId);
+            for (int k = vertexToVertex.start(vertexId); k < vertexToVertex.end(vertexId); k++) {
+                this.refreshFreeVertex(vertexToVertex.get(k));
+            }
+
+            // an enemy building cuts off the roads that go through it
+            for (int k = vertexToRoad.start(vertexId); k < vertexToRoad.end(vertexId); k++) {
+                this.refreshRoadNeighbors(vertexToRoad.get(k));
+            }
+        }
+
+        for (int roadId = 0; roadId < GameboardGraph.NUM_ROADS; roadId++) {
+            if (!this.dirtyRoads[roadId]) {
+                continue;
+            }
+
+            this.refreshRoad(roadId);
+            this.refreshRoadNeighbors(roadId);
+            for (int k = roadToVertex.start(roadId); k < roadToVertex.end(roadId); k++) {
+                this.refreshVertexNextToRoad(roadToVertex.get(k));
+            }
+        }
+
+        Arrays.fill(this.dirtyVertexes, false);
+        Arrays.fill(this.dirtyRoads, false);
+        this.hasChanges = false;
+    }
+
+    private void rebuild() {
+        for (int vertexId = 0; vertexId < GameboardGraph.NUM_VERTICES; vertexId++) {
+            this.refreshFreeVertex(vertexId);
+            this.refreshVertexNextToRoad(vertexId);
+        }
+        for (int roadId = 0; roadId < GameboardGraph.NUM_ROADS; roadId++) {
+            this.refreshRoad(roadId);
+        }
+
+        Arrays.fill(this.dirtyVertexes, false);
+        Arrays.fill(this.dirtyRoads, false);
+        this.hasChanges = false;
+        this.isBuilt = true;
+    }
+
+    // Makes room for the masks of players that were placed on the board since the last update
+    private void ensurePlayers() {
+        int size = this.boardState.getNumOwners() + 1;
+        if (size <= this.buildableRoads.length) {
+            return;
+        }
+
+        int oldSize = this.buildableRoads.length;
+        this.vertexesNextToRoad = Arrays.copyOf(this.vertexesNextToRoad, size);
+        this.buildableRoads = Arrays.copyOf(this.buildableRoads, size);
+        for (int i = Math.max(oldSize, 1); i < size; i++) {
+            this.vertexesNextToRoad[i] = new long[VERTEX_WORDS];
+            this.buildableRoads[i] = new long[ROAD_WORDS];
+        }
+
+        // a new player can already own something the masks have not seen
+        this.isBuilt = false;
+    }
+
+    private void refreshFreeVertex(final int vertexId) {
+        LocationBits.assign(this.freeVertexes, vertexId, this.gameboardGraph.isVertexBuildable(vertexId));
+    }
+
+    private void refreshVertexNextToRoad(final int vertexId) {
+        for (int playerIndex = 1; playerIndex < this.vertexesNextToRoad.length; playerIndex++) {
+            LocationBits.clear(this.vertexesNextToRoad[playerIndex], vertexId);
+        }
+
+        BoardTopology.AdjacencyTable vertexToRoad = this.gameboardGraph.getTopology().getVertexToRoad();
+        for (int k = vertexToRoad.start(vertexId); k < vertexToRoad.end(vertexId); k++) {
+            byte owner = this.boardState.getRoadOwnerIndex(vertexToRoad.get(k));
+            if (owner != BoardState.NO_OWNER) {
+                LocationBits.set(this.vertexesNextToRoad[owner], vertexId);
+            }
+        }
+    }
+
+    // Whether a road is buildable depends on its neighbors, so changes to a road reach one road further
+    private void refreshRoadNeighbors(final int roadId) {
+        BoardTopology.AdjacencyTable roadToRoad = this.gameboardGraph.getTopology().getRoadToRoad();
+        for (int k = roadToRoad.start(roadId); k < roadToRoad.end(roadId); k++) {
+            this.refreshRoad(roadToRoad.get(k));
+        }
+    }
+
+    /**
+     * Works out who can build the given road, the same way GameboardGraph.isRoadBuildableBy does:
+     * the road is empty and next to one of their roads that is not next to an enemy vertex.
+     */
+    private void refreshRoad(final int roadId) {
+        for (int playerIndex = 1; playerIndex < this.buildableRoads.length; playerIndex++) {
+            LocationBits.clear(this.buildableRoads[playerIndex], roadId);
+        }
+        if (this.boardState.isRoadOccupied(roadId)) {
+            return;
+        }
+
+        BoardTopology.AdjacencyTable roadToRoad = this.gameboardGraph.getTopology().getRoadToRoad();
+        for (int k = roadToRoad.start(roadId); k < roadToRoad.end(roadId); k++) {
+            int neighborId = roadToRoad.get(k);
+            byte owner = this.boardState.getRoadOwnerIndex(neighborId);
+            if (owner != BoardState.NO_OWNER && !this.gameboardGraph.isRoadNextToEnemyVertex(neighborId, owner)) {
+                LocationBits.set(this.buildableRoads[owner], roadId);
+            }
+        }
+    }
+}
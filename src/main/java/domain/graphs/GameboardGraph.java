@@ -3,8 +3,10 @@ package domain.graphs;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 import data.*;
+import domain.game.GameRandom;
 import domain.game.InvalidPlacementException;
 import domain.game.NotEnoughResourcesException;
 import domain.player.Player;
@@ -25,6 +27,12 @@ public class GameboardGraph implements Restorable {
     private final Vertex[] vertexes;
     private final Port[] ports;
     private final Road[] roads;
+    private final LongestRoadTracker longestRoadTracker;
+    private final BuildableTracker buildableTracker;
+    private final TileOccupancy tileOccupancy;
+    private final LongestPathSearch longestPathSearch;
+    private final BoardState boardState;
+    private BoardTopology topology;
 
     /**
      * Creates a new vertex graph with the default number of vertices.
@@ -32,16 +40,29 @@ public class GameboardGraph implements Restorable {
      * Note: Adjacency must be initialized separately by calling
      * the appropriate initializer methods
      */
+    @SuppressFBWarnings("PREDICTABLE_RANDOM")
     public GameboardGraph(final GameType gameType) {
+        this(gameType, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new vertex graph whose ports are shuffled with the given generator
+     */
+    public GameboardGraph(final GameType gameType, final RandomGenerator random) {
+        this.boardState = new BoardState();
         this.vertexes = new Vertex[NUM_VERTICES];
         this.ports = new Port[NUM_PORTS];
+        this.longestRoadTracker = new LongestRoadTracker(this);
+        this.buildableTracker = new BuildableTracker(this);
+        this.tileOccupancy = new TileOccupancy(this);
+        this.longestPathSearch = new LongestPathSearch(this);
 
         for (int i = 0; i < NUM_VERTICES; i++) {
-            this.vertexes[i] = new Vertex(i);
+            this.vertexes[i] = new Vertex(i, this);
         }
 
         if (gameType == GameType.Advanced) {
-            Collections.shuffle(Arrays.asList(this.portResources));
+            GameRandom.shuffle(this.portResources, random);
         }
 
         for (int i = 0; i < NUM_PORTS; i++) {
@@ -51,10 +72,82 @@ public class GameboardGraph implements Restorable {
         this.roads = new Road[NUM_ROADS];
 
         for (int i = 0; i < NUM_ROADS; i++) {
-            this.roads[i] = new Road(i);
+            this.roads[i] = new Road(i, this);
+        }
+    }
+
+    /**
+     * Creates a copy of the given graph whose buildings are owned by the given players
+     */
+    private GameboardGraph(final GameboardGraph other, final Player[] players) {
+        this.boardState = other.boardState.copy(players);
+        this.topology = other.getTopology();
+        this.vertexes = new Vertex[NUM_VERTICES];
+        this.ports = new Port[NUM_PORTS];
+        this.roads = new Road[NUM_ROADS];
+        this.longestPathSearch = new LongestPathSearch(this);
+        System.arraycopy(other.portResources, 0, this.portResources, 0, NUM_PORTS);
+
+        for (int i = 0; i < NUM_VERTICES; i++) {
+            this.vertexes[i] = new Vertex(other.vertexes[i], this);
+        }
+        for (int i = 0; i < NUM_PORTS; i++) {
+            this.ports[i] = new Port(i, other.ports[i].getResource());
+        }
+        for (int i = 0; i < NUM_ROADS; i++) {
+            this.roads[i] = new Road(i, this);
+        }
+
+        // the adjacency lists of the Vertexes and Roads are only made when they are first needed
+        for (int i = 0; i < NUM_VERTICES; i++) {
+            int portId = this.topology.getAdjacentPort(i);
+            this.vertexes[i].setAdjacentPort(portId == BoardTopology.NO_PORT ? null : this.ports[portId]);
+        }
+
+        // the trackers work out the road components and the masks of the copy the first time they are asked
+        this.buildableTracker = new BuildableTracker(this);
+        this.tileOccupancy = new TileOccupancy(this);
+        this.longestRoadTracker = new LongestRoadTracker(this);
+        for (int i = 0; i < NUM_ROADS; i++) {
+            if (this.boardState.isRoadOccupied(i)) {
+                this.longestRoadTracker.roadChanged(i);
+            }
         }
     }
 
+    /**
+     * Creates an independent copy of this graph. The owners of the copy are the players of the
+     * given array with the same number as the owners of this graph.
+     *
+     * @param players the players of the copy, one for every player owning something on this graph
+     * @throws RuntimeException if the topology of this graph is not initialized yet
+     */
+    public GameboardGraph copy(final Player[] players) {
+        return new GameboardGraph(this, players);
+    }
+
+    /**
+     * Lists the Vertexes the given row of the given topology table points to
+     */
+    List<Vertex> listVertexes(final BoardTopology.AdjacencyTable table, final int row) {
+        List<Vertex> vertexList = new ArrayList<>(table.degree(row));
+        for (int k = table.start(row); k < table.end(row); k++) {
+            vertexList.add(this.vertexes[table.get(k)]);
+        }
+        return vertexList;
+    }
+
+    /**
+     * Lists the Roads the given row of the given topology table points to
+     */
+    List<Road> listRoads(final BoardTopology.AdjacencyTable table, final int row) {
+        List<Road> roadList = new ArrayList<>(table.degree(row));
+        for (int k = table.start(row); k < table.end(row); k++) {
+            roadList.add(this.roads[table.get(k)]);
+        }
+        return roadList;
+    }
+
     /**
      * Returns the vertex with the specified ID.
      * @param locationId the ID of the vertex to retrieve
@@ -119,6 +212,45 @@ public class GameboardGraph implements Restorable {
         return this.roads[locationId];
     }
 
+    /**
+     * Sets the shared adjacency tables this graph answers its queries from. This method is
+     * intended to be called only once, the Vertexes and Roads make their adjacency lists
+     * from these tables when first asked for them.
+     *
+     * @param boardTopology the adjacency of the board
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public void initializeTopology(final BoardTopology boardTopology) {
+        if (this.topology != null) {
+            throw new IllegalCallerException("Cannot re-set the topology after initialization");
+        }
+        this.topology = boardTopology;
+    }
+
+    /**
+     * Gets the adjacency tables of this graph.
+     *
+     * @throws RuntimeException if the graph is not initialized yet
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public BoardTopology getTopology() {
+        if (this.topology == null) {
+            throw new RuntimeException("Board topology uninitialized");
+        }
+        return this.topology;
+    }
+
+    boolean hasTopology() {
+        return this.topology != null;
+    }
+
+    /**
+     * Gets the ownership arrays the Vertexes and Roads of this graph are views over
+     */
+    BoardState getBoardState() {
+        return this.boardState;
+    }
+
     // ----------------------------------------------------------------------------
     //
     // Longest road stuff
@@ -127,30 +259,31 @@ public class GameboardGraph implements Restorable {
 
     /**
      * Function that calculates the longest path given the starting road and origin vertex of the path.
+     * <p>
+     * Note: kept for existing callers, the search itself is done by the allocation free
+     * {@link #getLongestPath(Road, Player, Vertex)}. Neither set is changed anymore.
+     *
+     * @param paths        only read, a path in it longer than the one found is returned instead;
+     *                     the paths walked by the search are no longer added to it
+     * @param visitedRoads only read, its roads count as already being on the path
      */
     public int getLongestPath(final Road startingRoad, final Player player, final HashSet<HashSet<Road>> paths, final HashSet<Road> visitedRoads, final Vertex origin) {
-        if (startingRoad.getOwner() != player) {
-            throw new IllegalStateException("Road does not own player, check calling method");
-        }
-
-        if (origin.ownedByEnemyOf(player)) {
-            return -1; // stop here before we add ourselves to the path because we are blocked off
+        long visitedLow = 0;
+        long visitedHigh = 0;
+        for (Road road: visitedRoads) {
+            int roadId = road.getLocationId();
+            if (roadId < Long.SIZE) {
+                visitedLow |= 1L << roadId;
+            } else {
+                visitedHigh |= 1L << (roadId - Long.SIZE);
+            }
         }
 
-        // add ourselves to the current path and the path to the list of paths
-        visitedRoads.add(startingRoad);
-        paths.add(visitedRoads);
-
-        Vertex tail = startingRoad.getTail(origin);
-        for (Road neighbor: tail.getAdjacentRoads()) { // now we only have 2 options to branch off of
-            if (neighbor.getOwner() == player && !visitedRoads.contains(neighbor)) {
-
-                HashSet<Road> newPath = new HashSet<>(visitedRoads);
-                getLongestPath(neighbor, player, paths, newPath, tail); // origin of the next one is the tail of this one
-            }
+        int longestLength = this.longestPathSearch.search(startingRoad.getLocationId(), player, origin.getLocationId(), visitedLow, visitedHigh);
+        if (longestLength < 0) {
+            return longestLength; // blocked off
         }
 
-        int longestLength = 0;
         for (HashSet<Road> path: paths) {
             longestLength = Math.max(longestLength, path.size());
         }
@@ -158,6 +291,16 @@ public class GameboardGraph implements Restorable {
         return longestLength;
     }
 
+    /**
+     * Function that calculates the longest path given the starting road and origin vertex of the path.
+     *
+     * @return the number of roads on the longest path, -1 if the origin is owned by an enemy of the player
+     * @throws IllegalStateException if the starting road is not owned by the given player
+     */
+    public int getLongestPath(final Road startingRoad, final Player player, final Vertex origin) {
+        return this.longestPathSearch.search(startingRoad.getLocationId(), player, origin.getLocationId(), 0, 0);
+    }
+
     /**
      * Method that gives the correct player the longest road card according to the game rules
      * <p>
@@ -168,27 +311,12 @@ public class GameboardGraph implements Restorable {
      * that the special cases of transfer-ship are correctly set up.
      */
     public void giveLongestRoadCard() {
-        // Code that maps players to their longest paths
+        // Code that maps players to their longest paths, only the roads that changed since
+        // the last call are searched again by the tracker
         Set<Player> players = this.getPlayers();
         HashMap<Player, Integer> playerToLongestPathMap = new HashMap<>();
         for (Player player: players) {
-
-            Set<Vertex> origins = this.getOrigins(player); // get starting points for our searches
-
-            int longest = 0;
-            for (Vertex origin: origins) { // loop though all the path origin vertexes
-
-                // Note: looping though all of these is fine because only 1 will be the longest and if it is a vertex not connected
-                // to anything then it simply be skipped
-                for (Road startingRoad: origin.getAdjacentRoads()) {
-                    if (startingRoad.getOwner() == player) { // make sure we only start at Roads owned by the player
-                        int pathLength = this.getLongestPath(startingRoad, player, new HashSet<>(), new HashSet<>(), origin);
-                        longest = Math.max(pathLength, longest);
-                    }
-                }
-            }
-
-            playerToLongestPathMap.put(player, longest); // add the longest path to the map of players to their longest path
+            playerToLongestPathMap.put(player, this.longestRoadTracker.getLongestPath(player));
         }
 
         // ----------------------------------------------------------------------------
@@ -300,24 +428,6 @@ public class GameboardGraph implements Restorable {
         return false;
     }
 
-    /**
-     * Helper method that finds all vertexes that are part of the players road graph and not
-     * owned by an enemy
-     */
-    private Set<Vertex> getOrigins(final Player player) {
-        HashSet<Vertex> origins = new HashSet<>();
-
-        for (Road road: this.roads) { // note we don't have to enforce that this be a road adjacent to the player because that is checked later
-            for (Vertex vertex: road.getAdjacentVertexes()) {
-                if (!vertex.ownedByEnemyOf(player)) {
-                    origins.add(vertex);
-                }
-            }
-        }
-
-        return origins;
-    }
-
     /**
      * Helper method that returns the set of player in the game by extracting the owners of the roads
      * held in this graph
@@ -338,37 +448,210 @@ public class GameboardGraph implements Restorable {
         return players;
     }
 
-    public Set<Integer> getBuildableVertexes() {
-        Set<Integer> buildableVertexes = new HashSet<>();
-        for (Vertex v : vertexes) {
-            if (v.isBuildable()) {
-                buildableVertexes.add(v.getLocationId());
+    /**
+     * Gets the length of the longest road the given player has on the board
+     *
+     * @return the longest road of the player, 0 if the player has no roads
+     */
+    public int getLongestRoadLength(final Player player) {
+        return this.longestRoadTracker.getLongestPath(player);
+    }
+
+    /**
+     * Called by the Roads of this graph whenever their owner changes
+     */
+    void roadChanged(final Road road) {
+        this.longestRoadTracker.roadChanged(road.getLocationId());
+        this.buildableTracker.roadChanged(road.getLocationId());
+    }
+
+    /**
+     * Called by the Vertexes of this graph whenever their owner changes
+     */
+    void vertexChanged(final Vertex vertex) {
+        this.longestRoadTracker.vertexChanged(vertex.getLocationId());
+        this.buildableTracker.vertexChanged(vertex.getLocationId());
+        this.tileOccupancy.vertexChanged(vertex.getLocationId());
+    }
+
+    // ----------------------------------------------------------------------------
+    //
+    // Buildable queries, answered from the topology tables
+    //
+    // ----------------------------------------------------------------------------
+
+    /**
+     * Tells whether the vertex with the given ID is empty and observes the distance rule.
+     *
+     * @see Vertex#isBuildable()
+     */
+    public boolean isVertexBuildable(final int vertexId) {
+        if (this.boardState.isVertexOccupied(vertexId)) {
+            return false;
+        }
+
+        BoardTopology.AdjacencyTable vertexToVertex = this.getTopology().getVertexToVertex();
+        for (int k = vertexToVertex.start(vertexId); k < vertexToVertex.end(vertexId); k++) {
+            if (this.boardState.isVertexOccupied(vertexToVertex.get(k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether the given player can build on the vertex with the given ID in regular play.
+     *
+     * @see Vertex#isBuildableBy(Player)
+     */
+    public boolean isVertexBuildableBy(final int vertexId, final Player player) {
+        if (!this.isVertexBuildable(vertexId)) {
+            return false;
+        }
+
+        return this.isVertexNextToRoadOf(vertexId, player);
+    }
+
+    /**
+     * Tells whether the vertex with the given ID is next to a road of the given player.
+     *
+     * @see Vertex#isAdjacentToFriendlyRoad(Player)
+     */
+    public boolean isVertexNextToRoadOf(final int vertexId, final Player player) {
+        byte playerIndex = this.boardState.indexOf(player);
+        if (playerIndex == BoardState.NO_OWNER) {
+            return false; // has no roads at all
+        }
+
+        BoardTopology.AdjacencyTable vertexToRoad = this.getTopology().getVertexToRoad();
+        for (int k = vertexToRoad.start(vertexId); k < vertexToRoad.end(vertexId); k++) {
+            if (this.boardState.getRoadOwnerIndex(vertexToRoad.get(k)) == playerIndex) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Tells whether the given player can build on the road with the given ID in regular play.
+     * This is true if the road is empty and next to a friendly road that is not next to an
+     * enemy vertex.
+     *
+     * @see Road#isBuildableBy(Player)
+     */
+    public boolean isRoadBuildableBy(final int roadId, final Player player) {
+        if (this.boardState.isRoadOccupied(roadId)) {
+            return false;
+        }
+
+        byte playerIndex = this.boardState.indexOf(player);
+        if (playerIndex == BoardState.NO_OWNER) {
+            return false; // has no roads at all
+        }
+
+        BoardTopology.AdjacencyTable roadToRoad = this.getTopology().getRoadToRoad();
+        for (int k = roadToRoad.start(roadId); k < roadToRoad.end(roadId); k++) {
+            int neighborId = roadToRoad.get(k);
+            if (this.boardState.getRoadOwnerIndex(neighborId) == playerIndex && !this.isRoadNextToEnemyVertex(neighborId, playerIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isRoadNextToEnemyVertex(final int roadId, final byte playerIndex) {
+        BoardTopology.AdjacencyTable roadToVertex = this.topology.getRoadToVertex();
+        for (int k = roadToVertex.start(roadId); k < roadToVertex.end(roadId); k++) {
+            if (this.boardState.vertexOwnedByEnemyOf(roadToVertex.get(k), playerIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the vertexes that are empty and observe the distance rule, as placed in setup
+     *
+     * @return an immutable snapshot of the buildable vertexes
+     */
+    public Set<Integer> getBuildableVertexes() {
+        return this.buildableTracker.getFreeVertexes();
+    }
 
-        return buildableVertexes;
+    /**
+     * Gets the vertexes the given player can build on in regular play, the free vertexes
+     * next to one of their roads
+     *
+     * @return an immutable snapshot of the buildable vertexes
+     */
+    public Set<Integer> getBuildableVertexesRegularPlay(final Player player) {
+        return this.buildableTracker.getFreeVertexesNextToRoad(this.boardState.indexOf(player));
     }
 
     public Set<Integer> getBuildableRoadsSetup(final int lastPlacedVertex) {
-        Set<Integer> buildableRoads = new HashSet<>();
-        for (Road r : roads) {
-            if (r.isBuildable() && r.isAdjacentTo(getVertex(lastPlacedVertex))) {
-                buildableRoads.add(r.getLocationId());
+        this.getVertex(lastPlacedVertex); // checks the bounds
+
+        long[] buildableRoads = new long[LocationBits.wordsFor(NUM_ROADS)];
+        BoardTopology.AdjacencyTable vertexToRoad = this.getTopology().getVertexToRoad();
+        for (int k = vertexToRoad.start(lastPlacedVertex); k < vertexToRoad.end(lastPlacedVertex); k++) {
+            int roadId = vertexToRoad.get(k);
+            if (!this.boardState.isRoadOccupied(roadId)) {
+                LocationBits.set(buildableRoads, roadId);
             }
         }
 
-        return buildableRoads;
+        return new LocationBits(buildableRoads);
     }
 
-    public Set<Integer> getBuildableRoadsRegularPlay(final Player player) {
-        Set<Integer> buildableRoads = new HashSet<>();
-        for (Road r : roads) {
-            if (r.isBuildableBy(player)) {
-                buildableRoads.add(r.getLocationId());
+    /**
+     * Gets the IDs of the vertexes the given player has built on, in increasing order
+     */
+    public int[] getVertexesOwnedBy(final Player player) {
+        byte playerIndex = this.boardState.indexOf(player);
+        if (playerIndex == BoardState.NO_OWNER) {
+            return new int[0];
+        }
+
+        int[] owned = new int[NUM_VERTICES];
+        int count = 0;
+        for (int i = 0; i < NUM_VERTICES; i++) {
+            if (this.boardState.getVertexOwnerIndex(i) == playerIndex) {
+                owned[count++] = i;
             }
         }
+        return Arrays.copyOf(owned, count);
+    }
+
+    /**
+     * Gets the roads the given player can build on in regular play
+     *
+     * @return an immutable snapshot of the buildable roads
+     */
+    public Set<Integer> getBuildableRoadsRegularPlay(final Player player) {
+        return this.buildableTracker.getBuildableRoads(this.boardState.indexOf(player));
+    }
 
-        return buildableRoads;
+    // ----------------------------------------------------------------------------
+    //
+    // Robber queries, answered from the masks of the players on each tile
+    //
+    // ----------------------------------------------------------------------------
+
+    /**
+     * Gets the players with a building on the given tile as a mask, bit n is set if player
+     * number n has a building on one of its corners
+     */
+    public long getTileOccupants(final int tileId) {
+        return this.tileOccupancy.getOccupants(tileId);
+    }
+
+    /**
+     * Gets the tiles where someone other than the given player has a building
+     *
+     * @return an immutable snapshot of the tile IDs
+     */
+    public Set<Integer> getTilesWithEnemiesOf(final Player player) {
+        return this.tileOccupancy.getTilesWithEnemiesOf(player);
     }
 
     // -----------------------------------
@@ -377,6 +660,8 @@ public class GameboardGraph implements Restorable {
     //
     // -----------------------------------
 
+    private GameboardGraphMemento lastMemento;
+
     public class GameboardGraphMemento implements Memento {
 
         // simple fields
@@ -425,7 +710,7 @@ public class GameboardGraph implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.portResources = parsePortResources(reader.readField(PORT_RESOURCES));
+            this.portResources = reader.readEnumArray(PORT_RESOURCES, Resource.class);
 
             // Read sub-mementos from the appropriate sub-folders
             this.vertexMementos = new Memento[GameboardGraph.this.vertexes.length];
@@ -447,66 +732,66 @@ public class GameboardGraph implements Restorable {
             }
         }
 
-        // Helper method to parse port resources
-        private Resource[] parsePortResources(final String portResourcesString) {
-            String[] resourceNames = portResourcesString.substring(1, portResourcesString.length() - 1).split(", ");
-
-            Resource[] resources = new Resource[resourceNames.length];
-            for (int i = 0; i < resourceNames.length; i++) {
-                resources[i] = Resource.valueOf(resourceNames[i].trim());
-            }
-
-            return resources;
-        }
-
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
-
-            // Write simple fields to the file
-            writer.writeField(PORT_RESOURCES, Arrays.toString(portResources));
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(PORT_RESOURCES, Arrays.toString(portResources));
+
+                // Save sub mementos' state
+                for (int i = 0; i < vertexMementos.length; i++) {
+                    // Create a subfolder for each vertex's memento
+                    File vertexSubFolder = writer.getSubFolder(VERTEX_SUBFOLDER_PREFIX + i);
+                    vertexMementos[i].save(vertexSubFolder);
+                }
 
-            // Save sub mementos' state
-            for (int i = 0; i < vertexMementos.length; i++) {
-                // Create a subfolder for each vertex's memento
-                File vertexSubFolder = writer.getSubFolder(VERTEX_SUBFOLDER_PREFIX + i);
-                vertexMementos[i].save(vertexSubFolder);
-            }
+                for (int i = 0; i < portMementos.length; i++) {
+                    // Create a subfolder for each port's memento
+                    File portSubFolder = writer.getSubFolder(PORT_SUBFOLDER_PREFIX + i);
+                    portMementos[i].save(portSubFolder);
+                }
 
-            for (int i = 0; i < portMementos.length; i++) {
-                // Create a subfolder for each port's memento
-                File portSubFolder = writer.getSubFolder(PORT_SUBFOLDER_PREFIX + i);
-                portMementos[i].save(portSubFolder);
+                for (int i = 0; i < roadMementos.length; i++) {
+                    // Create a subfolder for each road's memento
+                    File roadSubFolder = writer.getSubFolder(ROAD_SUBFOLDER_PREFIX + i);
+                    roadMementos[i].save(roadSubFolder);
+                }
             }
+        }
 
-            for (int i = 0; i < roadMementos.length; i++) {
-                // Create a subfolder for each road's memento
-                File roadSubFolder = writer.getSubFolder(ROAD_SUBFOLDER_PREFIX + i);
-                roadMementos[i].save(roadSubFolder);
-            }
+        private boolean isCurrent() {
+            return Arrays.equals(this.portResources, GameboardGraph.this.portResources)
+                    && Restorable.allCurrent(this.vertexMementos, GameboardGraph.this.vertexes)
+                    && Restorable.allCurrent(this.portMementos, GameboardGraph.this.ports)
+                    && Restorable.allCurrent(this.roadMementos, GameboardGraph.this.roads);
         }
 
         public void restore() {
-            // Restore simple fields
-            System.arraycopy(this.portResources, 0, GameboardGraph.this.portResources, 0, this.portResources.length);
+            restoreChanges(null);
+        }
 
-            // Restore sub mementos
-            for (Memento vertexMemento : vertexMementos) {
-                vertexMemento.restore();
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
             }
+            GameboardGraphMemento previous = current instanceof GameboardGraphMemento ? (GameboardGraphMemento) current : null;
 
-            for (Memento portMemento : portMementos) {
-                portMemento.restore();
-            }
+            // Restore simple fields
+            System.arraycopy(this.portResources, 0, GameboardGraph.this.portResources, 0, this.portResources.length);
 
-            for (Memento roadMemento : roadMementos) {
-                roadMemento.restore();
-            }
+            // Restore sub mementos
+            Memento.restoreChanges(this.vertexMementos, previous != null ? previous.vertexMementos : null);
+            Memento.restoreChanges(this.portMementos, previous != null ? previous.portMementos : null);
+            Memento.restoreChanges(this.roadMementos, previous != null ? previous.roadMementos : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new GameboardGraphMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new GameboardGraphMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -0,0 +1,113 @@
+package domain.graphs;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of location IDs stored as one bit per location.
+ * <p>
+ * Iterates the IDs in increasing order. Any attempt to change the set throws an
+ * UnsupportedOperationException.
+ */
+public final class LocationBits extends AbstractSet<Integer> {
+    private static final int WORD_SHIFT = 6;
+
+    private final long[] words;
+    private final int size;
+
+    /**
+     * @param bits the bits of the set, location i is the bit i % 64 of the word i / 64.
+     *             The array is copied.
+     */
+    LocationBits(final long[] bits) {
+        this.words = Arrays.copyOf(bits, bits.length);
+        int count = 0;
+        for (long word : this.words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    /**
+     * Tells whether the given location is in this set
+     */
+    public boolean contains(final int locationId) {
+        int word = locationId >>> WORD_SHIFT;
+        return locationId >= 0 && word < this.words.length && (this.words[word] & 1L << locationId) != 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof Integer && contains(((Integer) o).intValue());
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the IDs in this set in increasing order
+     */
+    public int[] toIntArray() {
+        int[] ids = new int[this.size];
+        int count = 0;
+        for (int i = 0; i < this.words.length; i++) {
+            long word = this.words[i];
+            while (word != 0) {
+                ids[count++] = (i << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private final int[] ids = toIntArray();
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < this.ids.length;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.ids[this.next++];
+            }
+        };
+    }
+
+    // -----------------------------------
+    //
+    // Bit helpers for the arrays these sets are made from
+    //
+    // -----------------------------------
+
+    static int wordsFor(final int numLocations) {
+        return (numLocations + Long.SIZE - 1) >>> WORD_SHIFT;
+    }
+
+    static void set(final long[] bits, final int locationId) {
+        bits[locationId >>> WORD_SHIFT] |= 1L << locationId;
+    }
+
+    static void clear(final long[] bits, final int locationId) {
+        bits[locationId >>> WORD_SHIFT] &= ~(1L << locationId);
+    }
+
+    static void assign(final long[] bits, final int locationId, final boolean value) {
+        if (value) {
+            set(bits, locationId);
+        } else {
+            clear(bits, locationId);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package domain.graphs;
+
+import domain.player.Player;
+
+/**
+ * Depth first search for the longest road starting at a given road.
+ * <p>
+ * The roads on the current path are kept in a 72-bit mask made of two longs and the
+ * search walks an explicit stack over the topology tables that is allocated once, so a
+ * search does not create any objects no matter how many branches it has to follow.
+ * <p>
+ * Note: a search object is reused between calls and is therefore not thread safe.
+ */
+class LongestPathSearch {
+
+    private final GameboardGraph gameboardGraph;
+    private final BoardState boardState;
+    private final int[] roadStack;
+    private final int[] tailStack;
+    private final int[] nextNeighborStack;
+
+    // roads on the current path, road i is bit i of low for i < 64 and bit i - 64 of high otherwise
+    private long visitedLow;
+    private long visitedHigh;
+
+    LongestPathSearch(final GameboardGraph graph) {
+        this.gameboardGraph = graph;
+        this.boardState = graph.getBoardState();
+        this.roadStack = new int[GameboardGraph.NUM_ROADS];
+        this.tailStack = new int[GameboardGraph.NUM_ROADS];
+        this.nextNeighborStack = new int[GameboardGraph.NUM_ROADS];
+    }
+
+    /**
+     * Finds the length of the longest path of the given player's roads that starts with
+     * the given road and leaves it through the vertex opposite of origin. Roads in the
+     * given masks are treated as already being on the path.
+     *
+     * @return the number of roads on the longest path, -1 if origin is owned by an enemy
+     */
+    int search(final int startingRoad, final Player player, final int origin, final long visitedLowBits, final long visitedHighBits) {
+        byte playerIndex = this.boardState.indexOf(player);
+        if (playerIndex == BoardState.NO_OWNER || this.boardState.getRoadOwnerIndex(startingRoad) != playerIndex) {
+            throw new IllegalStateException("Road does not own player, check calling method");
+        }
+
+        if (this.boardState.vertexOwnedByEnemyOf(origin, playerIndex)) {
+            return -1; // blocked off before the path even starts
+        }
+
+        BoardTopology topology = this.gameboardGraph.getTopology();
+        BoardTopology.AdjacencyTable vertexToRoad = topology.getVertexToRoad();
+
+        this.visitedLow = visitedLowBits;
+        this.visitedHigh = visitedHighBits;
+        this.markVisited(startingRoad);
+
+        int length = Long.bitCount(this.visitedLow) + Long.bitCount(this.visitedHigh);
+        int longest = length;
+        int top = 0;
+        this.push(top, startingRoad, topology.getTail(startingRoad, origin), playerIndex);
+
+        while (top >= 0) {
+            int tail = this.tailStack[top];
+            int next = this.nextNeighborStack[top];
+
+            if (next >= vertexToRoad.end(tail)) {
+                // every branch off this road is done, step back
+                this.unmarkVisited(this.roadStack[top]);
+                top--;
+                length--;
+                continue;
+            }
+
+            this.nextNeighborStack[top] = next + 1;
+            int neighbor = vertexToRoad.get(next);
+            if (this.boardState.getRoadOwnerIndex(neighbor) == playerIndex && !this.isVisited(neighbor)) {
+                this.markVisited(neighbor);
+                top++;
+                length++;
+                longest = Math.max(longest, length);
+                this.push(top, neighbor, topology.getTail(neighbor, tail), playerIndex); // origin of the next one is the tail of this one
+            }
+        }
+
+        return longest;
+    }
+
+    /**
+     * Puts the given road on the stack. The road is not branched off of if an
+     * enemy owns the vertex it leads to.
+     */
+    private void push(final int index, final int road, final int tail, final byte playerIndex) {
+        this.roadStack[index] = road;
+        this.tailStack[index] = tail;
+        this.nextNeighborStack[index] = this.boardState.vertexOwnedByEnemyOf(tail, playerIndex)
+                ? Integer.MAX_VALUE
+                : this.gameboardGraph.getTopology().getVertexToRoad().start(tail);
+    }
+
+    private boolean isVisited(final int roadId) {
+        if (roadId < Long.SIZE) {
+            return (this.visitedLow & (1L << roadId)) != 0;
+        }
+        return (this.visitedHigh & (1L << (roadId - Long.SIZE))) != 0;
+    }
+
+    private void markVisited(final int roadId) {
+        if (roadId < Long.SIZE) {
+            this.visitedLow |= 1L << roadId;
+        } else {
+            this.visitedHigh |= 1L << (roadId - Long.SIZE);
+        }
+    }
+
+    private void unmarkVisited(final int roadId) {
+        if (roadId < Long.SIZE) {
+            this.visitedLow &= ~(1L << roadId);
+        } else {
+            this.visitedHigh &= ~(1L << (roadId - Long.SIZE));
+        }
+    }
+}
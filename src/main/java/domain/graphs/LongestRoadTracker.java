@@ -0,0 +1,196 @@
+package domain.graphs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import domain.player.Player;
+
+/**
+ * Keeps track of every player's longest road between placements so that
+ * the graph does not have to search the whole board after every build.
+ * <p>
+ * Roads are grouped into components: roads with the same owner that are connected
+ * through vertexes not owned by an enemy of that owner. Each component remembers its
+ * own longest path, so when a Road or Vertex changes only the components touching it
+ * are rebuilt and searched again.
+ * <p>
+ * Changes are only recorded when they happen and are worked off lazily the next time
+ * a longest path is requested. This way owners can be set before the adjacency of the
+ * graph is initialized.
+ */
+class LongestRoadTracker {
+
+    private final GameboardGraph gameboardGraph;
+    private final RoadComponent[] componentOfRoad;
+    private final List<RoadComponent> components;
+
+    // changes recorded since the last update
+    private final boolean[] dirtyRoads;
+    private final boolean[] dirtyVertexes;
+    private boolean hasChanges;
+
+    LongestRoadTracker(final GameboardGraph graph) {
+        this.gameboardGraph = graph;
+        this.componentOfRoad = new RoadComponent[GameboardGraph.NUM_ROADS];
+        this.components = new ArrayList<>();
+        this.dirtyRoads = new boolean[GameboardGraph.NUM_ROADS];
+        this.dirtyVertexes = new boolean[GameboardGraph.NUM_VERTICES];
+        this.hasChanges = false;
+    }
+
+    /**
+     * Records that the owner of the road with the given ID changed
+     */
+    void roadChanged(final int roadId) {
+        this.dirtyRoads[roadId] = true;
+        this.hasChanges = true;
+    }
+
+    /**
+     * Records that the owner of the vertex with the given ID changed
+     */
+    void vertexChanged(final int vertexId) {
+        this.dirtyVertexes[vertexId] = true;
+        this.hasChanges = true;
+    }
+
+    /**
+     * Gets the length of the longest road the given player has on the board.
+     *
+     * @return the longest road of the player, 0 if the player has no roads
+     */
+    int getLongestPath(final Player player) {
+        this.update();
+
+        int longest = 0;
+        for (RoadComponent component: this.components) {
+            if (component.owner == player) {
+                longest = Math.max(longest, component.longestPath);
+            }
+        }
+
+        return longest;
+    }
+
+    /**
+     * Rebuilds the components affected by the changes recorded since the last update.
+     */
+    private void update() {
+        if (!this.hasChanges) {
+            return;
+        }
+
+        // throw away every component touching a change and remember its roads to regroup them
+        Deque<Road> seeds = new ArrayDeque<>();
+        for (int i = 0; i < GameboardGraph.NUM_ROADS; i++) {
+            if (this.dirtyRoads[i]) {
+                this.dirtyRoads[i] = false;
+                this.discard(this.componentOfRoad[i], seeds);
+                seeds.add(this.gameboardGraph.getRoad(i));
+            }
+        }
+
+        for (int i = 0; i < GameboardGraph.NUM_VERTICES; i++) {
+            if (this.dirtyVertexes[i]) {
+                this.dirtyVertexes[i] = false;
+                for (Road road: this.gameboardGraph.getVertex(i).getAdjacentRoads()) {
+                    this.discard(this.componentOfRoad[road.getLocationId()], seeds);
+                }
+            }
+        }
+        this.hasChanges = false;
+
+        // regroup the loose roads into new components
+        for (Road seed: seeds) {
+            if (seed.isOccupied() && this.componentOfRoad[seed.getLocationId()] == null) {
+                RoadComponent component = this.buildComponent(seed);
+                component.longestPath = this.searchLongestPath(component);
+                this.components.add(component);
+            }
+        }
+    }
+
+    /**
+     * Removes the given component and adds its roads to the given seeds if there are any.
+     */
+    private void discard(final RoadComponent component, final Deque<Road> seeds) {
+        if (component == null) {
+            return;
+        }
+
+        this.components.remove(component);
+        for (Road road: component.roads) {
+            this.componentOfRoad[road.getLocationId()] = null;
+            if (seeds != null) {
+                seeds.add(road);
+            }
+        }
+    }
+
+    /**
+     * Flood fills the component the given road belongs to. Components that are
+     * reached along the way are merged into the new one.
+     */
+    private RoadComponent buildComponent(final Road start) {
+        RoadComponent component = new RoadComponent(start.getOwner());
+        this.componentOfRoad[start.getLocationId()] = component;
+        component.roads.add(start);
+
+        Deque<Road> toVisit = new ArrayDeque<>();
+        toVisit.push(start);
+        while (!toVisit.isEmpty()) {
+            Road road = toVisit.pop();
+            for (Vertex vertex: road.getAdjacentVertexes()) {
+                if (vertex.ownedByEnemyOf(component.owner)) {
+                    continue; // enemy settlements split roads apart
+                }
+
+                for (Road neighbor: vertex.getAdjacentRoads()) {
+                    RoadComponent neighborComponent = this.componentOfRoad[neighbor.getLocationId()];
+                    if (neighbor.getOwner() == component.owner && neighborComponent != component) {
+                        this.discard(neighborComponent, null); // its roads will be reached by this fill
+                        this.componentOfRoad[neighbor.getLocationId()] = component;
+                        component.roads.add(neighbor);
+                        toVisit.push(neighbor);
+                    }
+                }
+            }
+        }
+
+        return component;
+    }
+
+    /**
+     * Finds the longest path in the given component by searching from every road
+     * in both directions.
+     */
+    private int searchLongestPath(final RoadComponent component) {
+        int longest = 0;
+        for (Road road: component.roads) {
+            for (Vertex origin: road.getAdjacentVertexes()) {
+                if (!origin.ownedByEnemyOf(component.owner)) {
+                    int pathLength = this.gameboardGraph.getLongestPath(road, component.owner, origin);
+                    longest = Math.max(longest, pathLength);
+                }
+            }
+        }
+
+        return longest;
+    }
+
+    /**
+     * Group of connected roads of a single owner
+     */
+    private static final class RoadComponent {
+        private final Player owner;
+        private final List<Road> roads;
+        private int longestPath;
+
+        private RoadComponent(final Player player) {
+            this.owner = player;
+            this.roads = new ArrayList<>();
+        }
+    }
+}
@@ -39,6 +39,8 @@ public class Port implements Restorable {
     //
     // -----------------------------------
 
+    private PortMemento lastMemento;
+
     public class PortMemento implements Memento {
         private final Resource resource;
 
@@ -58,15 +60,19 @@ public class Port implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.resource = Resource.valueOf(reader.readField(RESOURCE));
+            this.resource = reader.readEnum(RESOURCE, Resource.class);
         }
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(RESOURCE, resource.toString());
+            }
+        }
 
-            // Write simple fields to the file
-            writer.writeField(RESOURCE, resource.toString());
+        private boolean isCurrent() {
+            return this.resource == Port.this.resource;
         }
 
         public void restore() {
@@ -76,6 +82,9 @@ public class Port implements Restorable {
 
     @Override
     public Memento createMemento() {
-        return new PortMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new PortMemento();
+        }
+        return this.lastMemento;
     }
 }
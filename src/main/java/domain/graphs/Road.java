@@ -19,7 +19,8 @@ public class Road implements Restorable {
     private final int locationId;
     private List<Road> adjacentRoads;
     private List<Vertex> adjacentVertexes;
-    private Player owner;
+    private final GameboardGraph gameboardGraph;
+    private final BoardState boardState; // holds the owner of this road
 
     // initialization flags:
     private boolean adjacentRoadsInitialized;
@@ -35,7 +36,20 @@ public class Road implements Restorable {
      * @param id the locationId of the road on the map
      */
     public Road(final int id) {
+        this(id, null);
+    }
+
+    /**
+     * Creates a new road with the given location ID that is a view over the state
+     * of the given graph and tells the graph when its owner changes.
+     *
+     * @param id the locationId of the road on the map
+     * @param graph the graph this road belongs to
+     */
+    Road(final int id, final GameboardGraph graph) {
         this.locationId = id;
+        this.gameboardGraph = graph;
+        this.boardState = graph != null ? graph.getBoardState() : new BoardState();
         this.adjacentRoadsInitialized = false;
         this.adjacentVertexesInitialized = false;
     }
@@ -89,7 +103,10 @@ public class Road implements Restorable {
      */
     public List<Road> getAdjacentRoads() {
         if (!this.adjacentRoadsInitialized) {
-            throw new RuntimeException("Road-to-Road adjacency uninitialized");
+            if (!this.hasGraphTopology()) {
+                throw new RuntimeException("Road-to-Road adjacency uninitialized");
+            }
+            this.setAdjacentRoads(this.gameboardGraph.listRoads(this.gameboardGraph.getTopology().getRoadToRoad(), this.locationId));
         }
         return this.adjacentRoads;
     }
@@ -101,19 +118,33 @@ public class Road implements Restorable {
      */
     public List<Vertex> getAdjacentVertexes() {
         if (!this.adjacentVertexesInitialized) {
-            throw new RuntimeException("Road-to-Vertex adjacency uninitialized");
+            if (!this.hasGraphTopology()) {
+                throw new RuntimeException("Road-to-Vertex adjacency uninitialized");
+            }
+            this.setAdjacentVertexes(this.gameboardGraph.listVertexes(this.gameboardGraph.getTopology().getRoadToVertex(), this.locationId));
         }
 
         return this.adjacentVertexes;
     }
 
+    // Roads have their adjacency lists made from the topology of their graph when first needed
+    private boolean hasGraphTopology() {
+        return this.gameboardGraph != null && this.gameboardGraph.hasTopology();
+    }
+
     /**
      * Sets the owner field for this Road. The owner is the player who built
      * this Road.
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public void setOwner(final Player player) {
-        this.owner = player;
+        if (!this.boardState.setRoadOwner(this.locationId, player)) {
+            return;
+        }
+
+        if (this.gameboardGraph != null) {
+            this.gameboardGraph.roadChanged(this);
+        }
     }
 
     /**
@@ -122,7 +153,7 @@ public class Road implements Restorable {
      * @return true if this Road has been built, false otherwise
      */
     public boolean isOccupied() {
-        return this.owner != null;
+        return this.boardState.isRoadOccupied(this.locationId);
     }
 
     /**
@@ -132,7 +163,7 @@ public class Road implements Restorable {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP")
     public Player getOwner() {
-        return this.owner;
+        return this.boardState.getRoadOwner(this.locationId);
     }
 
     /**
@@ -145,7 +176,7 @@ public class Road implements Restorable {
      * @return true is this Road is unoccupied, false otherwise
      */
     public boolean isBuildable() {
-        return this.owner == null;
+        return !this.boardState.isRoadOccupied(this.locationId);
     }
 
     /**
@@ -175,6 +206,10 @@ public class Road implements Restorable {
      * @return true is this Road can be built by the player, false otherwise
      */
     public boolean isBuildableBy(final Player player) {
+        if (this.gameboardGraph != null && this.gameboardGraph.hasTopology()) {
+            return this.gameboardGraph.isRoadBuildableBy(this.locationId, player);
+        }
+
         if (this.isOccupied()) {
             return false;
         }
@@ -255,6 +290,8 @@ public class Road implements Restorable {
     //
     // -----------------------------------
 
+    private RoadMemento lastMemento;
+
     public class RoadMemento implements Memento {
         private final Player owner; // terminal
 
@@ -265,7 +302,7 @@ public class Road implements Restorable {
         private static final String OWNER = "Owner";
 
         private RoadMemento() {
-            this.owner = Road.this.owner;
+            this.owner = Road.this.getOwner();
         }
 
         @SuppressFBWarnings("EI_EXPOSE_REP2")
@@ -274,37 +311,32 @@ public class Road implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.owner = parseOwner(reader.readField(OWNER));
-        }
-
-        private Player parseOwner(final String ownerString) {
-            // Check if the ownerString represents "None"
-            if (ownerString.equals("None")) {
-                return null;
-            } else {
-                // Extract player number from the string representation
-                int playerNum = Integer.parseInt(ownerString.substring(ownerString.lastIndexOf(" ") + 1));
-                // Retrieve the player using the GameLoader
-                return GameLoader.getInstance().getPlayerByNum(playerNum);
-            }
+            this.owner = reader.readPlayer(OWNER);
         }
 
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(OWNER, owner != null ? owner.toString() : "None");
+            }
+        }
 
-            // Write simple fields to the file
-            writer.writeField(OWNER, owner != null ? owner.toString() : "None");
+        private boolean isCurrent() {
+            return this.owner == Road.this.getOwner();
         }
 
         public void restore() {
             // Restore the owner of the road
-            Road.this.owner = this.owner;
+            Road.this.setOwner(this.owner);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new RoadMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new RoadMemento();
+        }
+        return this.lastMemento;
     }
 }
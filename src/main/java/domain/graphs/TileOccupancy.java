@@ -0,0 +1,117 @@
+package domain.graphs;
+
+import java.util.Arrays;
+
+import domain.player.Player;
+
+/**
+ * Keeps, for every tile, a mask of the players with a building on one of its corners so that
+ * the robber does not have to look at every vertex of every tile.
+ * <p>
+ * Bit n of the mask of a tile is set when player number n has a building on it. Player
+ * numbers are used rather than the indexes of the board state so masks mean the same thing
+ * in every copy of a game.
+ * <p>
+ * Like the other trackers of the graph, changes are recorded when they happen and worked off
+ * the next time a mask is requested.
+ */
+class TileOccupancy {
+    private static final int MAX_PLAYER_NUM = Long.SIZE - 1;
+
+    private final GameboardGraph gameboardGraph;
+    private final BoardState boardState;
+    private long[] occupants;
+
+    // changes recorded since the last update
+    private final boolean[] dirtyVertexes;
+    private boolean hasChanges;
+
+    TileOccupancy(final GameboardGraph graph) {
+        this.gameboardGraph = graph;
+        this.boardState = graph.getBoardState();
+        this.dirtyVertexes = new boolean[GameboardGraph.NUM_VERTICES];
+        this.hasChanges = false;
+    }
+
+    /**
+     * Records that the owner of the vertex with the given ID changed
+     */
+    void vertexChanged(final int vertexId) {
+        this.dirtyVertexes[vertexId] = true;
+        this.hasChanges = true;
+    }
+
+    /**
+     * Gets the mask of the player numbers with a building on the given tile
+     */
+    long getOccupants(final int tileId) {
+        this.update();
+        return this.occupants[tileId];
+    }
+
+    /**
+     * Gets the tiles with a building of someone other than the given player on them
+     */
+    LocationBits getTilesWithEnemiesOf(final Player player) {
+        this.update();
+        long self = player == null ? 0 : bitOf(player);
+        long[] tiles = new long[LocationBits.wordsFor(this.occupants.length)];
+        for (int tileId = 0; tileId < this.occupants.length; tileId++) {
+            if ((this.occupants[tileId] & ~self) != 0) {
+                LocationBits.set(tiles, tileId);
+            }
+        }
+        return new LocationBits(tiles);
+    }
+
+    static long bitOf(final Player player) {
+        int playerNum = player.getPlayerNum();
+        if (playerNum < 0 || playerNum > MAX_PLAYER_NUM) {
+            throw new IllegalArgumentException("Player number " + playerNum + " does not fit a tile mask");
+        }
+        return 1L << playerNum;
+    }
+
+    private void update() {
+        BoardTopology topology = this.gameboardGraph.getTopology();
+        BoardTopology.AdjacencyTable tileToVertex = topology.getTileToVertex();
+        if (this.occupants == null) {
+            this.occupants = new long[tileToVertex.size()];
+            for (int tileId = 0; tileId < this.occupants.length; tileId++) {
+                this.refreshTile(tileToVertex, tileId);
+            }
+            this.clearChanges();
+            return;
+        }
+        if (!this.hasChanges) {
+            return;
+        }
+
+        BoardTopology.AdjacencyTable vertexToTile = topology.getVertexToTile();
+        for (int vertexId = 0; vertexId < GameboardGraph.NUM_VERTICES; vertexId++) {
+            if (this.dirtyVertexes[vertexId]) {
+                for (int k = vertexToTile.start(vertexId); k < vertexToTile.end(vertexId); k++) {
+                    this.refreshTile(tileToVertex, vertexToTile.get(k));
+                }
+            }
+        }
+        this.clearChanges();
+    }
+
+    // a building can be removed again when a turn is undone, so the whole tile is looked at
+    private void refreshTile(final BoardTopology.AdjacencyTable tileToVertex, final int tileId) {
+        long mask = 0;
+        for (int k = tileToVertex.start(tileId); k < tileToVertex.end(tileId); k++) {
+            Player owner = this.boardState.getVertexOwner(tileToVertex.get(k));
+            if (owner != null) {
+                mask |= bitOf(owner);
+            }
+        }
+        this.occupants[tileId] = mask;
+    }
+
+    private void clearChanges() {
+        Arrays.fill(this.dirtyVertexes, false);
+        this.hasChanges = false;
+    }
+}
@@ -22,8 +22,9 @@ public class Vertex implements Restorable {
     private List<Vertex> adjacentVertexes;
     private List<Road> adjacentRoads;
     private Port adjacentPort;
-    private Player owner;
     protected Building building;
+    private final GameboardGraph gameboardGraph;
+    private final BoardState boardState; // holds the owner of this vertex
 
     // initialization flags:
     private boolean portInitialized;
@@ -39,13 +40,34 @@ public class Vertex implements Restorable {
      * @param id the locationId of the vertex
      */
     public Vertex(final int id) {
+        this(id, null);
+    }
+
+    /**
+     * Creates a new vertex with the given ID that is a view over the state of the
+     * given graph and tells the graph when its owner changes.
+     * @param id the locationId of the vertex
+     * @param graph the graph this vertex belongs to
+     */
+    Vertex(final int id, final GameboardGraph graph) {
         this.locationId = id;
+        this.gameboardGraph = graph;
+        this.boardState = graph != null ? graph.getBoardState() : new BoardState();
         this.portInitialized = false;
         this.adjacentVertexesInitialized = false;
         this.adjacentRoadsInitialized = false;
         this.building = new Building();
     }
 
+    /**
+     * Creates a copy of the given vertex for the given graph, which is a copy of the graph the
+     * given vertex belongs to. The adjacency of the copy is left for the graph to set.
+     */
+    Vertex(final Vertex other, final GameboardGraph graph) {
+        this(other.locationId, graph);
+        this.building = other.building.copy();
+    }
+
     /**
      * Sets the adjacentPort for this Vertex object. This method is intended
      * to be called only once, after all Port and Vertex objects have been created,
@@ -111,7 +133,10 @@ public class Vertex implements Restorable {
      */
     List<Vertex> getAdjacentVertexes() {
         if (!this.adjacentVertexesInitialized) {
-            throw new RuntimeException("Vertex-to-Vertex adjacency uninitialized");
+            if (!this.hasGraphTopology()) {
+                throw new RuntimeException("Vertex-to-Vertex adjacency uninitialized");
+            }
+            this.setAdjacentVertexes(this.gameboardGraph.listVertexes(this.gameboardGraph.getTopology().getVertexToVertex(), this.locationId));
         }
         return this.adjacentVertexes;
     }
@@ -123,11 +148,19 @@ public class Vertex implements Restorable {
      */
     public List<Road> getAdjacentRoads() {
         if (!this.adjacentRoadsInitialized) {
-            throw new RuntimeException("Vertex-to-Road adjacency uninitialized");
+            if (!this.hasGraphTopology()) {
+                throw new RuntimeException("Vertex-to-Road adjacency uninitialized");
+            }
+            this.setAdjacentRoads(this.gameboardGraph.listRoads(this.gameboardGraph.getTopology().getVertexToRoad(), this.locationId));
         }
         return this.adjacentRoads;
     }
 
+    // Vertexes have their adjacency lists made from the topology of their graph when first needed
+    private boolean hasGraphTopology() {
+        return this.gameboardGraph != null && this.gameboardGraph.hasTopology();
+    }
+
     /**
      * Tells whether this Vertex has a Port adjacent to it or not
      *
@@ -171,6 +204,10 @@ public class Vertex implements Restorable {
      * @return true if this Vertex can be built upon, false otherwise
      */
     public boolean isBuildable() {
+        if (this.gameboardGraph != null && this.gameboardGraph.hasTopology()) {
+            return this.gameboardGraph.isVertexBuildable(this.locationId);
+        }
+
         if (this.isOccupied()) {
             return false;
         }
@@ -198,7 +235,7 @@ public class Vertex implements Restorable {
      * @return true if this Vertex has a settlement, false otherwise
      */
     public boolean isOccupied() {
-        return this.owner != null;
+        return this.boardState.isVertexOccupied(this.locationId);
     }
 
     /**
@@ -222,7 +259,13 @@ public class Vertex implements Restorable {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public void setOwner(final Player player) {
-        this.owner = player;
+        if (!this.boardState.setVertexOwner(this.locationId, player)) {
+            return;
+        }
+
+        if (this.gameboardGraph != null) {
+            this.gameboardGraph.vertexChanged(this);
+        }
     }
 
     /**
@@ -236,7 +279,7 @@ public class Vertex implements Restorable {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP")
     public Player getOwner() {
-        return this.owner;
+        return this.boardState.getVertexOwner(this.locationId);
     }
 
     /**
@@ -251,6 +294,10 @@ public class Vertex implements Restorable {
      * @return true if this Vertex can be built upon by the given player, false otherwise
      */
     public boolean isBuildableBy(final Player player) {
+        if (this.gameboardGraph != null && this.gameboardGraph.hasTopology()) {
+            return this.gameboardGraph.isVertexBuildableBy(this.locationId, player);
+        }
+
         if (!this.isBuildable()) {
             return false;
         }
@@ -264,6 +311,9 @@ public class Vertex implements Restorable {
      * @return true if this Vertex is adjacent to a friendly Road, false otherwise
      */
     public boolean isAdjacentToFriendlyRoad(final Player player) {
+        if (this.hasGraphTopology()) {
+            return this.gameboardGraph.isVertexNextToRoadOf(this.locationId, player);
+        }
 
         for (Road road: this.getAdjacentRoads()) {
             if (road.isOccupied()) {
@@ -320,12 +370,7 @@ public class Vertex implements Restorable {
      * Helper that tells us if this vertex is owned by an enemy of the given player
      */
     public boolean ownedByEnemyOf(final Player player) {
-
-        if (this.getOwner() == null) {
-            return false;
-        }
-
-        return this.getOwner() != player;
+        return this.boardState.vertexOwnedByEnemyOf(this.locationId, this.boardState.indexOf(player));
     }
 
     // ONLY FOR TESTING
@@ -339,6 +384,8 @@ public class Vertex implements Restorable {
     //
     // -----------------------------------
 
+    private VertexMemento lastMemento;
+
     public class VertexMemento implements Memento {
         private final Player owner; // terminal here
 
@@ -353,7 +400,7 @@ public class Vertex implements Restorable {
         private static final String OWNER = "Owner";
 
         private VertexMemento() {
-            this.owner = Vertex.this.owner;
+            this.owner = Vertex.this.getOwner();
             this.buildingMemento = Vertex.this.building.createMemento();
         }
 
@@ -363,45 +410,51 @@ public class Vertex implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.owner = parseOwner(reader.readField(OWNER));
+            this.owner = reader.readPlayer(OWNER);
 
             File buildingSubFolder = reader.getSubFolder(BUILDING_SUBFOLDER_NAME);
             this.buildingMemento = Vertex.this.building.new BuildingMemento(buildingSubFolder);
         }
 
-        private Player parseOwner(final String ownerString) {
-            // Check if the ownerString represents "None"
-            if (ownerString.equals("None")) {
-                return null;
-            } else {
-                // Extract player number from the string representation
-                int playerNum = Integer.parseInt(ownerString.substring(ownerString.lastIndexOf(" ") + 1));
-                // Retrieve the player using the GameLoader
-                return GameLoader.getInstance().getPlayerByNum(playerNum);
-            }
-        }
-
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(OWNER, owner != null ? owner.toString() : "None");
 
-            // Write simple fields to the file
-            writer.writeField(OWNER, owner != null ? owner.toString() : "None");
+                File buildingSubFolder = writer.getSubFolder(BUILDING_SUBFOLDER_NAME);
+                this.buildingMemento.save(buildingSubFolder);
+            }
+        }
 
-            File buildingSubFolder = writer.getSubFolder(BUILDING_SUBFOLDER_NAME);
-            this.buildingMemento.save(buildingSubFolder);
+        private boolean isCurrent() {
+            return this.owner == Vertex.this.getOwner()
+                    && this.buildingMemento == Vertex.this.building.createMemento();
         }
 
         public void restore() {
+            restoreChanges(null);
+        }
+
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
+            }
+            VertexMemento previous = current instanceof VertexMemento ? (VertexMemento) current : null;
+
             // Restore simple fields
-            Vertex.this.owner = this.owner;
+            Vertex.this.setOwner(this.owner);
 
-            buildingMemento.restore();
+            buildingMemento.restoreChanges(previous != null ? previous.buildingMemento : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new VertexMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new VertexMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -7,12 +7,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 public class Hand implements Restorable {
-    private final HashMap<Resource, Integer> hand = new HashMap<>();
+    // amount of each resource indexed by ordinal
+    private final int[] resources = new int[Resource.COUNT];
+    private final int[] scratchDelta = new int[Resource.COUNT]; // reused by the Resource[] methods
     private static final int MAX_AMOUNT = 19;
     private static final int MAX_KNIGHTS = 14;
     private static final int MAX_YOP = 2;
@@ -24,12 +26,6 @@ public class Hand implements Restorable {
     public HashMap<DevCard, Integer> devCardsBoughtThisTurn = new HashMap<>();
 
     public Hand() {
-        hand.put(Resource.LUMBER, 0);
-        hand.put(Resource.BRICK, 0);
-        hand.put(Resource.WOOL, 0);
-        hand.put(Resource.GRAIN, 0);
-        hand.put(Resource.ORE, 0);
-
         devCards.put(DevCard.KNIGHT, 0);
         devCards.put(DevCard.ROAD, 0);
         devCards.put(DevCard.MONOPOLY, 0);
@@ -43,14 +39,27 @@ public class Hand implements Restorable {
         devCardsBoughtThisTurn.put(DevCard.VICTORY, 0);
     }
 
+    private Hand(final Hand other) {
+        System.arraycopy(other.resources, 0, this.resources, 0, Resource.COUNT);
+        this.devCards.putAll(other.devCards);
+        this.devCardsBoughtThisTurn.putAll(other.devCardsBoughtThisTurn);
+    }
+
+    /**
+     * Creates an independent copy of this hand
+     */
+    public Hand copy() {
+        return new Hand(this);
+    }
+
     public boolean addResource(final Resource type, final int amount) {
         if (amount <= 0 || amount > MAX_AMOUNT) {
             throw new IllegalArgumentException("Resource amount must be between 0 and 19");
         }
-        if (hand.get(type) + amount > MAX_AMOUNT) {
+        if (resources[type.ordinal()] + amount > MAX_AMOUNT) {
             return false;
         }
-        hand.put(type, hand.get(type) + amount);
+        resources[type.ordinal()] += amount;
         return true;
     }
 
@@ -58,92 +67,126 @@ public class Hand implements Restorable {
         if (amount <= 0 || amount > MAX_AMOUNT) {
             throw new IllegalArgumentException("Resource amount must be between 0 and 19");
         }
-        if (hand.get(type) < amount) {
+        if (resources[type.ordinal()] < amount) {
             return false;
         }
-        hand.put(type, hand.get(type) - amount);
+        resources[type.ordinal()] -= amount;
         return true;
     }
 
     public int getResourceCount() {
-        return hand.get(Resource.LUMBER)
-                + hand.get(Resource.BRICK)
-                + hand.get(Resource.WOOL)
-                + hand.get(Resource.GRAIN)
-                + hand.get(Resource.ORE);
+        int count = 0;
+        for (int amount: resources) {
+            count += amount;
+        }
+        return count;
     }
 
-    public boolean addResources(final Resource[] resources) {
-        // Build resources to add map
-        Map<Resource, Integer> toAdd = buildEmptyResourceMap();
-        for (Resource resource: resources) {
-            toAdd.put(resource, toAdd.get(resource) + 1);
-        }
+    // -----------------------------------
+    //
+    // Bulk deltas, indexed by resource ordinal
+    //
+    // -----------------------------------
 
-        // verify that we can add all the resources specified without overflow
-        for (Map.Entry<Resource, Integer> entry: toAdd.entrySet()) {
-            Resource resource = entry.getKey();
-            Integer amount = entry.getValue();
-            if (this.hand.get(resource) + amount > MAX_AMOUNT) {
+    /**
+     * Tells whether the given delta can be applied to this hand without any resource
+     * going below 0 or above the maximum amount.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     */
+    public boolean canApply(final int[] delta) {
+        checkDeltaLength(delta);
+        for (int i = 0; i < Resource.COUNT; i++) {
+            int result = resources[i] + delta[i];
+            if (result < 0 || result > MAX_AMOUNT) {
                 return false;
             }
         }
+        return true;
+    }
 
-        // Now that we know we can add all the resources, actually do it
-        for (Map.Entry<Resource, Integer> entry: toAdd.entrySet()) {
-            Resource resource = entry.getKey();
-            Integer amount = entry.getValue();
-            this.hand.put(resource, this.hand.get(resource) + amount);
+    /**
+     * Applies the given delta to this hand.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     * @throws IllegalArgumentException if the delta cannot be applied, the hand is left unchanged
+     */
+    public void apply(final int[] delta) {
+        if (!applyOrRollback(delta)) {
+            throw new IllegalArgumentException("Resource delta would leave the hand out of bounds");
         }
+    }
 
+    /**
+     * Applies the given delta to this hand if all of it can be applied, otherwise nothing changes.
+     *
+     * @param delta the amount to add of each resource indexed by ordinal, negative to remove
+     * @return true if the delta was applied, false if the hand was left unchanged
+     */
+    public boolean applyOrRollback(final int[] delta) {
+        if (!canApply(delta)) {
+            return false;
+        }
+        for (int i = 0; i < Resource.COUNT; i++) {
+            resources[i] += delta[i];
+        }
         return true;
     }
 
-    private Map<Resource, Integer> buildEmptyResourceMap() {
-        Map<Resource, Integer> map = new HashMap<>();
-        map.put(Resource.BRICK, 0);
-        map.put(Resource.LUMBER, 0);
-        map.put(Resource.ORE, 0);
-        map.put(Resource.GRAIN, 0);
-        map.put(Resource.WOOL, 0);
-        return map;
+    private static void checkDeltaLength(final int[] delta) {
+        if (delta.length != Resource.COUNT) {
+            throw new IllegalArgumentException("Resource delta must have one amount per resource");
+        }
     }
 
-    public boolean removeResources(final Resource[] resources) {
-        for (int i = 0; i < resources.length; i++) {
-            if (this.hand.get(resources[i]) == 0) {
-                for (int add = 0; add < i; add++) {
-                    this.addResource(resources[add], 1);
-                }
-                return false;
-            }
-            this.hand.put(resources[i], this.hand.get(resources[i]) - 1);
+    // Fills the scratch delta with the given resources counted once each, times the given sign
+    private int[] toScratchDelta(final Resource[] resourceArray, final int sign) {
+        Arrays.fill(scratchDelta, 0);
+        for (Resource resource: resourceArray) {
+            scratchDelta[resource.ordinal()] += sign;
         }
-        return true;
+        return scratchDelta;
+    }
+
+    public boolean addResources(final Resource[] resourceArray) {
+        // all or nothing, a resource that would overflow means none get added
+        return applyOrRollback(toScratchDelta(resourceArray, 1));
+    }
+
+    public boolean removeResources(final Resource[] resourceArray) {
+        // all or nothing, a resource the hand does not have enough of means none get removed
+        return applyOrRollback(toScratchDelta(resourceArray, -1));
     }
 
-    public Resource[] removeExistingResources(final Resource[] resources) {
-        ArrayList<Resource> removedResources = new ArrayList<>();
-        for (Resource r : resources) {
-            if (getResourceCount(r) != 0) {
-                removeResource(r, 1);
-                removedResources.add(r);
+    public Resource[] removeExistingResources(final Resource[] resourceArray) {
+        Resource[] removedResources = new Resource[resourceArray.length];
+        int numRemoved = 0;
+        for (Resource r : resourceArray) {
+            if (resources[r.ordinal()] != 0) {
+                resources[r.ordinal()]--;
+                removedResources[numRemoved] = r;
+                numRemoved++;
             }
         }
 
-        return removedResources.toArray(new Resource[removedResources.size()]);
+        return Arrays.copyOf(removedResources, numRemoved);
     }
 
     public void clearResources() {
-        hand.put(Resource.LUMBER, 0);
-        hand.put(Resource.BRICK, 0);
-        hand.put(Resource.WOOL, 0);
-        hand.put(Resource.GRAIN, 0);
-        hand.put(Resource.ORE, 0);
+        Arrays.fill(resources, 0);
     }
 
     public int getResourceCount(final Resource resource) {
-        return this.hand.get(resource);
+        return this.resources[resource.ordinal()];
+    }
+
+    /**
+     * Gets the amount of each resource in this hand
+     *
+     * @return a copy of the amounts indexed by resource ordinal
+     */
+    public int[] getResourceAmounts() {
+        return Arrays.copyOf(this.resources, Resource.COUNT);
     }
 
     public boolean addDevelopmentCard(final DevCard card) {
@@ -184,13 +227,15 @@ public class Hand implements Restorable {
 
     //helper method for robbing player
     public Resource[] getResourceTypes() {
-        ArrayList<Resource> resources = new ArrayList<>();
-        for (java.util.Map.Entry<Resource, Integer> entry : hand.entrySet()) {
-            if (entry.getValue() > 0) {
-                resources.add(entry.getKey());
+        Resource[] types = new Resource[Resource.COUNT];
+        int numTypes = 0;
+        for (Resource resource : Resource.values()) {
+            if (resource != Resource.ANY && resources[resource.ordinal()] > 0) {
+                types[numTypes] = resource;
+                numTypes++;
             }
         }
-        return resources.toArray(new Resource[0]);
+        return Arrays.copyOf(types, numTypes);
     }
 
     // -----------------------------------
@@ -199,9 +244,11 @@ public class Hand implements Restorable {
     //
     // -----------------------------------
 
+    private HandMemento lastMemento;
+
     public class HandMemento implements Memento {
 
-        private final HashMap<Resource, Integer> hand;
+        private final int[] resources;
         private final HashMap<DevCard, Integer> devCards;
         private final HashMap<DevCard, Integer> devCardsBoughtThisTurn;
 
@@ -211,8 +258,7 @@ public class Hand implements Restorable {
         private static final String DEV_CARDS_BOUGHT_FILE_NAME = "DevCardsBoughtThisTurn.txt";
 
         private HandMemento() {
-            this.hand = new HashMap<>();
-            this.hand.putAll(Hand.this.hand);
+            this.resources = Arrays.copyOf(Hand.this.resources, Resource.COUNT);
 
             this.devCards = new HashMap<>();
             this.devCards.putAll(Hand.this.devCards);
@@ -224,22 +270,21 @@ public class Hand implements Restorable {
         @SuppressFBWarnings("EI_EXPOSE_REP2")
         public HandMemento(final File folder) {
             // Initialize the HashMaps
-            this.hand = new HashMap<>();
+            this.resources = new int[Resource.COUNT];
             this.devCards = new HashMap<>();
             this.devCardsBoughtThisTurn = new HashMap<>();
 
             // Read data from separate files and populate the HashMaps
-            readResourceMap(folder, hand);
+            readResources(folder, resources);
             readDevCardMap(folder, DEV_CARDS_FILE_NAME, devCards);
             readDevCardMap(folder, DEV_CARDS_BOUGHT_FILE_NAME, devCardsBoughtThisTurn);
         }
 
-        private void readResourceMap(final File folder, final Map<Resource, Integer> map) {
+        private void readResources(final File folder, final int[] amounts) {
             MementoReader reader = new MementoReader(folder, HandMemento.HAND_FILE_NAME);
 
             for (Map.Entry<String, String> entry : reader.readAllFields().entrySet()) {
-                map.put(Resource.valueOf(entry.getKey()),
-                        Integer.parseInt(entry.getValue()));
+                amounts[Resource.valueOf(entry.getKey()).ordinal()] = Integer.parseInt(entry.getValue());
             }
         }
 
@@ -254,26 +299,40 @@ public class Hand implements Restorable {
 
         public void save(final File folder) throws IOException {
             // Write the state of the class's attributes to separate files
-            writeHashMap(folder, HAND_FILE_NAME, hand);
+            writeResources(folder);
             writeHashMap(folder, DEV_CARDS_FILE_NAME, devCards);
             writeHashMap(folder, DEV_CARDS_BOUGHT_FILE_NAME, devCardsBoughtThisTurn);
         }
 
+        // Helper method to write the resource amounts to their own file
+        private void writeResources(final File folder) throws IOException {
+            try (MementoWriter writer = new MementoWriter(folder, HAND_FILE_NAME)) {
+                for (int i = 0; i < Resource.COUNT; i++) {
+                    writer.writeField(Resource.values()[i].toString(), Integer.toString(resources[i]));
+                }
+            }
+        }
+
         // Helper method to write a HashMap to a separate file
         private void writeHashMap(final File folder, final String fileName, final HashMap<?, Integer> hashMap) throws IOException {
             // Create a MementoWriter for the current map
-            MementoWriter writer = new MementoWriter(folder, fileName);
-
-            // Write each entry of the map to the file
-            for (Map.Entry<?, Integer> entry : hashMap.entrySet()) {
-                writer.writeField(entry.getKey().toString(), entry.getValue().toString());
+            try (MementoWriter writer = new MementoWriter(folder, fileName)) {
+                // Write each entry of the map to the file
+                for (Map.Entry<?, Integer> entry : hashMap.entrySet()) {
+                    writer.writeField(entry.getKey().toString(), entry.getValue().toString());
+                }
             }
         }
 
+        private boolean isCurrent() {
+            return Arrays.equals(this.resources, Hand.this.resources)
+                    && this.devCards.equals(Hand.this.devCards)
+                    && this.devCardsBoughtThisTurn.equals(Hand.this.devCardsBoughtThisTurn);
+        }
+
         public void restore() {
             // Restore the state of the hand
-            Hand.this.hand.clear();
-            Hand.this.hand.putAll(hand);
+            System.arraycopy(resources, 0, Hand.this.resources, 0, Resource.COUNT);
 
             // Restore the state of the devCards
             Hand.this.devCards.clear();
@@ -287,6 +346,9 @@ public class Hand implements Restorable {
 
     @Override
     public Memento createMemento() {
-        return new HandMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new HandMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -11,31 +11,32 @@ import java.util.*;
 public class HarvestBooster implements Restorable {
     private static final int DURATION = 5;
     private static final int DONE_TIME = 1;
+    private static final Resource[] RESOURCES = Resource.values();
 
-    private final Map<Resource, BoostType> boosts;
-    private final Map<Resource, Integer> durations;
+    // boost and turns left of each resource indexed by ordinal
+    private final BoostType[] boosts = new BoostType[Resource.COUNT];
+    private final int[] durations = new int[Resource.COUNT];
 
     public HarvestBooster() {
-        this.boosts = new HashMap<>();
-        this.boosts.put(Resource.BRICK, BoostType.NONE);
-        this.boosts.put(Resource.LUMBER, BoostType.NONE);
-        this.boosts.put(Resource.ORE, BoostType.NONE);
-        this.boosts.put(Resource.GRAIN, BoostType.NONE);
-        this.boosts.put(Resource.WOOL, BoostType.NONE);
-
-        this.durations = new HashMap<>();
-        this.durations.put(Resource.BRICK, DONE_TIME);
-        this.durations.put(Resource.LUMBER, DONE_TIME);
-        this.durations.put(Resource.ORE, DONE_TIME);
-        this.durations.put(Resource.GRAIN, DONE_TIME);
-        this.durations.put(Resource.WOOL, DONE_TIME);
+        Arrays.fill(this.boosts, BoostType.NONE);
+        Arrays.fill(this.durations, DONE_TIME);
+    }
+
+    /**
+     * Creates an independent copy of this booster
+     */
+    public HarvestBooster copy() {
+        HarvestBooster copy = new HarvestBooster();
+        System.arraycopy(this.boosts, 0, copy.boosts, 0, Resource.COUNT);
+        System.arraycopy(this.durations, 0, copy.durations, 0, Resource.COUNT);
+        return copy;
     }
 
     public Resource[] getAdjustedHarvest(final Resource[] resources) {
         List<Resource> adjustedHarvest = new LinkedList<>();
 
         for (Resource resource : resources) {
-            BoostType boost = this.boosts.get(resource);
+            BoostType boost = this.boosts[resource.ordinal()];
             if (boost == BoostType.NONE) {
                 adjustedHarvest.add(resource);
             } else if (boost == BoostType.DOUBLE) {
@@ -47,19 +48,39 @@ public class HarvestBooster implements Restorable {
         return adjustedHarvest.toArray(new Resource[0]);
     }
 
+    /**
+     * Adjusts a harvest given as amounts rather than cards, same as getAdjustedHarvest(Resource[])
+     *
+     * @param amounts the amount of each resource harvested indexed by ordinal
+     * @return the adjusted amounts indexed by ordinal
+     */
+    public int[] getAdjustedHarvest(final int[] amounts) {
+        int[] adjustedHarvest = new int[Resource.COUNT];
+
+        for (int i = 0; i < Resource.COUNT; i++) {
+            BoostType boost = this.boosts[i];
+            if (boost == BoostType.NONE) {
+                adjustedHarvest[i] = amounts[i];
+            } else if (boost == BoostType.DOUBLE) {
+                adjustedHarvest[i] = 2 * amounts[i];
+            } // else leave it at 0 since it disabled
+        }
+        advanceClock();
+        return adjustedHarvest;
+    }
+
     public void setBoost(final Resource resource, final BoostType boostType) {
-        this.boosts.put(resource, boostType);
-        this.durations.put(resource, DURATION);
+        this.boosts[resource.ordinal()] = boostType;
+        this.durations[resource.ordinal()] = DURATION;
     }
 
     private void advanceClock() {
         // advance the clock for all of them
-        for (Map.Entry<Resource, Integer> boost : this.durations.entrySet()) {
-            Resource resource = boost.getKey();
-            Integer duration = boost.getValue();
-            this.durations.put(resource, Math.max(DONE_TIME, duration - 1));
+        for (int i = 0; i < Resource.COUNT; i++) {
+            int duration = this.durations[i];
+            this.durations[i] = Math.max(DONE_TIME, duration - 1);
             if (duration == DONE_TIME) { // if they wore out change remove the boost
-                this.boosts.put(resource, BoostType.NONE);
+                this.boosts[i] = BoostType.NONE;
             }
         }
     }
@@ -70,82 +91,82 @@ public class HarvestBooster implements Restorable {
     //
     // -----------------------------------
 
+    private HarvestBoosterMemento lastMemento;
+
     public class HarvestBoosterMemento implements Memento {
 
-        private final Map<Resource, BoostType> boosts;
-        private final Map<Resource, Integer> durations;
+        private final BoostType[] boosts;
+        private final int[] durations;
 
         // Storage Constants
         private static final String BOOSTS_FILE_NAME = "Boosts.txt";
         private static final String DURATIONS_FILE_NAME = "Durations.txt";
 
         private HarvestBoosterMemento() {
-            this.boosts = new HashMap<>();
-            this.boosts.putAll(HarvestBooster.this.boosts);
-
-            this.durations = new HashMap<>();
-            this.durations.putAll(HarvestBooster.this.durations);
+            this.boosts = Arrays.copyOf(HarvestBooster.this.boosts, Resource.COUNT);
+            this.durations = Arrays.copyOf(HarvestBooster.this.durations, Resource.COUNT);
         }
 
         @SuppressFBWarnings("EI_EXPOSE_REP2")
         public HarvestBoosterMemento(final File folder) {
-            // Initialize the HashMaps
-            this.boosts = new HashMap<>();
-            this.durations = new HashMap<>();
-
-            // Read data from separate files and populate the HashMaps
-            readBoostMap(folder, this.boosts);
-            readDurationMap(folder, this.durations);
+            // resources missing from the files have no boost
+            this.boosts = new BoostType[Resource.COUNT];
+            Arrays.fill(this.boosts, BoostType.NONE);
+            this.durations = new int[Resource.COUNT];
+            Arrays.fill(this.durations, DONE_TIME);
+
+            // Read data from separate files
+            readBoosts(folder, this.boosts);
+            readDurations(folder, this.durations);
         }
 
-        private void readBoostMap(final File folder, final Map<Resource, BoostType> map) {
+        private void readBoosts(final File folder, final BoostType[] boostArray) {
             MementoReader reader = new MementoReader(folder, HarvestBoosterMemento.BOOSTS_FILE_NAME);
 
             for (Map.Entry<String, String> entry : reader.readAllFields().entrySet()) {
-                map.put(Resource.valueOf(entry.getKey()),
-                        BoostType.valueOf(entry.getValue()));
+                boostArray[Resource.valueOf(entry.getKey()).ordinal()] = BoostType.valueOf(entry.getValue());
             }
         }
 
-        private void readDurationMap(final File folder, final Map<Resource, Integer> map) {
+        private void readDurations(final File folder, final int[] durationArray) {
             MementoReader reader = new MementoReader(folder, HarvestBoosterMemento.DURATIONS_FILE_NAME);
 
             for (Map.Entry<String, String> entry : reader.readAllFields().entrySet()) {
-                map.put(Resource.valueOf(entry.getKey()),
-                        Integer.parseInt(entry.getValue()));
+                durationArray[Resource.valueOf(entry.getKey()).ordinal()] = Integer.parseInt(entry.getValue());
             }
         }
 
         public void save(final File folder) throws IOException {
-            // Write the state of the class's attributes to separate files
-            writeHashMap(folder, BOOSTS_FILE_NAME, this.boosts);
-            writeHashMap(folder, DURATIONS_FILE_NAME, this.durations);
+            // Write the state of the class's attributes to separate files, one field per resource
+            try (MementoWriter writer = new MementoWriter(folder, BOOSTS_FILE_NAME)) {
+                for (int i = 0; i < Resource.COUNT; i++) {
+                    writer.writeField(RESOURCES[i].toString(), this.boosts[i].toString());
+                }
+            }
+            try (MementoWriter writer = new MementoWriter(folder, DURATIONS_FILE_NAME)) {
+                for (int i = 0; i < Resource.COUNT; i++) {
+                    writer.writeField(RESOURCES[i].toString(), Integer.toString(this.durations[i]));
+                }
+            }
         }
 
-        // Helper method to write a HashMap to a separate file
-        private void writeHashMap(final File folder, final String fileName, final Map<?, ?> hashMap) throws IOException {
-            // Create a MementoWriter for the current map
-            MementoWriter writer = new MementoWriter(folder, fileName);
-
-            // Write each entry of the map to the file
-            for (Map.Entry<?, ?> entry : hashMap.entrySet()) {
-                writer.writeField(entry.getKey().toString(), entry.getValue().toString());
-            }
+        private boolean isCurrent() {
+            return Arrays.equals(this.boosts, HarvestBooster.this.boosts)
+                    && Arrays.equals(this.durations, HarvestBooster.this.durations);
         }
 
         @Override
         public void restore() {
-            HarvestBooster.this.boosts.clear();
-            HarvestBooster.this.boosts.putAll(this.boosts);
-
-            // Restore the state of the devCards
-            HarvestBooster.this.durations.clear();
-            HarvestBooster.this.durations.putAll(this.durations);
+            System.arraycopy(this.boosts, 0, HarvestBooster.this.boosts, 0, Resource.COUNT);
+            System.arraycopy(this.durations, 0, HarvestBooster.this.durations, 0, Resource.COUNT);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new HarvestBoosterMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new HarvestBoosterMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.util.Arrays;
 
 import domain.bank.Bank;
+import domain.building.DistrictType;
 import domain.devcarddeck.DevCard;
 import domain.bank.Resource;
 import data.*;
@@ -19,6 +20,17 @@ public class Player implements Restorable {
     private static final int BUFF_AMOUNT = 3;
     private static final int MAX_CITIES = 4;
 
+    // costs are shared instead of being built on every purchase, they must never be modified
+    private static final Resource[] SETTLEMENT_COST = {Resource.LUMBER, Resource.BRICK, Resource.WOOL, Resource.GRAIN};
+    private static final Resource[] ROAD_COST = {Resource.LUMBER, Resource.BRICK};
+    private static final Resource[] CITY_COST = {Resource.ORE, Resource.ORE, Resource.ORE, Resource.GRAIN, Resource.GRAIN};
+    private static final Resource[] DEV_CARD_COST = {Resource.WOOL, Resource.GRAIN, Resource.ORE};
+    private static final int[] SETTLEMENT_DELTA = removalOf(SETTLEMENT_COST);
+    private static final int[] ROAD_DELTA = removalOf(ROAD_COST);
+    private static final int[] CITY_DELTA = removalOf(CITY_COST);
+    private static final int[] DEV_CARD_DELTA = removalOf(DEV_CARD_COST);
+    private static final int[][] DISTRICT_DELTAS = districtDeltas(); // indexed by DistrictType ordinal
+
     @SuppressFBWarnings("URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD") //warning is temporary
     public final int playerNum;
     public Hand hand;
@@ -35,6 +47,7 @@ public class Player implements Restorable {
     private int numTradeBoosts;
     private boolean hasLongestRoadCard;
     private boolean hasLargestArmy;
+    private final int[] tradeDelta = new int[Resource.COUNT]; // reused by every bank trade
 
     /**
      * Production constructor
@@ -68,26 +81,35 @@ public class Player implements Restorable {
         this(1);
     }
 
+    /**
+     * Creates an independent copy of this player that trades with the given bank
+     */
+    public Player copy(final Bank resourceBank) {
+        Player copy = new Player(this.playerNum, this.harvestBooster != null ? this.harvestBooster.copy() : null, resourceBank);
+        copy.hand = this.hand.copy();
+        copy.victoryPoints = this.victoryPoints;
+        copy.hasPlayedDevCard = this.hasPlayedDevCard;
+        copy.numKnightsPlayed = this.numKnightsPlayed;
+        copy.numSettlements = this.numSettlements;
+        copy.numRoads = this.numRoads;
+        copy.numCities = this.numCities;
+        System.arraycopy(this.tradeBoosts, 0, copy.tradeBoosts, 0, TOTAL_PORTS);
+        copy.numTradeBoosts = this.numTradeBoosts;
+        copy.hasLongestRoadCard = this.hasLongestRoadCard;
+        copy.hasLargestArmy = this.hasLargestArmy;
+        return copy;
+    }
+
     public boolean purchaseSettlement() {
         if (numSettlements == 0) {
             return false;
         }
         //check if the player can afford to purchase the settlement
-        if (!this.hand.removeResources(new Resource[]{
-                Resource.LUMBER,
-                Resource.BRICK,
-                Resource.WOOL,
-                Resource.GRAIN
-        })) {
+        if (!this.hand.removeResources(SETTLEMENT_COST)) {
             return false;
         }
         //return the cards to the bank
-        this.bank.addResources(new Resource[]{
-           Resource.LUMBER,
-           Resource.BRICK,
-           Resource.WOOL,
-           Resource.GRAIN
-        });
+        this.bank.addResources(SETTLEMENT_COST);
 
         this.numSettlements--;
 
@@ -100,17 +122,11 @@ public class Player implements Restorable {
         if (this.numRoads == 0) {
             return false;
         }
-        if (!this.hand.removeResources(new Resource[] {
-                Resource.LUMBER,
-                Resource.BRICK,
-        })) {
+        if (!this.hand.removeResources(ROAD_COST)) {
             return false;
         }
         //return the cards to the bank
-        this.bank.addResources(new Resource[]{
-                Resource.LUMBER,
-                Resource.BRICK,
-        });
+        this.bank.addResources(ROAD_COST);
 
         this.numRoads--;
 
@@ -125,6 +141,20 @@ public class Player implements Restorable {
         return ret;
     }
 
+    /**
+     * Adds the given amounts to this player's hand, all of them or none
+     *
+     * @param amounts the amount of each resource indexed by ordinal
+     * @return true if the amounts were added
+     */
+    public boolean addResources(final int[] amounts) {
+        boolean ret = this.hand.applyOrRollback(amounts);
+        if (this.bank != null) {
+            this.bank.payLoanIfDue(this);
+        }
+        return ret;
+    }
+
     /**
      * Gets the array of trade boosts this player has
      * Note: ANY type means that is 3:1 for any resource type.
@@ -172,8 +202,11 @@ public class Player implements Restorable {
         return true;
     }
 
-    public boolean tradeWithBank(final Resource resourceGiven, final Resource resourceTaken) {
-        //determine trade boost for resourceGiven
+    /**
+     * Gets how many of the given resource this player gives the bank for one resource,
+     * 4 without a port, 3 with a generic port and 2 with a port of the resource
+     */
+    public int getTradeRatio(final Resource resourceGiven) {
         int amountToGive = MAX_AMOUNT;
         for (Resource tradeBoost : tradeBoosts) {
             if (tradeBoost == resourceGiven) {
@@ -182,19 +215,23 @@ public class Player implements Restorable {
                 amountToGive = Math.min(amountToGive, BUFF_AMOUNT);
             }
         }
+        return amountToGive;
+    }
 
-        boolean playerCanTrade = this.hand.removeResource(resourceGiven, amountToGive);
-        if (!playerCanTrade) {
-            return false;
-        }
-        boolean bankCanTrade = bank.removeResource(resourceTaken, 1);
-        if (!bankCanTrade) {
-            this.hand.addResource(resourceGiven, amountToGive);
+    public boolean tradeWithBank(final Resource resourceGiven, final Resource resourceTaken) {
+        //determine trade boost for resourceGiven
+        int amountToGive = getTradeRatio(resourceGiven);
+
+        // the player takes the delta and the bank the opposite of it, both or neither
+        Arrays.fill(tradeDelta, 0);
+        tradeDelta[resourceGiven.ordinal()] -= amountToGive;
+        tradeDelta[resourceTaken.ordinal()] += 1;
+
+        if (!this.hand.canApply(tradeDelta) || !bank.removeResources(tradeDelta)) {
             return false;
         }
 
-        this.hand.addResource(resourceTaken, 1);
-        bank.addResource(resourceGiven, amountToGive);
+        this.hand.apply(tradeDelta);
 
         return true;
     }
@@ -203,29 +240,75 @@ public class Player implements Restorable {
         return this.hand.getResourceCount(resource);
     }
 
+    // -----------------------------------
+    //
+    // Checks that change nothing, used to list the legal moves
+    //
+    // -----------------------------------
+
+    public boolean canAffordSettlement() {
+        return this.numSettlements > 0 && this.hand.canApply(SETTLEMENT_DELTA);
+    }
+
+    public boolean canAffordRoad() {
+        return this.numRoads > 0 && this.hand.canApply(ROAD_DELTA);
+    }
+
+    public boolean canAffordCity() {
+        return this.numCities > 0 && this.hand.canApply(CITY_DELTA);
+    }
+
+    public boolean canAffordDevCard() {
+        return this.hand.canApply(DEV_CARD_DELTA);
+    }
+
+    /**
+     * Tells whether this player holds all the resources the given district costs
+     */
+    public boolean canAffordDistrict(final DistrictType type) {
+        return this.hand.canApply(DISTRICT_DELTAS[type.ordinal()]);
+    }
+
+    /**
+     * Tells whether this player has a card of the given type that was not bought this turn,
+     * the same check useDevCard does before it removes the card
+     */
+    public boolean canPlayDevCard(final DevCard card) {
+        if (card == DevCard.VICTORY) {
+            return false;
+        }
+        return hand.devCards.get(card) - hand.devCardsBoughtThisTurn.get(card) > 0;
+    }
+
+    // the delta that takes the given resources out of a hand
+    private static int[] removalOf(final Resource[] cost) {
+        int[] delta = new int[Resource.COUNT];
+        for (Resource resource : cost) {
+            delta[resource.ordinal()]--;
+        }
+        return delta;
+    }
+
+    private static int[][] districtDeltas() {
+        DistrictType[] types = DistrictType.values();
+        int[][] deltas = new int[types.length][];
+        for (DistrictType type : types) {
+            deltas[type.ordinal()] = removalOf(type.getDistrictCost());
+        }
+        return deltas;
+    }
+
     public boolean canUpgradeSettlementToCity() {
         if (numCities == 0) {
             return false;
         }
 
-        boolean playerCanPurchase = this.hand.removeResources(new Resource[]{
-                Resource.ORE,
-                Resource.ORE,
-                Resource.ORE,
-                Resource.GRAIN,
-                Resource.GRAIN
-        });
+        boolean playerCanPurchase = this.hand.removeResources(CITY_COST);
         if (!playerCanPurchase) {
             return false;
         }
 
-        bank.addResources(new Resource[]{
-                Resource.ORE,
-                Resource.ORE,
-                Resource.ORE,
-                Resource.GRAIN,
-                Resource.GRAIN
-        });
+        bank.addResources(CITY_COST);
 
         this.numSettlements++;
         this.numCities--;
@@ -238,23 +321,15 @@ public class Player implements Restorable {
         if (card == null) {
             throw new IllegalArgumentException("Cannot purchase null Development Card");
         }
-        if (!this.hand.removeResources(new Resource[]{
-                Resource.WOOL, Resource.GRAIN, Resource.ORE
-        })) {
+        if (!this.hand.removeResources(DEV_CARD_COST)) {
             return false;
         }
 
-        bank.addResources(new Resource[]{
-                Resource.WOOL, Resource.GRAIN, Resource.ORE
-        });
+        bank.addResources(DEV_CARD_COST);
         boolean purchasedDevelopmentCard = this.hand.addDevelopmentCard(card);
         if (!purchasedDevelopmentCard) {
-            this.addResources(new Resource[]{
-                    Resource.WOOL, Resource.GRAIN, Resource.ORE
-            });
-            bank.removeResources(new Resource[]{
-                    Resource.WOOL, Resource.GRAIN, Resource.ORE
-            });
+            this.addResources(DEV_CARD_COST);
+            bank.removeResources(DEV_CARD_COST);
             return false;
         }
         if (card == DevCard.VICTORY) {
@@ -430,6 +505,8 @@ public class Player implements Restorable {
         return "Player " + this.playerNum;
     }
 
+    private PlayerMemento lastMemento;
+
     public class PlayerMemento implements Memento {
 
         // simple fields
@@ -489,19 +566,18 @@ public class Player implements Restorable {
             MementoReader reader = new MementoReader(folder, TARGET_FILE_NAME);
 
             // Read simple fields from the file
-            this.victoryPoints = Integer.parseInt(reader.readField(VICTORY_POINTS));
-            this.hasPlayedDevCard = Boolean.parseBoolean(reader.readField(HAS_PLAYED_DEV_CARD));
-            this.numKnightsPlayed = Integer.parseInt(reader.readField(NUM_KNIGHTS_PLAYED));
-            this.numSettlements = Integer.parseInt(reader.readField(NUM_SETTLEMENTS));
-            this.numRoads = Integer.parseInt(reader.readField(NUM_ROADS));
-            this.numCities = Integer.parseInt(reader.readField(NUM_CITIES));
-            this.numTradeBoosts = Integer.parseInt(reader.readField(NUM_TRADE_BOOSTS));
-            this.hasLongestRoadCard = Boolean.parseBoolean(reader.readField(HAS_LONGEST_ROAD_CARD));
-            this.hasLargestArmy = Boolean.parseBoolean(reader.readField(HAS_LARGEST_ARMY));
+            this.victoryPoints = reader.readInt(VICTORY_POINTS);
+            this.hasPlayedDevCard = reader.readBoolean(HAS_PLAYED_DEV_CARD);
+            this.numKnightsPlayed = reader.readInt(NUM_KNIGHTS_PLAYED);
+            this.numSettlements = reader.readInt(NUM_SETTLEMENTS);
+            this.numRoads = reader.readInt(NUM_ROADS);
+            this.numCities = reader.readInt(NUM_CITIES);
+            this.numTradeBoosts = reader.readInt(NUM_TRADE_BOOSTS);
+            this.hasLongestRoadCard = reader.readBoolean(HAS_LONGEST_ROAD_CARD);
+            this.hasLargestArmy = reader.readBoolean(HAS_LARGEST_ARMY);
 
             // Read trade boosts from the file
-            String tradeBoostsString = reader.readField(TRADE_BOOSTS);
-            this.tradeBoosts = parseTradeBoosts(tradeBoostsString);
+            this.tradeBoosts = reader.readEnumArray(TRADE_BOOSTS, Resource.class);
 
             // Restore hand state using its memento
             File handFolder = reader.getSubFolder(HAND_SUBFOLDER_NAME);
@@ -512,49 +588,59 @@ public class Player implements Restorable {
             this.harvestBoosterMemento = Player.this.harvestBooster.new HarvestBoosterMemento(harvestBoosterFolder);
         }
 
-        private Resource[] parseTradeBoosts(final String tradeBoostsString) {
-            String[] boostTokens = tradeBoostsString.substring(1, tradeBoostsString.length() - 1).split(", ");
-
-            Resource[] boosts = new Resource[boostTokens.length];
-            for (int i = 0; i < boostTokens.length; i++) {
-                String token = boostTokens[i].trim();
-                if (token.equals("null")) {
-                    boosts[i] = null;
-                } else {
-                    boosts[i] = Resource.valueOf(token);
-                }
-            }
-            return boosts;
-        }
-
         public void save(final File folder) throws IOException {
             // Create a MementoWriter for writing memento data
-            MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME);
-
-            // Write simple fields to the file
-            writer.writeField(VICTORY_POINTS, Integer.toString(victoryPoints));
-            writer.writeField(HAS_PLAYED_DEV_CARD, Boolean.toString(hasPlayedDevCard));
-            writer.writeField(NUM_KNIGHTS_PLAYED, Integer.toString(numKnightsPlayed));
-            writer.writeField(NUM_SETTLEMENTS, Integer.toString(numSettlements));
-            writer.writeField(NUM_ROADS, Integer.toString(numRoads));
-            writer.writeField(NUM_CITIES, Integer.toString(numCities));
-            writer.writeField(NUM_TRADE_BOOSTS, Integer.toString(numTradeBoosts));
-            writer.writeField(HAS_LONGEST_ROAD_CARD, Boolean.toString(hasLongestRoadCard));
-            writer.writeField(HAS_LARGEST_ARMY, Boolean.toString(hasLargestArmy));
-
-            // Write trade boosts to the file
-            writer.writeField(TRADE_BOOSTS, Arrays.toString(tradeBoosts));
-
-            // Delegate saving of the hand to its own memento
-            File handFolder = writer.getSubFolder(HAND_SUBFOLDER_NAME);
-            handMemento.save(handFolder);
+            try (MementoWriter writer = new MementoWriter(folder, TARGET_FILE_NAME)) {
+                // Write simple fields to the file
+                writer.writeField(VICTORY_POINTS, Integer.toString(victoryPoints));
+                writer.writeField(HAS_PLAYED_DEV_CARD, Boolean.toString(hasPlayedDevCard));
+                writer.writeField(NUM_KNIGHTS_PLAYED, Integer.toString(numKnightsPlayed));
+                writer.writeField(NUM_SETTLEMENTS, Integer.toString(numSettlements));
+                writer.writeField(NUM_ROADS, Integer.toString(numRoads));
+                writer.writeField(NUM_CITIES, Integer.toString(numCities));
+                writer.writeField(NUM_TRADE_BOOSTS, Integer.toString(numTradeBoosts));
+                writer.writeField(HAS_LONGEST_ROAD_CARD, Boolean.toString(hasLongestRoadCard));
+                writer.writeField(HAS_LARGEST_ARMY, Boolean.toString(hasLargestArmy));
+
+                // Write trade boosts to the file
+                writer.writeField(TRADE_BOOSTS, Arrays.toString(tradeBoosts));
+
+                // Delegate saving of the hand to its own memento
+                File handFolder = writer.getSubFolder(HAND_SUBFOLDER_NAME);
+                handMemento.save(handFolder);
+
+                // Delegate saving of the hand to its own memento
+                File harvestBoosterFolder = writer.getSubFolder(HARVEST_BOOSTER_SUBFOLDER_NAME);
+                harvestBoosterMemento.save(harvestBoosterFolder);
+            }
+        }
 
-            // Delegate saving of the hand to its own memento
-            File harvestBoosterFolder = writer.getSubFolder(HARVEST_BOOSTER_SUBFOLDER_NAME);
-            harvestBoosterMemento.save(harvestBoosterFolder);
+        private boolean isCurrent() {
+            return this.victoryPoints == Player.this.victoryPoints
+                    && this.hasPlayedDevCard == Player.this.hasPlayedDevCard
+                    && this.numKnightsPlayed == Player.this.numKnightsPlayed
+                    && this.numSettlements == Player.this.numSettlements
+                    && this.numRoads == Player.this.numRoads
+                    && this.numCities == Player.this.numCities
+                    && this.numTradeBoosts == Player.this.numTradeBoosts
+                    && this.hasLongestRoadCard == Player.this.hasLongestRoadCard
+                    && this.hasLargestArmy == Player.this.hasLargestArmy
+                    && Arrays.equals(this.tradeBoosts, Player.this.tradeBoosts)
+                    && this.handMemento == Player.this.hand.createMemento()
+                    && this.harvestBoosterMemento == Player.this.harvestBooster.createMemento();
         }
 
         public void restore() {
+            restoreChanges(null);
+        }
+
+        @Override
+        public void restoreChanges(final Memento current) {
+            if (current == this) {
+                return;
+            }
+            PlayerMemento previous = current instanceof PlayerMemento ? (PlayerMemento) current : null;
+
             // Restore simple fields
             Player.this.victoryPoints = this.victoryPoints;
             Player.this.hasPlayedDevCard = this.hasPlayedDevCard;
@@ -570,15 +656,18 @@ public class Player implements Restorable {
             System.arraycopy(this.tradeBoosts, 0, Player.this.tradeBoosts, 0, this.tradeBoosts.length);
 
             // Restore hand state using its memento
-            handMemento.restore();
+            handMemento.restoreChanges(previous != null ? previous.handMemento : null);
 
             // Restore harvestBooster using its memento
-            harvestBoosterMemento.restore();
+            harvestBoosterMemento.restoreChanges(previous != null ? previous.harvestBoosterMemento : null);
         }
     }
 
     @Override
     public Memento createMemento() {
-        return new PlayerMemento();
+        if (this.lastMemento == null || !this.lastMemento.isCurrent()) {
+            this.lastMemento = new PlayerMemento();
+        }
+        return this.lastMemento;
     }
 }
@@ -0,0 +1,144 @@
+package domain.sim;
+
+import domain.bank.Resource;
+import domain.controller.Controller;
+import domain.controller.GamePhase;
+import domain.devcarddeck.DevCard;
+import domain.game.SpotScorer;
+import domain.player.Player;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * A policy that spends its resources as soon as it can, preferring whatever gives
+ * victory points the fastest: cities, then settlements, then development cards, then roads,
+ * unless a road is needed to reach a spot for a settlement.
+ * Development cards are played as soon as they can be, and anything it holds more than four of
+ * is traded to the bank for a resource it has none of.
+ * <p>
+ * Settlements and cities go on the best scoring spot. In setup it looks one road ahead, placing
+ * each settlement where it and the spot a road from it lead to score the most together.
+ */
+public class BuilderPolicy extends RandomPolicy {
+    private static final int[] CITY_COST = costOf(Resource.ORE, Resource.ORE, Resource.ORE, Resource.GRAIN, Resource.GRAIN);
+    private static final int[] SETTLEMENT_COST = costOf(Resource.LUMBER, Resource.BRICK, Resource.WOOL, Resource.GRAIN);
+    private static final int[] DEV_CARD_COST = costOf(Resource.WOOL, Resource.GRAIN, Resource.ORE);
+    private static final int[] ROAD_COST = costOf(Resource.LUMBER, Resource.BRICK);
+    private static final int BANK_TRADE_AMOUNT = 4;
+    private static final int MAX_SETTLEMENTS = 5;
+
+    @Override
+    public TurnAction chooseAction(final Controller controller, final RandomGenerator random) {
+        Player player = controller.getCurrentPlayer();
+
+        if (controller.getDevCardsEnabled()) {
+            if (canPlay(player, DevCard.KNIGHT)) {
+                return TurnAction.PLAY_KNIGHT;
+            }
+            if (canPlay(player, DevCard.PLENTY)) {
+                return TurnAction.PLAY_YEAR_OF_PLENTY;
+            }
+            if (canPlay(player, DevCard.MONOPOLY)) {
+                return TurnAction.PLAY_MONOPOLY;
+            }
+            if (canPlay(player, DevCard.ROAD) && player.getNumRoads() > 0 && !controller.getBuildableRoads().isEmpty()) {
+                return TurnAction.PLAY_ROAD_BUILDING;
+            }
+        }
+        // the player counts the pieces they have left, so a settlement is on the board when not all are left
+        if (canAfford(player, CITY_COST) && player.getNumSettlements() < MAX_SETTLEMENTS && player.getNumCities() > 0) {
+            return TurnAction.BUILD_CITY;
+        }
+        boolean roomToSettle = !controller.getBuildableVertexes().isEmpty();
+        if (canAfford(player, SETTLEMENT_COST) && player.getNumSettlements() > 0 && roomToSettle) {
+            return TurnAction.BUILD_SETTLEMENT;
+        }
+        // roads come first while they are the only way to reach a spot for the next settlement
+        boolean canBuildRoad = canAfford(player, ROAD_COST) && player.getNumRoads() > 0 && !controller.getBuildableRoads().isEmpty();
+        if (canBuildRoad && player.getNumSettlements() > 0 && !roomToSettle) {
+            return TurnAction.BUILD_ROAD;
+        }
+        if (canAfford(player, DEV_CARD_COST)) {
+            return TurnAction.BUY_DEV_CARD;
+        }
+        if (canBuildRoad) {
+            return TurnAction.BUILD_ROAD;
+        }
+        if (chooseBankTrade(player, random) != null) {
+            return TurnAction.TRADE_WITH_BANK;
+        }
+        return TurnAction.END_TURN;
+    }
+
+    @Override
+    public int chooseVertex(final Controller controller, final List<Integer> vertexes, final RandomGenerator random) {
+        SpotScorer scorer = controller.getSpotScorer();
+        if (controller.getPhase() == GamePhase.SETUP) {
+            return scorer.bestPlacement(new HashSet<>(vertexes)).vertex();
+        }
+        return scorer.bestVertex(vertexes);
+    }
+
+    @Override
+    public int chooseRoad(final Controller controller, final List<Integer> roads, final RandomGenerator random) {
+        if (controller.getPhase() != GamePhase.SETUP) {
+            return super.chooseRoad(controller, roads, random);
+        }
+
+        // the road towards the best spot left for the next settlement
+        SpotScorer scorer = controller.getSpotScorer();
+        Set<Integer> buildable = controller.getBuildableVertexes();
+        int best = roads.get(0);
+        for (int road : roads) {
+            if (scorer.getRoadScore(road, buildable) > scorer.getRoadScore(best, buildable)) {
+                best = road;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Resource[] chooseBankTrade(final Player player, final RandomGenerator random) {
+        Resource surplus = null;
+        Resource missing = null;
+        for (Resource resource : new Resource[]{Resource.ORE, Resource.GRAIN, Resource.WOOL, Resource.BRICK, Resource.LUMBER}) {
+            int count = player.hand.getResourceCount(resource);
+            if (count >= BANK_TRADE_AMOUNT + 1 && surplus == null) {
+                surplus = resource;
+            } else if (count == 0 && missing == null) {
+                missing = resource;
+            }
+        }
+
+        if (surplus == null || missing == null) {
+            return null;
+        }
+        return new Resource[]{surplus, missing};
+    }
+
+    private static int[] costOf(final Resource... resources) {
+        int[] cost = new int[Resource.COUNT];
+        for (Resource resource : resources) {
+            cost[resource.ordinal()]++;
+        }
+        return cost;
+    }
+
+    // cards bought this turn can only be played from the next one on
+    private static boolean canPlay(final Player player, final DevCard card) {
+        return player.hand.devCards.get(card) > player.hand.devCardsBoughtThisTurn.get(card);
+    }
+
+    private static boolean canAfford(final Player player, final int[] cost) {
+        int[] amounts = player.hand.getResourceAmounts();
+        for (int i = 0; i < cost.length; i++) {
+            if (amounts[i] < cost[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
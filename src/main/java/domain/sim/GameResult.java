@@ -0,0 +1,15 @@
+package domain.sim;
+
+/**
+ * The outcome of one simulated game
+ *
+ * @param winner the number of the player who won, or NO_WINNER if the game hit the turn limit
+ * @param turns  the number of turns played after setup
+ */
+public record GameResult(int winner, int turns) {
+    public static final int NO_WINNER = 0;
+
+    public boolean isFinished() {
+        return this.winner != NO_WINNER;
+    }
+}
@@ -0,0 +1,295 @@
+package domain.sim;
+
+import data.GameSession;
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.controller.Controller;
+import domain.controller.GamePhase;
+import domain.controller.GameState;
+import domain.controller.SuccessCode;
+import domain.game.GameType;
+import domain.game.NotEnoughResourcesException;
+import domain.graphs.GameboardGraph;
+import domain.graphs.Vertex;
+import domain.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays one game from setup to the win without a GUI, the same way CatanGUIController
+ * drives the Controller, with every decision left to the policy of the player to make it.
+ */
+public final class GameRunner {
+    private static final int MAX_TURNS = 1000;
+    private static final int MAX_ACTIONS_PER_TURN = 30;
+    private static final int ROBBER_ROLL = 7;
+    private static final int WEATHER_ROLL = 12;
+    private static final int MAX_SAFE_HAND = 7;
+
+    private final GameSession session;
+    private final Controller controller;
+    private final PlayerPolicy[] policies;
+    private final RandomGenerator random;
+
+    /**
+     * @param policies the policy of each seat, the first one plays player 1
+     * @param seed     the seed of the game, the board, the dice and everything else random in it,
+     *                 the choices of the policies included
+     */
+    public GameRunner(final GameType gameType, final PlayerPolicy[] policies, final long seed) {
+        this.policies = policies.clone();
+        this.session = new GameSession(gameType, policies.length, null, seed);
+        this.random = this.session.splitRandom();
+        this.controller = this.session.getController();
+    }
+
+    /**
+     * Plays the game until a player wins or the turn limit is reached
+     */
+    public GameResult play() {
+        playSetup();
+
+        for (int turn = 1; turn <= MAX_TURNS; turn++) {
+            if (playTurn() == SuccessCode.GAME_WIN) {
+                return new GameResult(this.controller.getCurrentPlayer().getPlayerNum(), turn);
+            }
+
+            this.controller.setState(GameState.DEFAULT);
+            if (this.controller.endTurn() == SuccessCode.GAME_WIN) {
+                return new GameResult(this.controller.getCurrentPlayer().getPlayerNum(), turn);
+            }
+        }
+        return new GameResult(GameResult.NO_WINNER, MAX_TURNS);
+    }
+
+    private void playSetup() {
+        while (this.controller.getPhase() == GamePhase.SETUP) {
+            GameState state = this.controller.getState();
+            SuccessCode result;
+            if (state == GameState.FIRST_SETTLEMENT || state == GameState.SECOND_SETTLEMENT) {
+                result = this.controller.clickedVertex(currentPolicy().chooseVertex(this.controller, sorted(this.controller.getBuildableVertexes()), this.random));
+            } else {
+                result = this.controller.clickedRoad(currentPolicy().chooseRoad(this.controller, sorted(this.controller.getBuildableRoads()), this.random));
+            }
+
+            if (result != SuccessCode.SUCCESS) {
+                throw new IllegalStateException("Setup placement was offered but failed: " + result);
+            }
+        }
+    }
+
+    // Rolls the dice and lets the current player act until they end the turn
+    private SuccessCode playTurn() {
+        int die = this.controller.rollDice();
+        if (die == ROBBER_ROLL) {
+            dropResources();
+            moveRobber();
+        } else if (die == WEATHER_ROLL) {
+            this.controller.createWeatherEvent();
+        }
+        this.controller.setState(GameState.DEFAULT);
+
+        for (int i = 0; i < MAX_ACTIONS_PER_TURN; i++) {
+            TurnAction action = currentPolicy().chooseAction(this.controller, this.random);
+            if (action == TurnAction.END_TURN) {
+                break;
+            }
+
+            SuccessCode result = perform(action);
+            this.controller.setState(GameState.DEFAULT);
+            if (result == SuccessCode.GAME_WIN) {
+                return result;
+            }
+            if (result != SuccessCode.SUCCESS) {
+                // the policy asked for something it cannot do, it would only ask again
+                break;
+            }
+        }
+        return SuccessCode.SUCCESS;
+    }
+
+    private SuccessCode perform(final TurnAction action) {
+        Player player = this.controller.getCurrentPlayer();
+        PlayerPolicy policy = currentPolicy();
+
+        switch (action) {
+            case BUILD_SETTLEMENT -> {
+                return clickVertex(GameState.BUILD_SETTLEMENT, sorted(this.controller.getBuildableVertexes()));
+            }
+            case BUILD_CITY -> {
+                return clickVertex(GameState.UPGRADE_SETTLEMENT, getUpgradableVertexes(player));
+            }
+            case BUILD_ROAD -> {
+                return clickRoad(GameState.BUILD_ROAD);
+            }
+            case BUILD_DISTRICT -> {
+                List<Integer> vertexes = getDistrictVertexes(player);
+                if (vertexes.isEmpty()) {
+                    return SuccessCode.INVALID_PLACEMENT;
+                }
+                int vertex = policy.chooseVertex(this.controller, vertexes, this.random);
+                return this.controller.buildDistrict(vertex, policy.chooseDistrict(player, this.random));
+            }
+            case BUY_DEV_CARD -> {
+                return this.controller.clickedBuyDevCard();
+            }
+            case PLAY_KNIGHT -> {
+                SuccessCode result = this.controller.playKnightCard();
+                if (result == SuccessCode.SUCCESS) {
+                    moveRobber();
+                }
+                return result;
+            }
+            case PLAY_ROAD_BUILDING -> {
+                SuccessCode result = this.controller.useRoadBuildingCard();
+                if (result != SuccessCode.SUCCESS) {
+                    return result;
+                }
+                result = clickRoad(GameState.ROAD_BUILDING_1);
+                if (result == SuccessCode.SUCCESS && this.controller.getState() == GameState.ROAD_BUILDING_2) {
+                    result = clickRoad(GameState.ROAD_BUILDING_2);
+                }
+                return result;
+            }
+            case PLAY_MONOPOLY -> {
+                return this.controller.playMonopolyCard(policy.chooseMonopoly(player, this.random));
+            }
+            case PLAY_YEAR_OF_PLENTY -> {
+                Resource[] resources = policy.chooseYearOfPlenty(player, this.random);
+                return this.controller.playYearOfPlenty(resources[0], resources[1]);
+            }
+            case TRADE_WITH_BANK -> {
+                Resource[] trade = policy.chooseBankTrade(player, this.random);
+                if (trade == null) {
+                    return SuccessCode.UNDEFINED;
+                }
+                return this.controller.tradeWithBank(trade[0], trade[1]);
+            }
+            case TAKE_LOAN -> {
+                return takeOutLoan(policy.chooseLoan(player, this.random));
+            }
+            default -> {
+                return SuccessCode.UNDEFINED;
+            }
+        }
+    }
+
+    private SuccessCode clickVertex(final GameState state, final List<Integer> vertexes) {
+        if (vertexes.isEmpty()) {
+            return SuccessCode.INVALID_PLACEMENT;
+        }
+        this.controller.setState(state);
+        return this.controller.clickedVertex(currentPolicy().chooseVertex(this.controller, vertexes, this.random));
+    }
+
+    private SuccessCode clickRoad(final GameState state) {
+        this.controller.setState(state);
+        List<Integer> roads = sorted(this.controller.getBuildableRoads());
+        if (roads.isEmpty()) {
+            return SuccessCode.INVALID_PLACEMENT;
+        }
+        return this.controller.clickedRoad(currentPolicy().chooseRoad(this.controller, roads, this.random));
+    }
+
+    private SuccessCode takeOutLoan(final Resource[] resources) {
+        try {
+            this.controller.takeOutLoan(resources);
+            return SuccessCode.SUCCESS;
+        } catch (NotEnoughResourcesException e) {
+            return SuccessCode.INSUFFICIENT_RESOURCES;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // the player already has a loan or asked for too much
+            return SuccessCode.UNDEFINED;
+        }
+    }
+
+    // -----------------------------------
+    //
+    // Robber
+    //
+    // -----------------------------------
+
+    // Makes everyone holding too many resources drop half of them
+    private void dropResources() {
+        HashMap<Integer, Resource[]> drops = new HashMap<>();
+        for (Player player : this.controller.getPlayerArr()) {
+            int count = player.hand.getResourceCount();
+            if (count > MAX_SAFE_HAND) {
+                drops.put(player.getPlayerNum(), this.policies[player.getPlayerNum() - 1].chooseDiscards(player, count / 2, this.random));
+            }
+        }
+        this.controller.dropResources(drops);
+    }
+
+    // Moves the robber where the current player wants and robs one of the players there
+    private void moveRobber() {
+        Player player = this.controller.getCurrentPlayer();
+        List<Integer> tiles = sorted(this.controller.getValidRobberSpots());
+        if (tiles.isEmpty()) {
+            for (int tile = 0; tile < this.session.getTiles().length; tile++) {
+                tiles.add(tile);
+            }
+        }
+
+        // one of the offered tiles can be the one the robber is on already
+        int tile = currentPolicy().chooseRobberTile(this.controller, tiles, this.random);
+        while (this.controller.moveRobber(tile) != SuccessCode.SUCCESS) {
+            tiles.remove(Integer.valueOf(tile));
+            tile = currentPolicy().chooseRobberTile(this.controller, tiles, this.random);
+        }
+
+        List<Player> victims = new ArrayList<>();
+        for (Player onTile : this.controller.getPlayersOnTile(tile)) {
+            if (onTile != player && !victims.contains(onTile)) {
+                victims.add(onTile);
+            }
+        }
+        if (!victims.isEmpty()) {
+            this.controller.robPlayer(currentPolicy().chooseVictim(this.controller, victims, this.random).getPlayerNum());
+        }
+    }
+
+    // -----------------------------------
+    //
+    // Options
+    //
+    // -----------------------------------
+
+    private PlayerPolicy currentPolicy() {
+        return this.policies[this.controller.getCurrentPlayer().getPlayerNum() - 1];
+    }
+
+    private List<Integer> getUpgradableVertexes(final Player player) {
+        GameboardGraph graph = this.session.getGameboardGraph();
+        List<Integer> vertexes = new ArrayList<>();
+        for (int i = 0; i < GameboardGraph.NUM_VERTICES; i++) {
+            if (graph.getVertex(i).isUpgradableBy(player)) {
+                vertexes.add(i);
+            }
+        }
+        return vertexes;
+    }
+
+    private List<Integer> getDistrictVertexes(final Player player) {
+        GameboardGraph graph = this.session.getGameboardGraph();
+        List<Integer> vertexes = new ArrayList<>();
+        for (int i = 0; i < GameboardGraph.NUM_VERTICES; i++) {
+            Vertex vertex = graph.getVertex(i);
+            if (vertex.getOwner() == player && this.controller.getDistrictTypeForVertex(i) == DistrictType.EMPTY) {
+                vertexes.add(i);
+            }
+        }
+        return vertexes;
+    }
+
+    // Sets are turned into sorted lists so the same seed always gives the same choices
+    private static List<Integer> sorted(final Collection<Integer> options) {
+        List<Integer> list = new ArrayList<>(options);
+        list.sort(null);
+        return list;
+    }
+}
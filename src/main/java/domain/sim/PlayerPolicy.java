@@ -0,0 +1,77 @@
+package domain.sim;
+
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.controller.Controller;
+import domain.player.Player;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Makes the decisions of one seat in a simulated game.
+ * <p>
+ * A policy is handed the controller of the game and the options the engine found legal, and
+ * picks one of them. Policies are shared by all games running at once, so they must not keep
+ * any state of their own; all randomness comes from the generator of the game being played.
+ */
+public interface PlayerPolicy {
+
+    /**
+     * Picks what to do next in the current player's turn, END_TURN ends the turn
+     */
+    TurnAction chooseAction(Controller controller, RandomGenerator random);
+
+    /**
+     * Picks where to build a settlement or city out of the given vertexes
+     */
+    int chooseVertex(Controller controller, List<Integer> vertexes, RandomGenerator random);
+
+    /**
+     * Picks where to build a road out of the given roads
+     */
+    int chooseRoad(Controller controller, List<Integer> roads, RandomGenerator random);
+
+    /**
+     * Picks the tile to move the robber to out of the given tiles
+     */
+    int chooseRobberTile(Controller controller, List<Integer> tiles, RandomGenerator random);
+
+    /**
+     * Picks the player to rob out of the given players
+     */
+    Player chooseVictim(Controller controller, List<Player> players, RandomGenerator random);
+
+    /**
+     * Picks the resources the given player drops when a 7 is rolled
+     *
+     * @param amount how many resources have to be dropped
+     */
+    Resource[] chooseDiscards(Player player, int amount, RandomGenerator random);
+
+    /**
+     * Picks the resource to give to the bank and the one to take back, in that order,
+     * or null to not trade
+     */
+    Resource[] chooseBankTrade(Player player, RandomGenerator random);
+
+    /**
+     * Picks the resource to take from everyone with a monopoly card
+     */
+    Resource chooseMonopoly(Player player, RandomGenerator random);
+
+    /**
+     * Picks the two resources to take with a year of plenty card
+     */
+    Resource[] chooseYearOfPlenty(Player player, RandomGenerator random);
+
+    /**
+     * Picks the district to build on one of the current player's buildings
+     */
+    DistrictType chooseDistrict(Player player, RandomGenerator random);
+
+    /**
+     * Picks the resources to borrow from the bank
+     */
+    Resource[] chooseLoan(Player player, RandomGenerator random);
+}
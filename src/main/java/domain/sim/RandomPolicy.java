@@ -0,0 +1,116 @@
+package domain.sim;
+
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.controller.Controller;
+import domain.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A policy that picks uniformly at random out of whatever it is offered.
+ * Mostly useful as a baseline and as the base of smarter policies.
+ */
+public class RandomPolicy implements PlayerPolicy {
+    private static final TurnAction[] ACTIONS = TurnAction.values();
+    private static final Resource[] RESOURCES = {Resource.BRICK, Resource.LUMBER, Resource.ORE, Resource.GRAIN, Resource.WOOL};
+    private static final DistrictType[] DISTRICTS = {DistrictType.MINE, DistrictType.KILN, DistrictType.SAWMILL, DistrictType.GARDEN, DistrictType.BARN};
+    private static final int MAX_LOAN_SIZE = 3;
+
+    @Override
+    public TurnAction chooseAction(final Controller controller, final RandomGenerator random) {
+        return ACTIONS[random.nextInt(ACTIONS.length)];
+    }
+
+    @Override
+    public int chooseVertex(final Controller controller, final List<Integer> vertexes, final RandomGenerator random) {
+        return pick(vertexes, random);
+    }
+
+    @Override
+    public int chooseRoad(final Controller controller, final List<Integer> roads, final RandomGenerator random) {
+        return pick(roads, random);
+    }
+
+    @Override
+    public int chooseRobberTile(final Controller controller, final List<Integer> tiles, final RandomGenerator random) {
+        return pick(tiles, random);
+    }
+
+    @Override
+    public Player chooseVictim(final Controller controller, final List<Player> players, final RandomGenerator random) {
+        return pick(players, random);
+    }
+
+    @Override
+    public Resource[] chooseDiscards(final Player player, final int amount, final RandomGenerator random) {
+        List<Resource> hand = listResources(player);
+        Resource[] discards = new Resource[amount];
+        for (int i = 0; i < amount; i++) {
+            discards[i] = hand.remove(random.nextInt(hand.size()));
+        }
+        return discards;
+    }
+
+    @Override
+    public Resource[] chooseBankTrade(final Player player, final RandomGenerator random) {
+        List<Resource> hand = listResources(player);
+        if (hand.isEmpty()) {
+            return null;
+        }
+        return new Resource[]{pick(hand, random), randomResource(random)};
+    }
+
+    @Override
+    public Resource chooseMonopoly(final Player player, final RandomGenerator random) {
+        return randomResource(random);
+    }
+
+    @Override
+    public Resource[] chooseYearOfPlenty(final Player player, final RandomGenerator random) {
+        return new Resource[]{randomResource(random), randomResource(random)};
+    }
+
+    @Override
+    public DistrictType chooseDistrict(final Player player, final RandomGenerator random) {
+        return DISTRICTS[random.nextInt(DISTRICTS.length)];
+    }
+
+    @Override
+    public Resource[] chooseLoan(final Player player, final RandomGenerator random) {
+        Resource[] loan = new Resource[random.nextInt(MAX_LOAN_SIZE) + 1];
+        for (int i = 0; i < loan.length; i++) {
+            loan[i] = randomResource(random);
+        }
+        return loan;
+    }
+
+    // -----------------------------------
+    //
+    // Helpers for policies
+    //
+    // -----------------------------------
+
+    protected static <T> T pick(final List<T> options, final RandomGenerator random) {
+        return options.get(random.nextInt(options.size()));
+    }
+
+    protected static Resource randomResource(final RandomGenerator random) {
+        return RESOURCES[random.nextInt(RESOURCES.length)];
+    }
+
+    /**
+     * Lists every resource card in the player's hand, one entry per card
+     */
+    protected static List<Resource> listResources(final Player player) {
+        List<Resource> cards = new ArrayList<>(player.hand.getResourceCount());
+        for (Resource resource : RESOURCES) {
+            for (int i = 0; i < player.hand.getResourceCount(resource); i++) {
+                cards.add(resource);
+            }
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,72 @@
+package domain.sim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What came out of a batch of simulated games
+ */
+public final class SimulationReport {
+    private final int games;
+    private final int unfinishedGames;
+    private final int[] winsBySeat;
+    private final long totalTurns;
+    private final long elapsedNanos;
+
+    SimulationReport(final List<GameResult> results, final int seats, final long elapsed) {
+        this.games = results.size();
+        this.winsBySeat = new int[seats];
+        this.elapsedNanos = elapsed;
+
+        int unfinished = 0;
+        long turns = 0;
+        for (GameResult result : results) {
+            turns += result.turns();
+            if (result.isFinished()) {
+                this.winsBySeat[result.winner() - 1]++;
+            } else {
+                unfinished++;
+            }
+        }
+        this.unfinishedGames = unfinished;
+        this.totalTurns = turns;
+    }
+
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * @return the number of games that hit the turn limit without a winner
+     */
+    public int getUnfinishedGames() {
+        return this.unfinishedGames;
+    }
+
+    /**
+     * @return the number of games won from each seat, the first entry is player 1
+     */
+    public int[] getWinsBySeat() {
+        return this.winsBySeat.clone();
+    }
+
+    public double getAverageTurns() {
+        return this.games == 0 ? 0 : (double) this.totalTurns / this.games;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return this.games * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, this.elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games in %.2f s (%.1f games/sec), %.1f turns on average, wins by seat %s, %d unfinished",
+                this.games, this.elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1), getGamesPerSecond(),
+                getAverageTurns(), Arrays.toString(this.winsBySeat), this.unfinishedGames);
+    }
+}
@@ -0,0 +1,82 @@
+package domain.sim;
+
+import domain.game.GameType;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs batches of headless games in parallel, one independent game per task,
+ * on a fork-join pool that spreads them over the available cores.
+ * <p>
+ * Game i of a batch is played with a seed derived from the batch seed and i, so a batch
+ * gives the same games whatever the number of threads it runs on.
+ */
+public final class Simulator {
+    // spreads consecutive game numbers over the seed space
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int DEFAULT_GAMES = 1000;
+
+    private final GameType gameType;
+    private final PlayerPolicy[] policies;
+
+    /**
+     * @param policies the policy of each seat, the first one plays player 1
+     */
+    public Simulator(final GameType type, final PlayerPolicy... seatPolicies) {
+        this.gameType = type;
+        this.policies = seatPolicies.clone();
+    }
+
+    /**
+     * Plays the given number of games using every available core
+     */
+    public SimulationReport run(final int games, final long seed) {
+        return run(games, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Plays the given number of games on the given number of threads
+     */
+    public SimulationReport run(final int games, final long seed, final int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<GameResult> results = pool.submit(() -> IntStream.range(0, games)
+                    .parallel()
+                    .mapToObj(i -> playGame(seed + i * SEED_GAMMA))
+                    .collect(Collectors.toList())).get();
+            return new SimulationReport(results, this.policies.length, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game of this simulator with the given seed
+     */
+    public GameResult playGame(final long seed) {
+        return new GameRunner(this.gameType, this.policies, seed).play();
+    }
+
+    /**
+     * Plays a batch of four player games between builder policies and prints the report.
+     * Takes the number of games and the number of threads as optional arguments.
+     */
+    public static void main(final String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        PlayerPolicy builder = new BuilderPolicy();
+        Simulator simulator = new Simulator(GameType.Advanced, builder, builder, builder, builder);
+        System.out.println(simulator.run(games, System.nanoTime(), threads));
+    }
+}
@@ -0,0 +1,10 @@
+package domain.sim;
+
+/**
+ * The things a player can do during their turn once the dice are rolled
+ */
+public enum TurnAction {
+    BUILD_SETTLEMENT, BUILD_CITY, BUILD_ROAD, BUILD_DISTRICT, BUY_DEV_CARD,
+    PLAY_KNIGHT, PLAY_ROAD_BUILDING, PLAY_MONOPOLY, PLAY_YEAR_OF_PLENTY,
+    TRADE_WITH_BANK, TAKE_LOAN, END_TURN
+}
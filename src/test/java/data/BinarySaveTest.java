@@ -0,0 +1,141 @@
+package data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinarySaveTest {
+
+    private static final String EXPECTED_OUTPUT_PATH = "src/test/java/data/expected";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testBinaryRoundTrip_matchesFolderFormat() throws IOException {
+        GameLoader loader = GameLoader.getInstance();
+        loader.setSlotsPath(EXPECTED_OUTPUT_PATH);
+        loader.setSlot(1);
+        loader.loadGame();
+
+        File binaryDir = tempDir.resolve("binary").toFile();
+        loader.setSlotsPath(binaryDir.getPath());
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+
+        // the whole slot is one file
+        assertTrue(new File(binaryDir, "slot1.bin").isFile());
+        assertFalse(new File(binaryDir, "slot1").exists());
+        assertFalse(loader.isSlotEmpty(1));
+
+        // load it back and save it as folders, which must match what was loaded in the first place
+        loader.loadGame();
+        File folderDir = tempDir.resolve("folder").toFile();
+        loader.setSlotsPath(folderDir.getPath());
+        assertTrue(loader.saveGame(SaveFormat.FOLDER));
+
+        new SavingTest().compareDirectories(new File(EXPECTED_OUTPUT_PATH, "slot1"), new File(folderDir, "slot1"));
+    }
+
+    @Test
+    public void testSaveInOtherFormat_replacesSlot() throws IOException {
+        GameLoader loader = GameLoader.getInstance();
+        loader.setSlotsPath(EXPECTED_OUTPUT_PATH);
+        loader.setSlot(1);
+        loader.loadGame();
+
+        loader.setSlotsPath(tempDir.toString());
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+        assertTrue(loader.saveGame(SaveFormat.FOLDER));
+        assertFalse(new File(tempDir.toFile(), "slot1.bin").exists());
+        assertTrue(new File(tempDir.toFile(), "slot1").isDirectory());
+
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+        assertFalse(new File(tempDir.toFile(), "slot1").exists());
+
+        assertTrue(loader.deleteGame());
+        assertTrue(loader.isSlotEmpty(1));
+    }
+
+    @Test
+    public void testLoadCorruptFile_throwIOException() throws IOException {
+        Files.write(tempDir.resolve("slot1.bin"), new byte[]{1, 2, 3, 4, 5, 6});
+        GameLoader loader = GameLoader.getInstance();
+        loader.setSlotsPath(tempDir.toString());
+        loader.setSlot(1);
+
+        assertThrows(IOException.class, loader::loadGame);
+    }
+
+    @Test
+    public void testArchiveFolderEquality_comparesArchiveAndPath() {
+        File location = tempDir.resolve("slot1.bin").toFile();
+        SnapshotArchive archive = new SnapshotArchive();
+        SnapshotArchive.Folder root = archive.getRoot(location);
+
+        assertEquals(root.child("Players"), root.child("Players"));
+        assertEquals(root.child("Players").hashCode(), root.child("Players").hashCode());
+        assertNotEquals(root.child("Players"), new SnapshotArchive().getRoot(location).child("Players"));
+        assertNotEquals(root, location);
+    }
+
+    @Test
+    public void testArchiveFolder_cannotBeSerialized() throws IOException {
+        SnapshotArchive.Folder root = new SnapshotArchive().getRoot(tempDir.resolve("slot1.bin").toFile());
+
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            assertThrows(NotSerializableException.class, () -> out.writeObject(root));
+        }
+    }
+
+    @Test
+    public void testArchiveRoundTrip_stringOver64KB() throws IOException {
+        String longValue = "x".repeat(70_000) + "\u00e9";
+        SnapshotArchive archive = new SnapshotArchive();
+        archive.createFile("slot.txt").add(new String[]{"key", longValue});
+
+        File file = tempDir.resolve("slot1.bin").toFile();
+        archive.writeTo(file);
+        List<String[]> fields = SnapshotArchive.readFrom(file).getFile("slot.txt");
+
+        assertNotNull(fields);
+        assertEquals("key", fields.get(0)[0]);
+        assertEquals(longValue, fields.get(0)[1]);
+    }
+
+    @Test
+    public void testReadVersion1Archive() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0x43544E53);
+            out.writeShort(1);
+            out.writeByte(3); // strings
+            out.writeUTF("");
+            out.writeUTF("slot.txt");
+            out.writeUTF("key");
+            out.writeByte(1); // folders
+            out.writeByte(0);
+            out.writeByte(1); // files
+            out.writeByte(1);
+            out.writeByte(1);
+            out.writeByte(2);
+            out.writeByte(0);
+        }
+        Path file = tempDir.resolve("slot1.bin");
+        Files.write(file, bytes.toByteArray());
+
+        SnapshotArchive archive = SnapshotArchive.readFrom(file.toFile());
+        assertTrue(archive.hasFolder(""));
+        assertArrayEquals(new String[]{"key", ""}, archive.getFile("slot.txt").get(0));
+    }
+}
@@ -0,0 +1,97 @@
+package data;
+
+import domain.bank.Resource;
+import domain.game.GameType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSessions_independent() {
+        GameSession first = new GameSession(GameType.Beginner, 4);
+        GameSession second = new GameSession(GameType.Beginner, 3);
+        first.notifyOfTurnStart();
+        second.notifyOfTurnStart();
+
+        first.getPlayerByNum(1).hand.addResource(Resource.ORE, 2);
+        first.notifyOfTurnStart();
+
+        assertEquals(0, second.getPlayerByNum(1).hand.getResourceCount(Resource.ORE));
+        assertEquals(3, second.getNumPlayers());
+        assertFalse(second.undo());
+
+        assertTrue(first.undo());
+        assertEquals(0, first.getPlayerByNum(1).hand.getResourceCount(Resource.ORE));
+    }
+
+    @Test
+    public void testSameSeed_sameBoardAndDice() {
+        GameSession first = new GameSession(GameType.Advanced, 4, null, 42);
+        GameSession second = new GameSession(GameType.Advanced, 4, null, 42);
+
+        assertEquals(42, first.getSeed());
+        for (int i = 0; i < first.getTiles().length; i++) {
+            assertEquals(first.getTiles()[i].getTerrain(), second.getTiles()[i].getTerrain());
+            assertEquals(first.getTiles()[i].getDieNumber(), second.getTiles()[i].getDieNumber());
+        }
+        assertArrayEquals(first.getGameboardGraph().getOrder(), second.getGameboardGraph().getOrder());
+        for (int roll = 0; roll < 20; roll++) {
+            assertEquals(first.getController().rollDice(), second.getController().rollDice());
+        }
+        assertEquals(first.splitRandom().nextLong(), second.splitRandom().nextLong());
+    }
+
+    @Test
+    public void testFork_leavesDiceOfSeededGame() {
+        GameSession plain = new GameSession(GameType.Beginner, 4, null, 42);
+        GameSession forked = new GameSession(GameType.Beginner, 4, null, 42);
+        forked.getController().fork(new SplittableRandom(7)).rollDice();
+
+        for (int roll = 0; roll < 10; roll++) {
+            assertEquals(plain.getController().rollDice(), forked.getController().rollDice());
+        }
+    }
+
+    @Test
+    public void testOtherSeed_otherDice() {
+        GameSession first = new GameSession(GameType.Beginner, 4, null, 1);
+        GameSession second = new GameSession(GameType.Beginner, 4, null, 2);
+
+        boolean differ = false;
+        for (int roll = 0; roll < 20; roll++) {
+            differ |= first.getController().rollDice() != second.getController().rollDice();
+        }
+        assertTrue(differ);
+    }
+
+    @Test
+    public void testRestore_resolvesPlayersOfSession() throws IOException {
+        GameSession first = new GameSession(GameType.Beginner, 4);
+        first.getGameboardGraph().getRoad(0).setOwner(first.getPlayerByNum(2));
+
+        File folder = tempDir.toFile();
+        first.getController().createMemento().save(folder);
+
+        GameSession second = new GameSession(GameType.Beginner, 4);
+        second.restore(folder);
+
+        assertSame(second.getPlayerByNum(2), second.getGameboardGraph().getRoad(0).getOwner());
+        assertSame(first.getPlayerByNum(2), first.getGameboardGraph().getRoad(0).getOwner());
+    }
+
+    @Test
+    public void testResolvePlayerOutsideSession_throwIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> GameSession.resolvePlayer(1));
+    }
+}
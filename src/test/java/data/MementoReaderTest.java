@@ -0,0 +1,78 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import domain.bank.Resource;
+import domain.game.GameType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MementoReaderTest {
+
+    private static final String FILE_NAME = "fields.txt";
+
+    @TempDir
+    Path tempDir;
+
+    MementoReader reader;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Files.write(tempDir.resolve(FILE_NAME), List.of(
+                "count: 12",
+                "flag: true",
+                "type: Advanced",
+                "resources: [ORE, null, WOOL]",
+                "empty: []",
+                "owner: None",
+                "count: 99"), StandardCharsets.UTF_8);
+        reader = new MementoReader(tempDir.toFile(), FILE_NAME);
+    }
+
+    @Test
+    public void testTypedFields() {
+        assertEquals(12, reader.readInt("count"));
+        assertTrue(reader.readBoolean("flag"));
+        assertEquals(GameType.Advanced, reader.readEnum("type", GameType.class));
+        assertNull(reader.readPlayer("owner"));
+    }
+
+    @Test
+    public void testEnumArray() {
+        assertArrayEquals(new Resource[]{Resource.ORE, null, Resource.WOOL}, reader.readEnumArray("resources", Resource.class));
+        assertEquals(0, reader.readEnumArray("empty", Resource.class).length);
+    }
+
+    @Test
+    public void testFirstLineOfFieldWins() {
+        assertEquals("12", reader.readField("count"));
+    }
+
+    @Test
+    public void testMissingField_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> reader.readField("missing"));
+        assertThrows(IllegalArgumentException.class, () -> reader.readEnumArray("count", Resource.class));
+    }
+
+    @Test
+    public void testFileReadOnce() throws IOException {
+        // the fields were read when the reader was created
+        assertTrue(new File(tempDir.toFile(), FILE_NAME).delete());
+
+        assertEquals(12, reader.readInt("count"));
+        assertEquals(6, reader.readAllFields().size());
+    }
+
+    @Test
+    public void testMissingFile_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MementoReader(tempDir.toFile(), "other.txt"));
+    }
+}
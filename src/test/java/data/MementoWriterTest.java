@@ -0,0 +1,78 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MementoWriterTest {
+
+    private static final String FILE_NAME = "fields.txt";
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> readTarget() throws IOException {
+        return Files.readAllLines(tempDir.resolve(FILE_NAME), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testFieldsWrittenOnClose() throws IOException {
+        Files.write(tempDir.resolve(FILE_NAME), List.of("old: 1"), StandardCharsets.UTF_8);
+
+        try (MementoWriter writer = new MementoWriter(tempDir.toFile(), FILE_NAME)) {
+            writer.writeField("first", "a");
+            writer.writeField("second", "b");
+
+            // the previous contents stay until the writer is closed
+            assertEquals(List.of("old: 1"), readTarget());
+        }
+
+        assertEquals(List.of("first: a", "second: b"), readTarget());
+    }
+
+    @Test
+    public void testNoTempFilesLeft() throws IOException {
+        try (MementoWriter writer = new MementoWriter(tempDir.toFile(), FILE_NAME)) {
+            writer.writeField("field", "value");
+        }
+
+        assertArrayEquals(new String[]{FILE_NAME}, tempDir.toFile().list());
+    }
+
+    @Test
+    public void testEmptyFileWritten() throws IOException {
+        new MementoWriter(tempDir.toFile(), FILE_NAME).close();
+
+        assertTrue(new File(tempDir.toFile(), FILE_NAME).isFile());
+        assertEquals(0, readTarget().size());
+    }
+
+    @Test
+    public void testWriteAfterClose_throwIOException() throws IOException {
+        MementoWriter writer = new MementoWriter(tempDir.toFile(), FILE_NAME);
+        writer.close();
+
+        assertThrows(IOException.class, () -> writer.writeField("field", "value"));
+    }
+
+    @Test
+    public void testReadBack() throws IOException {
+        File folder = new File(tempDir.toFile(), "nested");
+        try (MementoWriter writer = new MementoWriter(folder, FILE_NAME)) {
+            writer.writeField("count", "3");
+            writer.getSubFolder("child");
+        }
+
+        MementoReader reader = new MementoReader(folder, FILE_NAME);
+        assertEquals(3, reader.readInt("count"));
+        assertTrue(reader.getSubFolder("child").isDirectory());
+    }
+}
@@ -0,0 +1,58 @@
+package data;
+
+import domain.bank.Resource;
+import domain.controller.Controller;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedMementoTest {
+
+    Controller controller;
+    Player[] players;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        GameLoader loader = GameLoader.getInstance();
+        loader.setSlot(1);
+        controller = loader.createNewGame(GameType.Beginner, 4, "English");
+        players = controller.getPlayerArr();
+    }
+
+    @Test
+    public void testUnchangedGame_sameMemento() {
+        Memento memento = controller.createMemento();
+        assertSame(memento, controller.createMemento());
+    }
+
+    @Test
+    public void testChangedPlayer_onlyChangedSubtreeReplaced() {
+        Memento controllerMemento = controller.createMemento();
+        Memento handMemento = players[0].hand.createMemento();
+        Memento boosterMemento = players[0].harvestBooster.createMemento();
+        Memento otherPlayerMemento = players[1].createMemento();
+
+        players[0].hand.addResource(Resource.ORE, 1);
+
+        assertNotSame(controllerMemento, controller.createMemento());
+        assertNotSame(handMemento, players[0].hand.createMemento());
+        assertSame(boosterMemento, players[0].harvestBooster.createMemento());
+        assertSame(otherPlayerMemento, players[1].createMemento());
+    }
+
+    @Test
+    public void testRestoreSharedMemento() {
+        Memento memento = controller.createMemento();
+
+        players[0].hand.addResource(Resource.ORE, 1);
+        controller.createMemento();
+        memento.restore();
+
+        assertEquals(0, players[0].hand.getResourceCount(Resource.ORE));
+    }
+}
@@ -0,0 +1,90 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotRecoveryTest {
+
+    private static final String EXPECTED_OUTPUT_PATH = "src/test/java/data/expected";
+
+    @TempDir
+    Path tempDir;
+
+    GameLoader loader;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        loader = GameLoader.getInstance();
+        loader.setSlotsPath(EXPECTED_OUTPUT_PATH);
+        loader.setSlot(1);
+        loader.loadGame();
+        loader.setSlotsPath(tempDir.toString());
+    }
+
+    @Test
+    public void testCutOffBeforeFolderMovedIn_restoresPreviousSave() throws IOException {
+        assertTrue(loader.saveGame(SaveFormat.FOLDER));
+        Files.move(slot("slot1"), slot("slot1.old"));
+        Files.createDirectories(slot("slot1.saving"));
+
+        assertFalse(loader.isSlotEmpty(1));
+        assertTrue(Files.isDirectory(slot("slot1")));
+        assertFalse(Files.exists(slot("slot1.old")));
+        assertFalse(Files.exists(slot("slot1.saving")));
+        assertNotNull(loader.loadGame());
+    }
+
+    @Test
+    public void testCutOffAfterBinaryMovedAside_restoresBinarySave() throws IOException {
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+        Files.move(slot("slot1.bin"), slot("slot1.bin.old"));
+
+        assertNotNull(loader.loadGame());
+        assertTrue(Files.isRegularFile(slot("slot1.bin")));
+        assertFalse(Files.exists(slot("slot1.bin.old")));
+    }
+
+    @Test
+    public void testUnfinishedStaging_slotStaysEmpty() throws IOException {
+        Files.createDirectories(slot("slot1.saving"));
+
+        assertTrue(loader.isSlotEmpty(1));
+        assertFalse(Files.exists(slot("slot1.saving")));
+    }
+
+    @Test
+    public void testFolderLeftNextToBinary_binaryIsKept() throws IOException {
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+        Files.createDirectories(slot("slot1"));
+
+        assertNotNull(loader.loadGame());
+        assertFalse(Files.exists(slot("slot1")));
+        assertTrue(Files.isRegularFile(slot("slot1.bin")));
+    }
+
+    @Test
+    public void testFolderSaveOverBinary_leavesNoBackups() throws IOException {
+        assertTrue(loader.saveGame(SaveFormat.BINARY));
+        assertTrue(loader.saveGame(SaveFormat.FOLDER));
+
+        File[] files = tempDir.toFile().listFiles();
+        assertNotNull(files);
+        for (File file : files) {
+            assertFalse(file.getName().endsWith(".old"), file.getName());
+            assertFalse(file.getName().endsWith(".saving"), file.getName());
+        }
+        assertFalse(Files.exists(slot("slot1.bin")));
+    }
+
+    private Path slot(final String name) {
+        return tempDir.resolve(name);
+    }
+}
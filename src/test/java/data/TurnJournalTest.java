@@ -0,0 +1,117 @@
+package data;
+
+import domain.bank.Resource;
+import domain.controller.Controller;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TurnJournalTest {
+
+    GameLoader loader;
+    Controller controller;
+    Player[] players;
+    TurnJournal journal;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        loader = GameLoader.getInstance();
+        loader.setSlot(1);
+        controller = loader.createNewGame(GameType.Beginner, 4, "English");
+        players = controller.getPlayerArr();
+
+        journal = new TurnJournal(controller);
+        journal.recordTurnStart();
+    }
+
+    @Test
+    public void testUndoRedo_restoresChangedPlayer() {
+        players[0].hand.addResource(Resource.ORE, 2);
+        journal.recordTurnStart();
+
+        assertTrue(journal.undo(true));
+        assertEquals(0, players[0].hand.getResourceCount(Resource.ORE));
+        assertFalse(journal.undo(true));
+
+        assertTrue(journal.redo());
+        assertEquals(2, players[0].hand.getResourceCount(Resource.ORE));
+        assertFalse(journal.redo());
+    }
+
+    @Test
+    public void testUndo_leavesUnchangedPartsAlone() {
+        Memento otherPlayerMemento = players[1].createMemento();
+        players[0].hand.addResource(Resource.ORE, 2);
+        journal.recordTurnStart();
+
+        assertTrue(journal.undo(true));
+
+        // a restored player hands out a new memento, an untouched one keeps its last one
+        assertSame(otherPlayerMemento, players[1].createMemento());
+    }
+
+    @Test
+    public void testUndoInProgress_restoresTurnStart() {
+        players[0].hand.addResource(Resource.ORE, 2);
+
+        assertTrue(journal.undo(false));
+        assertEquals(0, players[0].hand.getResourceCount(Resource.ORE));
+    }
+
+    @Test
+    public void testRecordAfterUndo_dropsRedoableTurns() {
+        journal.recordTurnStart();
+        assertTrue(journal.undo(true));
+
+        journal.recordTurnStart();
+        assertFalse(journal.redo());
+    }
+
+    @Test
+    public void testSpilledTurns_readBackOnUndo() {
+        File folder = tempDir.resolve("journal").toFile();
+        journal = new TurnJournal(controller, folder, loader.getSession()::readTurn);
+        journal.setTurnsInMemory(1);
+        journal.recordTurnStart();
+        for (int i = 1; i <= 3; i++) {
+            players[0].hand.addResource(Resource.ORE, 1);
+            journal.recordTurnStart();
+        }
+
+        // only the turn being played is kept in memory
+        assertEquals(3, folder.list().length);
+
+        for (int i = 2; i >= 0; i--) {
+            assertTrue(journal.undo(true));
+            assertEquals(i, players[0].hand.getResourceCount(Resource.ORE));
+        }
+        assertFalse(journal.undo(true));
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(journal.redo());
+            assertEquals(i, players[0].hand.getResourceCount(Resource.ORE));
+        }
+        assertFalse(journal.redo());
+    }
+
+    @Test
+    public void testSpillFolder_clearedForNewJournal() throws IOException {
+        File folder = tempDir.resolve("journal").toFile();
+        assertTrue(folder.mkdirs());
+        assertTrue(new File(folder, "turn0.bin").createNewFile());
+
+        new TurnJournal(controller, folder, loader.getSession()::readTurn);
+        assertFalse(folder.exists());
+    }
+}
@@ -0,0 +1,129 @@
+package domain.bank;
+
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static domain.bank.Resource.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BankTransactionTest {
+
+    Bank bank;
+
+    @BeforeEach
+    public void setup() {
+        bank = new Bank();
+    }
+
+    private int[] delta(final int brick, final int lumber, final int ore, final int grain, final int wool) {
+        return new int[]{brick, lumber, ore, grain, wool};
+    }
+
+    private void assertStock(final int brick, final int lumber, final int ore, final int grain, final int wool) {
+        assertEquals(brick, bank.getResourceAmount(BRICK));
+        assertEquals(lumber, bank.getResourceAmount(LUMBER));
+        assertEquals(ore, bank.getResourceAmount(ORE));
+        assertEquals(grain, bank.getResourceAmount(GRAIN));
+        assertEquals(wool, bank.getResourceAmount(WOOL));
+    }
+
+    @Test
+    public void testApplyOrRollback_removeAndAdd_returnTrue() {
+        bank.removeResource(WOOL, 2);
+
+        boolean success = bank.applyOrRollback(delta(-3, 0, 0, -1, 2));
+
+        assertTrue(success);
+        assertStock(16, 19, 19, 18, 19);
+    }
+
+    @Test
+    public void testApplyOrRollback_notEnough_bankUnchanged() {
+        bank.removeResource(ORE, 19);
+
+        boolean success = bank.applyOrRollback(delta(-1, -1, -1, 0, 0));
+
+        assertFalse(success);
+        assertStock(19, 19, 0, 19, 19);
+    }
+
+    @Test
+    public void testApplyOrRollback_overflow_bankUnchanged() {
+        bank.removeResource(BRICK, 1);
+
+        boolean success = bank.applyOrRollback(delta(1, 1, 0, 0, 0));
+
+        assertFalse(success);
+        assertStock(18, 19, 19, 19, 19);
+    }
+
+    @Test
+    public void testApply_notEnough_throwIllegalArgumentException() {
+        bank.removeResource(GRAIN, 19);
+
+        assertThrows(IllegalArgumentException.class, () -> bank.apply(delta(0, 0, 0, -1, 0)));
+        assertStock(19, 19, 19, 0, 19);
+    }
+
+    @Test
+    public void testCanApply_doesNotChangeBank() {
+        assertTrue(bank.canApply(delta(-19, 0, 0, 0, 0)));
+        assertFalse(bank.canApply(delta(0, 1, 0, 0, 0)));
+        assertStock(19, 19, 19, 19, 19);
+    }
+
+    @Test
+    public void testCanApply_wrongLength_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> bank.canApply(new int[Resource.COUNT - 1]));
+    }
+
+    @Test
+    public void testRemoveAndAddAmounts() {
+        assertTrue(bank.removeResources(delta(2, 0, 1, 0, 0)));
+        assertStock(17, 19, 18, 19, 19);
+
+        assertFalse(bank.removeResources(delta(0, 20, 0, 0, 0)));
+        assertFalse(bank.addResources(delta(3, 0, 0, 0, 0)));
+        assertStock(17, 19, 18, 19, 19);
+
+        assertTrue(bank.addResources(delta(2, 0, 1, 0, 0)));
+        assertStock(19, 19, 19, 19, 19);
+    }
+
+    @Test
+    public void testRemoveResources_duplicates_allOrNothing() {
+        bank.removeResource(ORE, 18);
+
+        assertFalse(bank.removeResources(new Resource[]{ORE, ORE}));
+        assertStock(19, 19, 1, 19, 19);
+    }
+
+    @Test
+    public void testTradeWithBank_bankOut_nothingChanges() {
+        Player player = new Player(1, bank);
+        Resource[] lumber = {LUMBER, LUMBER, LUMBER, LUMBER};
+        bank.removeResources(lumber);
+        player.hand.addResources(lumber);
+        bank.removeResource(BRICK, 19);
+
+        assertFalse(player.tradeWithBank(LUMBER, BRICK));
+
+        assertEquals(4, player.hand.getResourceCount(LUMBER));
+        assertStock(0, 15, 19, 19, 19);
+    }
+
+    @Test
+    public void testTradeWithBank_validTrade_bothSidesUpdated() {
+        Player player = new Player(1, bank);
+        Resource[] lumber = {LUMBER, LUMBER, LUMBER, LUMBER};
+        bank.removeResources(lumber);
+        player.hand.addResources(lumber);
+
+        assertTrue(player.tradeWithBank(LUMBER, BRICK));
+
+        assertEquals(0, player.hand.getResourceCount(LUMBER));
+        assertEquals(1, player.hand.getResourceCount(BRICK));
+        assertStock(18, 19, 19, 19, 19);
+    }
+}
@@ -0,0 +1,87 @@
+package domain.controller;
+
+import data.GameSession;
+import domain.bank.Resource;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ControllerForkTest {
+
+    GameSession session;
+    Controller controller;
+
+    @BeforeEach
+    public void setup() {
+        session = new GameSession(GameType.Beginner, 4);
+        controller = session.getController();
+    }
+
+    @Test
+    public void testFork_matchesOriginal() {
+        controller.getPlayerArr()[0].hand.addResource(Resource.ORE, 3);
+        Controller fork = controller.fork(new Random(1));
+
+        assertEquals(controller.getPhase(), fork.getPhase());
+        assertEquals(controller.getState(), fork.getState());
+        assertEquals(controller.getCurrentPlayer().getPlayerNum(), fork.getCurrentPlayer().getPlayerNum());
+        assertEquals(controller.getBuildableRoads(), fork.getBuildableRoads());
+        assertEquals(controller.getValidRobberSpots(), fork.getValidRobberSpots());
+
+        for (int i = 0; i < 4; i++) {
+            Player original = controller.getPlayerArr()[i];
+            Player copy = fork.getPlayerArr()[i];
+            assertNotSame(original, copy);
+            assertEquals(original.getPlayerNum(), copy.getPlayerNum());
+            assertEquals(original.getVictoryPoints(), copy.getVictoryPoints());
+            assertEquals(original.hand.getResourceCount(), copy.hand.getResourceCount());
+        }
+        assertEquals(3, fork.getPlayerArr()[0].hand.getResourceCount(Resource.ORE));
+    }
+
+    @Test
+    public void testFork_ownersResolveToForkedPlayers() {
+        Controller fork = controller.fork(new Random(1));
+
+        for (int tile = 0; tile < session.getTiles().length; tile++) {
+            for (Player onTile : fork.getPlayersOnTile(tile)) {
+                assertSame(fork.getPlayerArr()[onTile.getPlayerNum() - 1], onTile);
+            }
+        }
+    }
+
+    @Test
+    public void testPlayOnFork_leavesOriginalAlone() {
+        Player player = controller.getCurrentPlayer();
+        int resources = player.hand.getResourceCount();
+        Controller fork = controller.fork(new Random(1));
+        Player forkedPlayer = fork.getCurrentPlayer();
+        forkedPlayer.hand.addResource(Resource.LUMBER, 1);
+        forkedPlayer.hand.addResource(Resource.BRICK, 1);
+        int road = fork.getBuildableRoads().iterator().next();
+
+        fork.setState(GameState.BUILD_ROAD);
+        assertEquals(SuccessCode.SUCCESS, fork.clickedRoad(road));
+
+        assertEquals(resources, player.hand.getResourceCount());
+        assertEquals(forkedPlayer.getNumRoads() + 1, player.getNumRoads());
+        assertTrue(controller.getBuildableRoads().contains(road));
+        assertFalse(fork.getBuildableRoads().contains(road));
+    }
+
+    @Test
+    public void testForkOfFork_playsOn() {
+        Controller fork = controller.fork(new Random(1)).fork(new Random(2));
+        fork.rollDice();
+        fork.setState(GameState.DEFAULT);
+
+        assertEquals(SuccessCode.SUCCESS, fork.endTurn());
+        assertEquals(2, fork.getCurrentPlayer().getPlayerNum());
+        assertEquals(1, controller.getCurrentPlayer().getPlayerNum());
+    }
+}
@@ -0,0 +1,162 @@
+package domain.controller;
+
+import data.GameSession;
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.devcarddeck.DevCard;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LegalMovesTest {
+
+    private static final Resource[] RESOURCES = Resource.values();
+
+    @Test
+    public void testMoveEncoding_roundTrips() {
+        int move = Move.of(MoveType.BUILD_DISTRICT, 53, DistrictType.BARN.ordinal());
+
+        assertEquals(MoveType.BUILD_DISTRICT, Move.type(move));
+        assertEquals(53, Move.target(move));
+        assertEquals(DistrictType.BARN.ordinal(), Move.option(move));
+        assertEquals(MoveType.END_TURN, Move.type(Move.of(MoveType.END_TURN)));
+    }
+
+    @Test
+    public void testFirstSettlement_listsEveryVertex() {
+        Controller controller = new GameSession(GameType.Advanced, 4).getController();
+
+        int[] moves = controller.getLegalMoves();
+
+        assertEquals(54, moves.length);
+        for (int move : moves) {
+            assertEquals(MoveType.PLACE_SETTLEMENT, Move.type(move));
+        }
+    }
+
+    @Test
+    public void testTurnStart_onlyRollsOrPlaysCards() {
+        Controller controller = new GameSession(GameType.Beginner, 4).getController();
+        controller.getCurrentPlayer().hand.addDevelopmentCard(DevCard.KNIGHT);
+        controller.setDevCardsEnabled(true);
+
+        int[] moves = controller.getLegalMoves();
+
+        assertArrayEquals(new int[]{Move.of(MoveType.ROLL_DICE), Move.of(MoveType.PLAY_KNIGHT)}, moves);
+    }
+
+    @Test
+    public void testDefaultWithoutResources_onlyEndsTurn() {
+        Controller controller = new GameSession(GameType.Beginner, 4).getController();
+        controller.getCurrentPlayer().hand.clearResources();
+        controller.setState(GameState.DEFAULT);
+
+        assertArrayEquals(new int[]{Move.of(MoveType.END_TURN)}, controller.getLegalMoves());
+    }
+
+    @Test
+    public void testEveryListedMove_succeeds() {
+        Controller controller = new GameSession(GameType.Beginner, 4).getController();
+        Player player = controller.getCurrentPlayer();
+        for (Resource resource : Resource.values()) {
+            if (resource != Resource.ANY) {
+                player.hand.addResource(resource, 5);
+            }
+        }
+        player.hand.addDevelopmentCard(DevCard.ROAD);
+        player.hand.addDevelopmentCard(DevCard.MONOPOLY);
+        player.hand.addDevelopmentCard(DevCard.PLENTY);
+        controller.setDevCardsEnabled(true);
+        controller.setState(GameState.DEFAULT);
+
+        int[] moves = controller.getLegalMoves();
+
+        assertTrue(moves.length > 1);
+        for (int move : moves) {
+            SuccessCode result = perform(controller.fork(new Random(1)), move);
+            assertTrue(result == SuccessCode.SUCCESS || result == SuccessCode.GAME_WIN, Move.toString(move) + " gave " + result);
+        }
+    }
+
+    @Test
+    public void testRobberMoves_skipRobberTileAndEmptyHands() {
+        Controller controller = new GameSession(GameType.Beginner, 4).getController();
+        for (Player player : controller.getPlayerArr()) {
+            player.hand.clearResources();
+        }
+        controller.getPlayerArr()[1].hand.addResource(Resource.ORE, 1);
+
+        int[] moves = controller.getLegalRobberMoves();
+
+        for (int move : moves) {
+            Controller fork = controller.fork(new Random(1));
+            assertEquals(SuccessCode.SUCCESS, fork.moveRobber(Move.target(move)));
+            if (Move.option(move) != Move.NO_PLAYER) {
+                assertEquals(2, Move.option(move));
+                assertEquals(SuccessCode.SUCCESS, fork.robPlayer(Move.option(move)));
+            }
+        }
+        assertEquals(18, countTiles(moves));
+    }
+
+    private static int countTiles(final int[] moves) {
+        boolean[] seen = new boolean[19];
+        int count = 0;
+        for (int move : moves) {
+            if (!seen[Move.target(move)]) {
+                seen[Move.target(move)] = true;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static SuccessCode perform(final Controller controller, final int move) {
+        int target = Move.target(move);
+        switch (Move.type(move)) {
+            case PLACE_SETTLEMENT -> {
+                controller.setState(GameState.BUILD_SETTLEMENT);
+                return controller.clickedVertex(target);
+            }
+            case PLACE_ROAD -> {
+                controller.setState(GameState.BUILD_ROAD);
+                return controller.clickedRoad(target);
+            }
+            case UPGRADE_CITY -> {
+                controller.setState(GameState.UPGRADE_SETTLEMENT);
+                return controller.clickedVertex(target);
+            }
+            case BUILD_DISTRICT -> {
+                return controller.buildDistrict(target, DistrictType.values()[Move.option(move)]);
+            }
+            case BUY_DEV_CARD -> {
+                return controller.clickedBuyDevCard();
+            }
+            case BANK_TRADE -> {
+                return controller.tradeWithBank(RESOURCES[target], RESOURCES[Move.option(move)]);
+            }
+            case PLAY_KNIGHT -> {
+                return controller.playKnightCard();
+            }
+            case PLAY_ROAD_BUILDING -> {
+                return controller.useRoadBuildingCard();
+            }
+            case PLAY_MONOPOLY -> {
+                return controller.playMonopolyCard(RESOURCES[target]);
+            }
+            case PLAY_YEAR_OF_PLENTY -> {
+                return controller.playYearOfPlenty(RESOURCES[target], RESOURCES[Move.option(move)]);
+            }
+            case END_TURN -> {
+                return controller.endTurn();
+            }
+            default -> {
+                return SuccessCode.UNDEFINED;
+            }
+        }
+    }
+}
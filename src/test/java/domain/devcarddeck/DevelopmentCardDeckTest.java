@@ -2,6 +2,15 @@ package domain.devcarddeck;
 
 import org.junit.jupiter.api.Test;
 
+import data.Memento;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DevelopmentCardDeckTest {
@@ -42,4 +51,77 @@ public class DevelopmentCardDeckTest {
         assertThrows(EmptyDevCardDeckException.class,
                 Deck1::draw);
     }
+
+    @Test
+    public void testDraw_followsDeckOrder() throws EmptyDevCardDeckException {
+        DevelopmentCardDeck deck = new DevelopmentCardDeck(new SplittableRandom(7));
+        List<DevCard> order = deck.getDeck();
+
+        for (DevCard card : order) {
+            assertEquals(card, deck.draw());
+        }
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    public void testReturnToDeck_goesToBottom() throws EmptyDevCardDeckException {
+        DevelopmentCardDeck deck = new DevelopmentCardDeck(new SplittableRandom(7));
+        List<DevCard> order = deck.getDeck();
+
+        DevCard first = deck.draw();
+        deck.returnToDeck(first);
+        deck.returnToDeck(DevCard.KNIGHT);
+
+        List<DevCard> expected = new ArrayList<>(order.subList(1, order.size()));
+        expected.add(first);
+        expected.add(DevCard.KNIGHT);
+        assertEquals(expected, deck.getDeck());
+    }
+
+    @Test
+    public void testCopy_independentOfOriginal() throws EmptyDevCardDeckException {
+        DevelopmentCardDeck deck = new DevelopmentCardDeck(new SplittableRandom(7));
+        deck.draw();
+        DevelopmentCardDeck copy = deck.copy();
+
+        assertEquals(deck.getDeck(), copy.getDeck());
+        copy.draw();
+        assertEquals(24, deck.getDeck().size());
+        assertEquals(23, copy.getDeck().size());
+    }
+
+    @Test
+    public void testRestore_bringsBackDrawnCards() throws EmptyDevCardDeckException {
+        DevelopmentCardDeck deck = new DevelopmentCardDeck(new SplittableRandom(7));
+        List<DevCard> order = deck.getDeck();
+        Memento memento = deck.createMemento();
+
+        deck.draw();
+        deck.draw();
+        assertNotSame(memento, deck.createMemento());
+
+        memento.restore();
+        assertEquals(order, deck.getDeck());
+
+        // drawing after a restore leaves the snapshot as it was
+        deck.draw();
+        memento.restore();
+        assertEquals(order, deck.getDeck());
+    }
+
+    @Test
+    public void testDecksBuiltInParallel_eachHoldWholeDeck() {
+        List<DevCard> sorted = new DevelopmentCardDeck(new SplittableRandom(1)).getDeck();
+        Collections.sort(sorted);
+        ConcurrentLinkedQueue<List<DevCard>> decks = new ConcurrentLinkedQueue<>();
+
+        IntStream.range(0, 200).parallel().forEach(i -> decks.add(new DevelopmentCardDeck(new SplittableRandom(i)).getDeck()));
+
+        for (List<DevCard> deck : decks) {
+            List<DevCard> cards = new ArrayList<>(deck);
+            Collections.sort(cards);
+            assertEquals(sorted, cards);
+        }
+        assertEquals(200, decks.size());
+    }
 }
@@ -0,0 +1,95 @@
+package domain.game;
+
+import data.GameLoader;
+import domain.bank.Resource;
+import domain.building.DistrictType;
+import domain.gameboard.GameBoard;
+import domain.graphs.GameboardGraph;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetYieldFromDieTest {
+
+    Player player1, player2;
+    GameBoard gameBoard;
+    GameboardGraph gameboardGraph;
+    Game game;
+
+    @BeforeEach
+    public void setup() {
+        player1 = new Player(1);
+        player2 = new Player(2);
+        gameBoard = new GameBoard(GameType.Beginner);
+        GameLoader.initializeGameBoard(gameBoard);
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        game = new Game(gameBoard, gameboardGraph, null, null);
+    }
+
+    private int[] yieldOf(final Resource resource, final int amount) {
+        int[] yield = new int[5];
+        yield[resource.ordinal()] = amount;
+        return yield;
+    }
+
+    @Test
+    public void testNoSettlements() {
+        assertArrayEquals(new int[5], game.getYieldFromDie(player1, 10));
+    }
+
+    @Test
+    public void testSettlement() {
+        gameboardGraph.getVertex(0).setOwner(player1);
+
+        assertArrayEquals(yieldOf(Resource.ORE, 1), game.getYieldFromDie(player1, 10));
+        assertArrayEquals(new int[5], game.getYieldFromDie(player1, 5));
+        assertArrayEquals(new int[5], game.getYieldFromDie(player2, 10));
+    }
+
+    @Test
+    public void testSettlementBuiltAfterFirstRoll() {
+        assertArrayEquals(new int[5], game.getYieldFromDie(player1, 10));
+
+        gameboardGraph.getVertex(0).setOwner(player1);
+        assertArrayEquals(yieldOf(Resource.ORE, 1), game.getYieldFromDie(player1, 10));
+    }
+
+    @Test
+    public void testCity() {
+        gameboardGraph.getVertex(0).setOwner(player1);
+        assertArrayEquals(yieldOf(Resource.ORE, 1), game.getYieldFromDie(player1, 10));
+
+        gameboardGraph.getVertex(0).upgradeToCity(player1);
+        assertArrayEquals(yieldOf(Resource.ORE, 2), game.getYieldFromDie(player1, 10));
+    }
+
+    @Test
+    public void testDistrict() throws InvalidPlacementException {
+        gameboardGraph.getVertex(0).setOwner(player1);
+        gameboardGraph.getVertex(0).buildDistrict(player1, DistrictType.MINE);
+
+        assertArrayEquals(yieldOf(Resource.ORE, 3), game.getYieldFromDie(player1, 10));
+    }
+
+    @Test
+    public void testManyTiles() {
+        gameboardGraph.getVertex(1).setOwner(player1);
+        gameboardGraph.getVertex(9).setOwner(player1);
+        gameboardGraph.getVertex(14).setOwner(player1);
+        gameboardGraph.getVertex(24).setOwner(player1);
+
+        int[] expected = new int[5];
+        expected[Resource.ORE.ordinal()] = 2;
+        expected[Resource.BRICK.ordinal()] = 2;
+        assertArrayEquals(expected, game.getYieldFromDie(player1, 10));
+    }
+
+    @Test
+    public void testDie7() {
+        gameboardGraph.getVertex(0).setOwner(player1);
+
+        assertArrayEquals(new int[5], game.getYieldFromDie(player1, 7));
+    }
+}
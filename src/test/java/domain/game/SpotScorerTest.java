@@ -0,0 +1,136 @@
+package domain.game;
+
+import data.GameLoader;
+import domain.bank.Resource;
+import domain.gameboard.GameBoard;
+import domain.gameboard.Tile;
+import domain.graphs.BoardTopology;
+import domain.graphs.GameboardGraph;
+import domain.graphs.Vertex;
+import domain.player.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpotScorerTest {
+
+    GameBoard gameBoard;
+    GameboardGraph gameboardGraph;
+    SpotScorer scorer;
+    ForkJoinPool pool;
+
+    @BeforeEach
+    public void setup() {
+        gameBoard = new GameBoard(GameType.Advanced);
+        gameboardGraph = new GameboardGraph(GameType.Advanced);
+        GameLoader.initializeGameBoard(gameBoard);
+        GameLoader.initializeGraphs(gameboardGraph);
+        scorer = new SpotScorer(gameBoard, gameboardGraph);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testScores_countPipsDiversityAndPorts() {
+        for (int vertex = 0; vertex < GameboardGraph.NUM_VERTICES; vertex++) {
+            int[] pips = new int[Resource.COUNT];
+            for (Tile tile : gameBoard.getTiles()) {
+                if (tile.getResource() == null || tile.getDieNumber() == 7) {
+                    continue;
+                }
+                for (int corner : tile.getVertexIDs()) {
+                    if (corner == vertex) {
+                        pips[tile.getResource().ordinal()] += 6 - Math.abs(7 - tile.getDieNumber());
+                    }
+                }
+            }
+
+            double expected = 0;
+            for (int amount : pips) {
+                expected += amount + (amount > 0 ? 1.5 : 0);
+            }
+            Vertex location = gameboardGraph.getVertex(vertex);
+            if (location.hasPort()) {
+                Resource port = location.getAdjacentPort().getResource();
+                expected += port == Resource.ANY ? 1.0 : 0.5 * pips[port.ordinal()];
+            }
+            assertEquals(expected, scorer.getScore(vertex), 1e-9, "vertex " + vertex);
+        }
+    }
+
+    @Test
+    public void testBestVertex_picksHighestScore() {
+        Set<Integer> all = gameboardGraph.getBuildableVertexes();
+        int best = scorer.bestVertex(all);
+
+        for (int vertex : all) {
+            assertTrue(scorer.getScore(best) >= scorer.getScore(vertex));
+        }
+        assertThrows(IllegalArgumentException.class, () -> scorer.bestVertex(Set.of()));
+    }
+
+    @Test
+    public void testBestPlacement_roadLeadsAwayFromSettlement() {
+        BoardTopology topology = gameboardGraph.getTopology();
+        SpotScorer.Placement placement = scorer.bestPlacement(gameboardGraph.getBuildableVertexes());
+
+        assertTrue(topology.getVertexToRoad().contains(placement.vertex(), placement.road()));
+        int tail = topology.getTail(placement.road(), placement.vertex());
+        double follow = 0;
+        for (int next : topology.getVertexToVertex().getRow(tail)) {
+            if (next != placement.vertex()) {
+                follow = Math.max(follow, scorer.getScore(next));
+            }
+        }
+        assertEquals(scorer.getScore(placement.vertex()) + 0.5 * follow, placement.score(), 1e-9);
+    }
+
+    @Test
+    public void testBestPlacement_parallelMatchesSequential() {
+        Player player = new Player(1);
+        Set<Integer> buildable = new HashSet<>(gameboardGraph.getBuildableVertexes());
+        for (int round = 0; round < 6; round++) {
+            SpotScorer.Placement sequential = scorer.bestPlacement(buildable);
+            assertEquals(sequential, scorer.bestPlacement(buildable, pool));
+
+            // take the spot and check the next best one as well
+            gameboardGraph.getVertex(sequential.vertex()).setOwner(player);
+            buildable = new HashSet<>(gameboardGraph.getBuildableVertexes());
+        }
+    }
+
+    @Test
+    public void testBestPlacement_nothingBuildable() {
+        assertNull(scorer.bestPlacement(Set.of()));
+        assertNull(scorer.bestPlacement(Set.of(), pool));
+    }
+
+    @Test
+    public void testRoadScore_onlyCountsBuildableSpots() {
+        BoardTopology topology = gameboardGraph.getTopology();
+        int vertex = scorer.bestVertex(gameboardGraph.getBuildableVertexes());
+        gameboardGraph.getVertex(vertex).setOwner(new Player(1));
+        Set<Integer> buildable = gameboardGraph.getBuildableVertexes();
+
+        for (int road : topology.getVertexToRoad().getRow(vertex)) {
+            int tail = topology.getTail(road, vertex);
+            double expected = 0;
+            for (int next : topology.getVertexToVertex().getRow(tail)) {
+                if (buildable.contains(next)) {
+                    expected = Math.max(expected, scorer.getScore(next));
+                }
+            }
+            assertEquals(expected, scorer.getRoadScore(road, buildable), 1e-9);
+        }
+    }
+}
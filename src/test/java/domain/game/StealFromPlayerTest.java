@@ -1,13 +1,19 @@
 package domain.game;
 
+import data.GameLoader;
+import domain.bank.Bank;
 import domain.bank.Resource;
+import domain.devcarddeck.DevelopmentCardDeck;
 import domain.gameboard.GameBoard;
+import domain.graphs.GameboardGraph;
 import domain.player.Hand;
 import domain.player.Player;
 import org.easymock.EasyMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -95,4 +101,30 @@ public class StealFromPlayerTest {
         assertEquals(robbedAfter,2);
         EasyMock.verify(gameBoard);
     }
+
+    @Test
+    void test_StealFromPlayer_copyLeavesDrawsOfOriginal() throws NotEnoughResourcesException {
+        Player[] plainPlayers = {new Player(1), new Player(2)};
+        Player[] copiedPlayers = {new Player(1), new Player(2)};
+        Game plain = seededGame();
+        Game copied = seededGame();
+        copied.copy(copiedPlayers, new Player[copiedPlayers.length], new SplittableRandom(7));
+
+        for (Resource resource : new Resource[]{Resource.LUMBER, Resource.BRICK, Resource.WOOL, Resource.GRAIN, Resource.ORE}) {
+            plainPlayers[1].hand.addResource(resource, 2);
+            copiedPlayers[1].hand.addResource(resource, 2);
+        }
+        for (int i = 0; i < 10; i++) {
+            plain.stealFromPlayer(plainPlayers[0], plainPlayers[1]);
+            copied.stealFromPlayer(copiedPlayers[0], copiedPlayers[1]);
+            assertArrayEquals(plainPlayers[0].hand.getResourceTypes(), copiedPlayers[0].hand.getResourceTypes());
+        }
+    }
+
+    private static Game seededGame() {
+        GameboardGraph graph = new GameboardGraph(GameType.Beginner, new SplittableRandom(1));
+        GameLoader.initializeGraphs(graph);
+        return new Game(new GameBoard(GameType.Beginner, new SplittableRandom(1)), graph,
+                new DevelopmentCardDeck(new SplittableRandom(1)), new Bank(), new SplittableRandom(42));
+    }
 }
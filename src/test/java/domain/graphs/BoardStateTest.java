@@ -0,0 +1,68 @@
+package domain.graphs;
+
+import data.GameLoader;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardStateTest {
+
+    GameboardGraph gameboardGraph;
+    BoardState boardState;
+    Player player1, player2;
+
+    @BeforeEach
+    public void setup() {
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(gameboardGraph);
+        boardState = gameboardGraph.getBoardState();
+
+        player1 = new Player(1);
+        player2 = new Player(2);
+    }
+
+    @Test
+    public void testViewsWriteThroughToState() {
+        gameboardGraph.getVertex(3).setOwner(player1);
+        gameboardGraph.getRoad(7).setOwner(player2);
+
+        assertSame(player1, boardState.getVertexOwner(3));
+        assertSame(player2, boardState.getRoadOwner(7));
+        assertEquals(boardState.indexOf(player1), boardState.getVertexOwnerIndex(3));
+        assertEquals(boardState.indexOf(player2), boardState.getRoadOwnerIndex(7));
+        assertNotEquals(boardState.indexOf(player1), boardState.indexOf(player2));
+    }
+
+    @Test
+    public void testUnregisteredPlayer() {
+        assertEquals(BoardState.NO_OWNER, boardState.indexOf(player1));
+        assertEquals(BoardState.NO_OWNER, boardState.indexOf(null));
+    }
+
+    @Test
+    public void testOwnedByEnemyOf() {
+        Vertex vertex = gameboardGraph.getVertex(3);
+        assertFalse(vertex.ownedByEnemyOf(player1));
+
+        vertex.setOwner(player1);
+        assertFalse(vertex.ownedByEnemyOf(player1));
+        assertTrue(vertex.ownedByEnemyOf(player2)); // player 2 was never placed on the board
+        assertTrue(vertex.ownedByEnemyOf(null));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        gameboardGraph.getVertex(3).setOwner(player1);
+        BoardState copy = boardState.copy();
+
+        gameboardGraph.getVertex(3).setOwner(player2);
+        gameboardGraph.getRoad(7).setOwner(player2);
+
+        assertSame(player1, copy.getVertexOwner(3));
+        assertNull(copy.getRoadOwner(7));
+        assertSame(player2, boardState.getVertexOwner(3));
+    }
+}
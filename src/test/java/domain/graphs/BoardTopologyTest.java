@@ -0,0 +1,130 @@
+package domain.graphs;
+
+import data.GameLoader;
+import domain.game.GameType;
+import domain.gameboard.GameBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardTopologyTest {
+
+    GameboardGraph gameboardGraph;
+    BoardTopology topology;
+
+    @BeforeEach
+    public void setup() {
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(gameboardGraph);
+
+        topology = gameboardGraph.getTopology();
+    }
+
+    @Test
+    public void testTopologySharedBetweenGraphs() {
+        GameboardGraph otherGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(otherGraph);
+
+        assertSame(topology, otherGraph.getTopology());
+    }
+
+    @Test
+    public void testTopologyNotInitialized() {
+        GameboardGraph otherGraph = new GameboardGraph(GameType.Beginner);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, otherGraph::getTopology);
+        assertEquals("Board topology uninitialized", exception.getMessage());
+    }
+
+    @Test
+    public void testTopologyCannotBeReset() {
+        assertThrows(IllegalCallerException.class, () -> gameboardGraph.initializeTopology(topology));
+    }
+
+    @Test
+    public void testVertexTablesMatchAdjacencyLists() {
+        assertEquals(GameboardGraph.NUM_VERTICES, topology.getVertexToVertex().size());
+        assertEquals(GameboardGraph.NUM_VERTICES, topology.getVertexToRoad().size());
+
+        for (int i = 0; i < GameboardGraph.NUM_VERTICES; i++) {
+            Vertex vertex = gameboardGraph.getVertex(i);
+
+            List<Vertex> adjacentVertexes = vertex.getAdjacentVertexes();
+            assertEquals(adjacentVertexes.size(), topology.getVertexToVertex().degree(i));
+            for (int j = 0; j < adjacentVertexes.size(); j++) {
+                assertEquals(adjacentVertexes.get(j).getLocationId(), topology.getVertexToVertex().getRow(i)[j]);
+            }
+
+            List<Road> adjacentRoads = vertex.getAdjacentRoads();
+            assertEquals(adjacentRoads.size(), topology.getVertexToRoad().degree(i));
+            for (int j = 0; j < adjacentRoads.size(); j++) {
+                assertEquals(adjacentRoads.get(j).getLocationId(), topology.getVertexToRoad().getRow(i)[j]);
+            }
+
+            int expectedPort = vertex.hasPort() ? vertex.getAdjacentPort().getLocationId() : BoardTopology.NO_PORT;
+            assertEquals(expectedPort, topology.getAdjacentPort(i));
+        }
+    }
+
+    @Test
+    public void testRoadTablesMatchAdjacencyLists() {
+        assertEquals(GameboardGraph.NUM_ROADS, topology.getRoadToRoad().size());
+        assertEquals(GameboardGraph.NUM_ROADS, topology.getRoadToVertex().size());
+
+        for (int i = 0; i < GameboardGraph.NUM_ROADS; i++) {
+            Road road = gameboardGraph.getRoad(i);
+
+            List<Road> adjacentRoads = road.getAdjacentRoads();
+            assertEquals(adjacentRoads.size(), topology.getRoadToRoad().degree(i));
+            for (Road neighbor: adjacentRoads) {
+                assertTrue(topology.getRoadToRoad().contains(i, neighbor.getLocationId()));
+            }
+
+            List<Vertex> adjacentVertexes = road.getAdjacentVertexes();
+            assertEquals(2, topology.getRoadToVertex().degree(i));
+            for (Vertex neighbor: adjacentVertexes) {
+                int expectedTail = road.getTail(neighbor).getLocationId();
+                assertEquals(expectedTail, topology.getTail(i, neighbor.getLocationId()));
+            }
+        }
+    }
+
+    @Test
+    public void testTileToVertex() {
+        assertEquals(19, topology.getTileToVertex().size());
+        assertArrayEquals(new int[]{0, 1, 2, 8, 9, 10}, topology.getTileToVertex().getRow(0));
+    }
+
+    @Test
+    public void testTileCorners_sharedBetweenGames() {
+        GameBoard gameBoard = new GameBoard(GameType.Beginner);
+        GameBoard otherBoard = new GameBoard(GameType.Beginner);
+        GameLoader.initializeGameBoard(gameBoard);
+        GameLoader.initializeGameBoard(otherBoard);
+
+        for (int tile = 0; tile < topology.getTileToVertex().size(); tile++) {
+            List<Integer> corners = topology.getTileCorners(tile);
+            assertEquals(corners, gameBoard.getTile(tile).getVertexIDs());
+            assertEquals(corners, otherBoard.getTile(tile).getVertexIDs());
+            assertSame(corners, topology.getTileCorners(tile));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> topology.getTileCorners(0).add(1));
+    }
+
+    @Test
+    public void testAdjacencyLists_belongToTheirOwnGraph() {
+        GameboardGraph otherGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(otherGraph);
+
+        for (Vertex neighbor : otherGraph.getVertex(10).getAdjacentVertexes()) {
+            assertSame(otherGraph.getVertex(neighbor.getLocationId()), neighbor);
+            assertNotSame(gameboardGraph.getVertex(neighbor.getLocationId()), neighbor);
+        }
+        for (Road neighbor : otherGraph.getRoad(10).getAdjacentRoads()) {
+            assertSame(otherGraph.getRoad(neighbor.getLocationId()), neighbor);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package domain.graphs;
+
+import data.GameLoader;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetBuildableLocationsTest {
+
+    GameboardGraph gameboardGraph;
+    Player player1, player2;
+
+    @BeforeEach
+    public void setup() {
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(gameboardGraph);
+
+        player1 = new Player(1);
+        player2 = new Player(2);
+    }
+
+    @Test
+    public void testEmptyBoard() {
+        assertEquals(GameboardGraph.NUM_VERTICES, gameboardGraph.getBuildableVertexes().size());
+        assertTrue(gameboardGraph.getBuildableVertexesRegularPlay(player1).isEmpty());
+        assertTrue(gameboardGraph.getBuildableRoadsRegularPlay(player1).isEmpty());
+    }
+
+    @Test
+    public void testSettlement_blocksNeighbors() {
+        gameboardGraph.getVertex(10).setOwner(player1);
+
+        Set<Integer> buildable = gameboardGraph.getBuildableVertexes();
+        assertFalse(buildable.contains(10));
+        for (Vertex neighbor : gameboardGraph.getVertex(10).getAdjacentVertexes()) {
+            assertFalse(buildable.contains(neighbor.getLocationId()));
+        }
+        assertEquals(GameboardGraph.NUM_VERTICES - 1 - gameboardGraph.getVertex(10).getAdjacentVertexes().size(), buildable.size());
+    }
+
+    @Test
+    public void testRoad_opensNeighborsForOwnerOnly() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+
+        Set<Integer> roads = gameboardGraph.getBuildableRoadsRegularPlay(player1);
+        assertFalse(roads.contains(13));
+        for (Road neighbor : gameboardGraph.getRoad(13).getAdjacentRoads()) {
+            assertTrue(roads.contains(neighbor.getLocationId()));
+        }
+        assertTrue(gameboardGraph.getBuildableRoadsRegularPlay(player2).isEmpty());
+    }
+
+    @Test
+    public void testSnapshot_isImmutable() {
+        Set<Integer> buildable = gameboardGraph.getBuildableVertexes();
+        assertThrows(UnsupportedOperationException.class, () -> buildable.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> buildable.add(0));
+
+        gameboardGraph.getVertex(0).setOwner(player1);
+        assertTrue(buildable.contains(0));
+    }
+
+    @Test
+    public void testRandomPlacementsAndRemovals_matchLocationChecks() {
+        Random random = new Random(7);
+        Player[] players = {player1, player2, new Player(3)};
+
+        for (int step = 0; step < 400; step++) {
+            Player player = random.nextInt(4) == 0 ? null : players[random.nextInt(players.length)];
+            if (random.nextBoolean()) {
+                gameboardGraph.getVertex(random.nextInt(GameboardGraph.NUM_VERTICES)).setOwner(player);
+            } else {
+                gameboardGraph.getRoad(random.nextInt(GameboardGraph.NUM_ROADS)).setOwner(player);
+            }
+
+            assertEquals(expectedVertexes(null), gameboardGraph.getBuildableVertexes());
+            for (Player p : players) {
+                assertEquals(expectedVertexes(p), gameboardGraph.getBuildableVertexesRegularPlay(p));
+                assertEquals(expectedRoads(p), gameboardGraph.getBuildableRoadsRegularPlay(p));
+            }
+        }
+    }
+
+    @Test
+    public void testCopy_startsFromCopiedOwners() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getVertex(10).setOwner(player2);
+        Player[] copies = {new Player(1), new Player(2)};
+
+        GameboardGraph copy = gameboardGraph.copy(copies);
+
+        assertEquals(gameboardGraph.getBuildableVertexes(), copy.getBuildableVertexes());
+        assertEquals(gameboardGraph.getBuildableRoadsRegularPlay(player1), copy.getBuildableRoadsRegularPlay(copies[0]));
+    }
+
+    private Set<Integer> expectedVertexes(final Player player) {
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < GameboardGraph.NUM_VERTICES; i++) {
+            if (player == null ? gameboardGraph.isVertexBuildable(i) : gameboardGraph.isVertexBuildableBy(i, player)) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    private Set<Integer> expectedRoads(final Player player) {
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < GameboardGraph.NUM_ROADS; i++) {
+            if (gameboardGraph.isRoadBuildableBy(i, player)) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+}
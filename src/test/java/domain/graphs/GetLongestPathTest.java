@@ -252,4 +252,69 @@ public class GetLongestPathTest {
         String actualMessage = exception.getMessage();
         assertEquals(expectedMessage, actualMessage);
     }
+
+    // Roads 62, 66, 67, 68, 69, 70 and 71 in a row from vertex 39, all but the first are in the high word of the mask
+    private Road ownHighRoads(final Player player) {
+        for (int roadId : new int[]{62, 66, 67, 68, 69, 70, 71}) {
+            gameboardGraph.getRoad(roadId).setOwner(player);
+        }
+        return gameboardGraph.getRoad(62);
+    }
+
+    @Test public void testGetLongestPathNoSets_highRoads() {
+        Player player = new Player(1);
+        Road start = ownHighRoads(player);
+
+        assertEquals(7, gameboardGraph.getLongestPath(start, player, gameboardGraph.getVertex(39)));
+    }
+
+    @Test public void testGetLongestPathNoSets_enemyTail() {
+        Player player = new Player(1);
+        Road start = ownHighRoads(player);
+        gameboardGraph.getVertex(50).setOwner(new Player(2));
+
+        // the road into the enemy settlement counts, nothing beyond it does
+        assertEquals(4, gameboardGraph.getLongestPath(start, player, gameboardGraph.getVertex(39)));
+    }
+
+    @Test public void testGetLongestPathNoSets_enemyOrigin() {
+        Player player = new Player(1);
+        Road start = ownHighRoads(player);
+        gameboardGraph.getVertex(39).setOwner(new Player(2));
+
+        assertEquals(-1, gameboardGraph.getLongestPath(start, player, gameboardGraph.getVertex(39)));
+    }
+
+    @Test public void testSearch_preVisitedMask() {
+        Player player = new Player(1);
+        ownHighRoads(player);
+        LongestPathSearch search = new LongestPathSearch(gameboardGraph);
+
+        // road 69 is already on the path, so the search stops at road 68 and counts 69 once
+        assertEquals(5, search.search(62, player, 39, 0, 1L << (69 - Long.SIZE)));
+        // a visited road that is not next to the path only adds its own length
+        assertEquals(8, search.search(62, player, 39, 1L << 13, 0));
+        // the masks are not kept between searches
+        assertEquals(7, search.search(62, player, 39, 0, 0));
+    }
+
+    @Test public void testGetLongestPath_visitedRoadsAndPathsOnlyRead() {
+        Player player = new Player(1);
+        Road start = ownHighRoads(player);
+        HashSet<Road> visitedRoads = new HashSet<>();
+        visitedRoads.add(gameboardGraph.getRoad(69));
+        HashSet<HashSet<Road>> paths = new HashSet<>();
+
+        assertEquals(5, gameboardGraph.getLongestPath(start, player, paths, visitedRoads, gameboardGraph.getVertex(39)));
+        assertEquals(0, paths.size());
+        assertEquals(1, visitedRoads.size());
+
+        // a longer path collected before wins
+        HashSet<Road> longPath = new HashSet<>();
+        for (int roadId = 0; roadId < 10; roadId++) {
+            longPath.add(gameboardGraph.getRoad(roadId));
+        }
+        paths.add(longPath);
+        assertEquals(10, gameboardGraph.getLongestPath(start, player, paths, visitedRoads, gameboardGraph.getVertex(39)));
+    }
 }
@@ -0,0 +1,125 @@
+package domain.graphs;
+
+import data.GameLoader;
+import data.Memento;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetLongestRoadLengthTest {
+
+    GameboardGraph gameboardGraph;
+    Player player1, player2;
+
+    @BeforeEach
+    public void setup() {
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(gameboardGraph);
+
+        player1 = new Player(1);
+        player2 = new Player(2);
+    }
+
+    @Test
+    public void testNoRoads() {
+        assertEquals(0, gameboardGraph.getLongestRoadLength(player1));
+    }
+
+    @Test
+    public void testRoadAddedAfterQuery() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        assertEquals(2, gameboardGraph.getLongestRoadLength(player1));
+
+        // extending the road afterwards has to be picked up
+        gameboardGraph.getRoad(28).setOwner(player1);
+        gameboardGraph.getRoad(29).setOwner(player1);
+        gameboardGraph.getRoad(30).setOwner(player1);
+        assertEquals(5, gameboardGraph.getLongestRoadLength(player1));
+        assertEquals(0, gameboardGraph.getLongestRoadLength(player2));
+    }
+
+    @Test
+    public void testSeparateRoadsJoined() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        gameboardGraph.getRoad(29).setOwner(player1);
+        gameboardGraph.getRoad(30).setOwner(player1);
+        assertEquals(2, gameboardGraph.getLongestRoadLength(player1));
+
+        // road 28 connects both pieces
+        gameboardGraph.getRoad(28).setOwner(player1);
+        assertEquals(5, gameboardGraph.getLongestRoadLength(player1));
+    }
+
+    @Test
+    public void testEnemySettlementSplitsRoad() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        gameboardGraph.getRoad(28).setOwner(player1);
+        gameboardGraph.getRoad(29).setOwner(player1);
+        gameboardGraph.getRoad(21).setOwner(player1);
+        gameboardGraph.getRoad(15).setOwner(player1);
+        gameboardGraph.getRoad(14).setOwner(player1);
+        gameboardGraph.getRoad(30).setOwner(player1);
+        gameboardGraph.getRoad(37).setOwner(player1);
+        gameboardGraph.getRoad(47).setOwner(player1);
+        assertEquals(9, gameboardGraph.getLongestRoadLength(player1));
+
+        gameboardGraph.getVertex(23).setOwner(player2);
+        assertEquals(5, gameboardGraph.getLongestRoadLength(player1));
+    }
+
+    @Test
+    public void testFriendlySettlementDoesNotSplitRoad() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        gameboardGraph.getRoad(28).setOwner(player1);
+        gameboardGraph.getRoad(29).setOwner(player1);
+        gameboardGraph.getRoad(21).setOwner(player1);
+        gameboardGraph.getRoad(15).setOwner(player1);
+        gameboardGraph.getRoad(14).setOwner(player1);
+        gameboardGraph.getRoad(30).setOwner(player1);
+        gameboardGraph.getRoad(37).setOwner(player1);
+        gameboardGraph.getRoad(47).setOwner(player1);
+
+        gameboardGraph.getVertex(23).setOwner(player1);
+        assertEquals(9, gameboardGraph.getLongestRoadLength(player1));
+    }
+
+    @Test
+    public void testRestoreRejoinsSplitRoad() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        gameboardGraph.getRoad(28).setOwner(player1);
+        gameboardGraph.getRoad(29).setOwner(player1);
+        gameboardGraph.getRoad(21).setOwner(player1);
+        gameboardGraph.getRoad(15).setOwner(player1);
+        gameboardGraph.getRoad(14).setOwner(player1);
+        gameboardGraph.getRoad(30).setOwner(player1);
+        gameboardGraph.getRoad(37).setOwner(player1);
+        gameboardGraph.getRoad(47).setOwner(player1);
+        Memento beforeSplit = gameboardGraph.createMemento();
+
+        gameboardGraph.getVertex(23).setOwner(player2);
+        assertEquals(5, gameboardGraph.getLongestRoadLength(player1));
+
+        beforeSplit.restore();
+        assertEquals(9, gameboardGraph.getLongestRoadLength(player1));
+    }
+
+    @Test
+    public void testRoadTakenOverByOtherPlayer() {
+        gameboardGraph.getRoad(13).setOwner(player1);
+        gameboardGraph.getRoad(20).setOwner(player1);
+        gameboardGraph.getRoad(28).setOwner(player1);
+        assertEquals(3, gameboardGraph.getLongestRoadLength(player1));
+
+        gameboardGraph.getRoad(20).setOwner(player2);
+        assertEquals(1, gameboardGraph.getLongestRoadLength(player1));
+        assertEquals(1, gameboardGraph.getLongestRoadLength(player2));
+    }
+}
@@ -0,0 +1,77 @@
+package domain.graphs;
+
+import data.GameLoader;
+import domain.game.GameType;
+import domain.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetTileOccupantsTest {
+
+    GameboardGraph gameboardGraph;
+    BoardTopology.AdjacencyTable tileToVertex;
+    Player player1, player2;
+
+    @BeforeEach
+    public void setup() {
+        gameboardGraph = new GameboardGraph(GameType.Beginner);
+        GameLoader.initializeGraphs(gameboardGraph);
+        tileToVertex = gameboardGraph.getTopology().getTileToVertex();
+
+        player1 = new Player(1);
+        player2 = new Player(2);
+    }
+
+    @Test
+    public void testVertexToTile_invertsTileToVertex() {
+        BoardTopology.AdjacencyTable vertexToTile = gameboardGraph.getTopology().getVertexToTile();
+
+        assertEquals(GameboardGraph.NUM_VERTICES, vertexToTile.size());
+        for (int tile = 0; tile < tileToVertex.size(); tile++) {
+            for (int vertex : tileToVertex.getRow(tile)) {
+                assertTrue(vertexToTile.contains(vertex, tile));
+            }
+        }
+    }
+
+    @Test
+    public void testSettlement_marksEveryTileItTouches() {
+        gameboardGraph.getVertex(10).setOwner(player2);
+
+        for (int tile = 0; tile < tileToVertex.size(); tile++) {
+            long expected = tileToVertex.contains(tile, 10) ? 1L << 2 : 0;
+            assertEquals(expected, gameboardGraph.getTileOccupants(tile));
+        }
+        assertTrue(gameboardGraph.getTilesWithEnemiesOf(player2).isEmpty());
+        assertFalse(gameboardGraph.getTilesWithEnemiesOf(player1).isEmpty());
+    }
+
+    @Test
+    public void testRandomPlacementsAndRemovals_matchVertexOwners() {
+        Random random = new Random(3);
+        Player[] players = {player1, player2, new Player(3)};
+
+        for (int step = 0; step < 200; step++) {
+            Player player = random.nextInt(3) == 0 ? null : players[random.nextInt(players.length)];
+            gameboardGraph.getVertex(random.nextInt(GameboardGraph.NUM_VERTICES)).setOwner(player);
+
+            for (Player p : players) {
+                Set<Integer> expected = new HashSet<>();
+                for (int tile = 0; tile < tileToVertex.size(); tile++) {
+                    for (int vertex : tileToVertex.getRow(tile)) {
+                        if (gameboardGraph.getVertex(vertex).ownedByEnemyOf(p)) {
+                            expected.add(tile);
+                        }
+                    }
+                }
+                assertEquals(expected, gameboardGraph.getTilesWithEnemiesOf(p));
+            }
+        }
+    }
+}
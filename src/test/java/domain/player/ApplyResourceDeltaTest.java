@@ -0,0 +1,93 @@
+package domain.player;
+
+import domain.bank.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static domain.bank.Resource.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApplyResourceDeltaTest {
+
+    Hand hand;
+
+    @BeforeEach
+    public void setup() {
+        hand = new Hand();
+    }
+
+    private int[] delta(final int brick, final int lumber, final int ore, final int grain, final int wool) {
+        return new int[]{brick, lumber, ore, grain, wool};
+    }
+
+    @Test
+    public void testApplyOrRollback_add_returnTrue() {
+        boolean success = hand.applyOrRollback(delta(1, 2, 0, 0, 3));
+
+        assertTrue(success);
+        assertEquals(1, hand.getResourceCount(BRICK));
+        assertEquals(2, hand.getResourceCount(LUMBER));
+        assertEquals(3, hand.getResourceCount(WOOL));
+        assertEquals(6, hand.getResourceCount());
+    }
+
+    @Test
+    public void testApplyOrRollback_addAndRemove_returnTrue() {
+        hand.addResource(ORE, 3);
+
+        boolean success = hand.applyOrRollback(delta(1, 0, -3, 0, 0));
+
+        assertTrue(success);
+        assertArrayEquals(delta(1, 0, 0, 0, 0), hand.getResourceAmounts());
+    }
+
+    @Test
+    public void testApplyOrRollback_notEnough_handUnchanged() {
+        hand.addResource(ORE, 2);
+
+        boolean success = hand.applyOrRollback(delta(1, 0, -3, 0, 0));
+
+        assertFalse(success);
+        assertArrayEquals(delta(0, 0, 2, 0, 0), hand.getResourceAmounts());
+    }
+
+    @Test
+    public void testApplyOrRollback_overflow_handUnchanged() {
+        hand.addResource(GRAIN, 19);
+
+        boolean success = hand.applyOrRollback(delta(0, 1, 0, 1, 0));
+
+        assertFalse(success);
+        assertArrayEquals(delta(0, 0, 0, 19, 0), hand.getResourceAmounts());
+    }
+
+    @Test
+    public void testCanApply_doesNotChangeHand() {
+        assertTrue(hand.canApply(delta(1, 1, 1, 1, 1)));
+        assertFalse(hand.canApply(delta(0, 0, 0, 0, -1)));
+        assertEquals(0, hand.getResourceCount());
+    }
+
+    @Test
+    public void testApply_notEnough_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> hand.apply(delta(-1, 0, 0, 0, 0)));
+        assertEquals(0, hand.getResourceCount());
+    }
+
+    @Test
+    public void testApply_wrongLength_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> hand.apply(new int[Resource.COUNT + 1]));
+    }
+
+    @Test
+    public void testRemoveResources_duplicates_allOrNothing() {
+        hand.addResource(ORE, 2);
+        hand.addResource(GRAIN, 2);
+
+        assertFalse(hand.removeResources(new Resource[]{ORE, ORE, ORE, GRAIN, GRAIN}));
+        assertArrayEquals(delta(0, 0, 2, 2, 0), hand.getResourceAmounts());
+
+        assertTrue(hand.removeResources(new Resource[]{ORE, ORE, GRAIN}));
+        assertArrayEquals(delta(0, 0, 0, 1, 0), hand.getResourceAmounts());
+    }
+}
@@ -0,0 +1,49 @@
+package domain.sim;
+
+import domain.game.GameType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulatorTest {
+
+    @Test
+    public void testBuilderGame_endsWithWinnerOrTurnLimit() {
+        PlayerPolicy builder = new BuilderPolicy();
+        GameResult result = new Simulator(GameType.Advanced, builder, builder, builder, builder).playGame(1);
+
+        assertTrue(result.turns() > 0);
+        if (result.isFinished()) {
+            assertTrue(result.winner() >= 1 && result.winner() <= 4);
+        }
+    }
+
+    @Test
+    public void testRandomGame_playsWithoutErrors() {
+        PlayerPolicy random = new RandomPolicy();
+        GameResult result = new Simulator(GameType.Beginner, random, random, random).playGame(2);
+
+        assertTrue(result.turns() > 0);
+    }
+
+    @Test
+    public void testParallelBatch_reportsEveryGame() {
+        PlayerPolicy builder = new BuilderPolicy();
+        SimulationReport report = new Simulator(GameType.Advanced, builder, builder, builder, builder).run(8, 3, 4);
+
+        assertEquals(8, report.getGames());
+        assertEquals(4, report.getWinsBySeat().length);
+        assertEquals(8, Arrays.stream(report.getWinsBySeat()).sum() + report.getUnfinishedGames());
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    public void testSameSeed_replaysGame() {
+        PlayerPolicy random = new RandomPolicy();
+        Simulator simulator = new Simulator(GameType.Advanced, random, random, random, random);
+
+        assertEquals(simulator.playGame(5), simulator.playGame(5));
+    }
+}